@@ -0,0 +1,80 @@
+package com.krieger.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.krieger.author.models.CustomPageable;
+import com.krieger.author.models.CustomSort;
+import com.krieger.document.mapper.DocumentMapper;
+import com.krieger.document.models.AllDocumentsResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * To compare encoding and decoding of a documents page in JSON, CBOR and Smile, configured like the message
+ * converters of the application. Payload size of every format is printed on setup.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BinaryFormatBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    private ObjectMapper objectMapper;
+    private AllDocumentsResponse page;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp(GraphShape shape) throws IOException {
+        var builder = Jackson2ObjectMapperBuilder.json().modulesToInstall(new BlackbirdModule());
+        objectMapper = switch (format) {
+            case "cbor" -> builder.factory(new CBORFactory()).build();
+            case "smile" -> builder.factory(new SmileFactory()).build();
+            default -> builder.build();
+        };
+        var mapper = new DocumentMapper();
+        var content = shape.graph.documents().stream().map(mapper::toDocumentResponseModel).toList();
+        var sort = new CustomSort("id", "ASC");
+        page = new AllDocumentsResponse(
+                content,
+                new CustomPageable(sort, 0, content.size(), 0),
+                content.size(),
+                1,
+                sort,
+                content.size(),
+                content.size(),
+                0
+        );
+        encoded = objectMapper.writeValueAsBytes(page);
+        System.out.printf("%n%s payload %d bytes%n", format, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public AllDocumentsResponse decode() throws IOException {
+        return objectMapper.readValue(encoded, AllDocumentsResponse.class);
+    }
+}
@@ -0,0 +1,32 @@
+package com.krieger.benchmark;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Shape of the synthetic graph every benchmark runs on, override with e.g. -p documents=1000.
+ */
+@State(Scope.Benchmark)
+public class GraphShape {
+
+    @Param({"10"})
+    public int authors;
+
+    @Param({"10", "100"})
+    public int documents;
+
+    @Param({"0", "5"})
+    public int references;
+
+    @Param({"64", "4096"})
+    public int bodySize;
+
+    public SyntheticGraph graph;
+
+    @Setup
+    public void generate() {
+        graph = SyntheticGraph.generate(authors, documents, references, bodySize, 42L);
+    }
+}
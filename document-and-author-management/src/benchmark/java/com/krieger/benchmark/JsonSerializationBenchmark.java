@@ -0,0 +1,94 @@
+package com.krieger.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.krieger.author.models.CustomPageable;
+import com.krieger.author.models.CustomSort;
+import com.krieger.document.mapper.DocumentMapper;
+import com.krieger.document.models.AllDocumentsResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * To measure JSON serialization of a documents page, one operation serializes all documents of the graph
+ * as a single page. Compares reflective property access with the generated accessors of Blackbird, and the cost
+ * of gzip on top, payload sizes with and without gzip are printed on setup.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    // "blackbird" is configured the same way as the object mapper of the application.
+    @Param({"reflection", "blackbird"})
+    public String accessors;
+
+    private ObjectMapper objectMapper;
+    private AllDocumentsResponse page;
+
+    @Setup
+    public void setUp(GraphShape shape) throws IOException {
+        var builder = Jackson2ObjectMapperBuilder.json();
+        if (accessors.equals("blackbird")) {
+            builder.modulesToInstall(new BlackbirdModule());
+        }
+        objectMapper = builder.build();
+        var mapper = new DocumentMapper();
+        var content = shape.graph.documents().stream().map(mapper::toDocumentResponseModel).toList();
+        var sort = new CustomSort("id", "ASC");
+        page = new AllDocumentsResponse(
+                content,
+                new CustomPageable(sort, 0, content.size(), 0),
+                content.size(),
+                1,
+                sort,
+                content.size(),
+                content.size(),
+                0
+        );
+        var json = objectMapper.writeValueAsBytes(page);
+        System.out.printf("%npayload %d bytes, %d bytes gzipped%n", json.length, gzip(json).length);
+    }
+
+    @Benchmark
+    public byte[] allDocumentsResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    // serialization and compression as done for a client accepting gzip.
+    @Benchmark
+    public byte[] allDocumentsResponseGzipped() throws IOException {
+        var out = new ByteArrayOutputStream();
+        try (var gzip = new GZIPOutputStream(out)) {
+            objectMapper.writeValue(gzip, page);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        var out = new ByteArrayOutputStream();
+        try (var gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,48 @@
+package com.krieger.benchmark;
+
+import com.krieger.author.entity.Author;
+import com.krieger.author.mapper.AuthorMapper;
+import com.krieger.document.entity.Document;
+import com.krieger.document.mapper.DocumentMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * To measure mapping of the whole graph from entities to response models, one operation maps every document
+ * (or every author) of the graph.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    private final DocumentMapper documentMapper = new DocumentMapper();
+    private final AuthorMapper authorMapper = new AuthorMapper();
+
+    @Benchmark
+    public void documentToResponseModel(GraphShape shape, Blackhole blackhole) {
+        for (Document document : shape.graph.documents()) {
+            blackhole.consume(documentMapper.toDocumentResponseModel(document));
+        }
+    }
+
+    @Benchmark
+    public void authorToResponseModel(GraphShape shape, Blackhole blackhole) {
+        for (Author author : shape.graph.authors()) {
+            blackhole.consume(authorMapper.toAuthorResponseModel(author));
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.krieger.benchmark;
+
+import com.krieger.author.entity.Author;
+import com.krieger.document.entity.Document;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * To generate an in-memory graph of authors and documents of the given shape, so that benchmarks run offline
+ * without a database. Same shape and seed always generate the same graph.
+ */
+public final class SyntheticGraph {
+
+    // authors written by every document, at most.
+    private static final int AUTHORS_PER_DOCUMENT = 3;
+
+    private final List<Author> authors;
+    private final List<Document> documents;
+    // documents referencing a document, keyed by ID of the referenced document.
+    private final Map<Long, List<Document>> referencing;
+
+    private SyntheticGraph(List<Author> authors, List<Document> documents, Map<Long, List<Document>> referencing) {
+        this.authors = authors;
+        this.documents = documents;
+        this.referencing = referencing;
+    }
+
+    /**
+     * To generate the graph.
+     *
+     * @param authorCount number of authors, documents are spread over them round-robin.
+     * @param documentCount number of documents.
+     * @param referencesPerDocument number of distinct documents referenced by every document.
+     * @param bodySize length of every document body in characters.
+     * @param seed of the random references.
+     * @return generated graph.
+     */
+    public static SyntheticGraph generate(int authorCount, int documentCount, int referencesPerDocument, int bodySize, long seed) {
+        var random = new Random(seed);
+        List<Author> authors = new ArrayList<>(authorCount);
+        for (long id = 1; id <= authorCount; id++) {
+            authors.add(Author.builder()
+                    .id(id)
+                    .firstName("First name " + id)
+                    .lastName("Last name " + id)
+                    .documents(new HashSet<>())
+                    .build());
+        }
+        var body = "x".repeat(bodySize);
+        List<Document> documents = new ArrayList<>(documentCount);
+        for (long id = 1; id <= documentCount; id++) {
+            var document = Document.builder()
+                    .id(id)
+                    .title("Document " + id)
+                    .body(body)
+                    .authors(new HashSet<>())
+                    .references(new HashSet<>())
+                    .build();
+            for (int i = 0; i < Math.min(AUTHORS_PER_DOCUMENT, authorCount); i++) {
+                var author = authors.get((int) ((id + i) % authorCount));
+                document.getAuthors().add(author);
+                author.getDocuments().add(document);
+            }
+            documents.add(document);
+        }
+        Map<Long, List<Document>> referencing = new HashMap<>();
+        var maxReferences = Math.min(referencesPerDocument, documentCount - 1);
+        for (var document : documents) {
+            var referenceIds = new HashSet<Integer>();
+            while (referenceIds.size() < maxReferences) {
+                var index = random.nextInt(documentCount);
+                if (index != document.getId() - 1 && referenceIds.add(index)) {
+                    var reference = documents.get(index);
+                    document.getReferences().add(reference);
+                    referencing.computeIfAbsent(reference.getId(), id -> new ArrayList<>()).add(document);
+                }
+            }
+        }
+        return new SyntheticGraph(authors, documents, referencing);
+    }
+
+    public List<Author> authors() {
+        return authors;
+    }
+
+    public List<Document> documents() {
+        return documents;
+    }
+
+    /**
+     * To find the documents referencing a document, like DocumentRepository.findDocumentsReferencing does.
+     *
+     * @param documentId ID of the referenced document.
+     * @return referencing documents.
+     */
+    public List<Document> documentsReferencing(Long documentId) {
+        return referencing.getOrDefault(documentId, List.of());
+    }
+}
@@ -0,0 +1,58 @@
+package com.krieger.document.service;
+
+import com.krieger.benchmark.GraphShape;
+import com.krieger.document.mapper.DocumentMapper;
+import com.krieger.document.repository.DocumentRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cache.support.NoOpCacheManager;
+
+import java.lang.reflect.Proxy;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * To measure collecting the transitive references of a document, with an in-memory repository so that only
+ * the traversal itself is measured.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReferenceTraversalBenchmark {
+
+    private DocumentServiceImpl documentService;
+
+    @Setup
+    public void setUp(GraphShape shape) {
+        var repository = (DocumentRepository) Proxy.newProxyInstance(
+                DocumentRepository.class.getClassLoader(),
+                new Class<?>[]{DocumentRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findDocumentsReferencing")) {
+                        return shape.graph.documentsReferencing((Long) args[0]);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                }
+        );
+        documentService = new DocumentServiceImpl(repository, new DocumentMapper(), null, null, new NoOpCacheManager());
+    }
+
+    @Benchmark
+    public Set<Long> collectDocumentReferences() {
+        Set<Long> documentIds = new HashSet<>();
+        documentService.collectDocumentReferences(1L, documentIds);
+        return documentIds;
+    }
+}
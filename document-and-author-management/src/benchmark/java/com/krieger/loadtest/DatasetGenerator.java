@@ -0,0 +1,255 @@
+package com.krieger.loadtest;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * To generate a reproducible synthetic dataset and bulk-load it with COPY, or write it as CSV files for psql \copy.
+ * Authors are picked with power-law productivity and references with power-law popularity, so that a few authors
+ * write most documents and a few documents get most citations. Same options always generate the same data.
+ *
+ * <pre>
+ * mvn -Pbenchmark -DskipTests test-compile exec:exec@generate-dataset \
+ *     -Ddataset.args="--authors=100000 --documents=2000000 --jdbc-url=jdbc:postgresql://localhost:5434/document_and_author_db"
+ * </pre>
+ */
+public final class DatasetGenerator {
+
+    private static final String[] WORDS = {
+            "java", "document", "author", "reference", "performance", "latency", "throughput", "memory",
+            "concurrency", "stream", "index", "query", "cache", "kafka", "event", "transaction"
+    };
+    private static final int MAX_AUTHORS_PER_DOCUMENT = 5;
+    // COPY data is sent in chunks of about this many characters.
+    private static final int CHUNK_SIZE = 1 << 20;
+
+    private final int authors;
+    private final int documents;
+    private final double referencesMean;
+    private final int bodyMedian;
+    private final int bodyMax;
+    private final long seed;
+    private final ZipfSampler authorSampler;
+    private final ZipfSampler citationSampler;
+    // generated IDs start after these, so that existing data is kept.
+    private long authorIdOffset;
+    private long documentIdOffset;
+
+    DatasetGenerator(Options options) {
+        authors = options.integer("authors", 10_000);
+        documents = options.integer("documents", 100_000);
+        referencesMean = options.decimal("references-mean", 3);
+        bodyMedian = options.integer("body-median", 2_000);
+        bodyMax = options.integer("body-max", 64_000);
+        seed = options.longValue("seed", 42);
+        authorSampler = new ZipfSampler(authors, options.decimal("author-exponent", 1.1));
+        citationSampler = new ZipfSampler(documents, options.decimal("citation-exponent", 1.2));
+    }
+
+    public static void main(String[] args) throws Exception {
+        var options = new Options(args);
+        var generator = new DatasetGenerator(options);
+        var outputDir = options.string("output-dir", null);
+        long started = System.nanoTime();
+        if (outputDir != null) {
+            generator.writeCsv(Path.of(outputDir));
+        } else {
+            try (var connection = DriverManager.getConnection(
+                    options.string("jdbc-url", "jdbc:postgresql://localhost:5434/document_and_author_db"),
+                    options.string("user", "krieger"),
+                    options.string("password", "krieger")
+            )) {
+                generator.load(connection);
+            }
+        }
+        System.out.printf("Generated %d authors and %d documents in %d s.%n",
+                generator.authors, generator.documents, (System.nanoTime() - started) / 1_000_000_000);
+    }
+
+    /**
+     * To write authors.csv, documents.csv, document_authors.csv and document_references.csv, IDs start at 1 so the
+     * files are meant for an empty database.
+     */
+    void writeCsv(Path outputDir) throws IOException {
+        Files.createDirectories(outputDir);
+        for (var table : Table.values()) {
+            try (var writer = Files.newBufferedWriter(outputDir.resolve(table.name + ".csv"), StandardCharsets.UTF_8)) {
+                var rows = new StringBuilder();
+                generate(table, rows, () -> {
+                    writer.append(rows);
+                    rows.setLength(0);
+                });
+                writer.append(rows);
+            }
+        }
+    }
+
+    /**
+     * To COPY all tables in one transaction, then move the ID sequences past the generated IDs.
+     */
+    void load(Connection connection) throws SQLException, IOException {
+        connection.setAutoCommit(false);
+        try (var statement = connection.createStatement()) {
+            authorIdOffset = maxId(statement, "authors");
+            documentIdOffset = maxId(statement, "documents");
+        }
+        var copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+        for (var table : Table.values()) {
+            CopyIn copyIn = copyManager.copyIn("COPY " + table.name + " (" + table.columns + ") FROM STDIN WITH (FORMAT csv)");
+            try {
+                var rows = new StringBuilder();
+                generate(table, rows, () -> send(copyIn, rows));
+                send(copyIn, rows);
+                System.out.printf("Copied %d rows into %s.%n", copyIn.endCopy(), table.name);
+            } finally {
+                if (copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+            }
+        }
+        try (var statement = connection.createStatement()) {
+            statement.execute("SELECT setval(pg_get_serial_sequence('authors', 'id'), (SELECT MAX(id) FROM authors))");
+            statement.execute("SELECT setval(pg_get_serial_sequence('documents', 'id'), (SELECT MAX(id) FROM documents))");
+        }
+        connection.commit();
+        try (var statement = connection.createStatement()) {
+            connection.setAutoCommit(true);
+            statement.execute("ANALYZE authors, documents, document_authors, document_references");
+        }
+    }
+
+    private static long maxId(java.sql.Statement statement, String table) throws SQLException {
+        try (var resultSet = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + table)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private static void send(CopyIn copyIn, StringBuilder rows) throws IOException {
+        try {
+            var bytes = rows.toString().getBytes(StandardCharsets.UTF_8);
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+            rows.setLength(0);
+        } catch (SQLException ex) {
+            throw new IOException(ex);
+        }
+    }
+
+    private void generate(Table table, StringBuilder rows, Flush flush) throws IOException {
+        switch (table) {
+            case AUTHORS -> {
+                for (long id = 1; id <= authors; id++) {
+                    rows.append(authorIdOffset + id).append(",First ").append(id).append(",Last ").append(id).append('\n');
+                    flushIfFull(rows, flush);
+                }
+            }
+            case DOCUMENTS -> {
+                for (long id = 1; id <= documents; id++) {
+                    var random = randomOf(id);
+                    rows.append(documentIdOffset + id).append(",Document ").append(id).append(',');
+                    appendBody(rows, random);
+                    rows.append('\n');
+                    flushIfFull(rows, flush);
+                }
+            }
+            case DOCUMENT_AUTHORS -> {
+                for (long id = 1; id <= documents; id++) {
+                    for (long authorId : authorsOf(randomOf(id))) {
+                        rows.append(documentIdOffset + id).append(',').append(authorIdOffset + authorId).append('\n');
+                    }
+                    flushIfFull(rows, flush);
+                }
+            }
+            case DOCUMENT_REFERENCES -> {
+                for (long id = 1; id <= documents; id++) {
+                    var random = randomOf(id);
+                    authorsOf(random); // same draws as DOCUMENT_AUTHORS, so that references do not depend on the table.
+                    for (long referenceId : referencesOf(id, random)) {
+                        rows.append(documentIdOffset + id).append(',').append(documentIdOffset + referenceId).append('\n');
+                    }
+                    flushIfFull(rows, flush);
+                }
+            }
+        }
+    }
+
+    private static void flushIfFull(StringBuilder rows, Flush flush) throws IOException {
+        if (rows.length() >= CHUNK_SIZE) {
+            flush.run();
+        }
+    }
+
+    // every document has its own random, so that all tables agree on the document without keeping it in memory.
+    private SplittableRandom randomOf(long documentId) {
+        return new SplittableRandom(seed * 0x9E3779B97F4A7C15L + documentId);
+    }
+
+    private Set<Long> authorsOf(SplittableRandom random) {
+        // mostly one author, rarely up to five.
+        int count = 1;
+        while (count < Math.min(MAX_AUTHORS_PER_DOCUMENT, authors) && random.nextDouble() < 0.35) {
+            count++;
+        }
+        Set<Long> authorIds = new LinkedHashSet<>();
+        while (authorIds.size() < count) {
+            authorIds.add(authorSampler.sample(random));
+        }
+        return authorIds;
+    }
+
+    private Set<Long> referencesOf(long documentId, SplittableRandom random) {
+        // documents cite older documents only, older documents being ranked first by popularity.
+        int count = (int) Math.min(documentId - 1, Math.round(-referencesMean * Math.log(1 - random.nextDouble())));
+        Set<Long> referenceIds = new LinkedHashSet<>();
+        for (int attempt = 0; referenceIds.size() < count && attempt < count * 10; attempt++) {
+            var referenceId = citationSampler.sample(random);
+            if (referenceId < documentId) {
+                referenceIds.add(referenceId);
+            }
+        }
+        return referenceIds;
+    }
+
+    private void appendBody(StringBuilder rows, SplittableRandom random) {
+        // log-normal length around the median, bounded by body-max.
+        var length = (int) Math.min(bodyMax, Math.max(1, bodyMedian * Math.exp(random.nextGaussian())));
+        rows.append('"');
+        int start = rows.length();
+        while (rows.length() - start < length) {
+            rows.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        rows.setLength(start + length);
+        rows.append('"');
+    }
+
+    private enum Table {
+        AUTHORS("authors", "id, first_name, last_name"),
+        DOCUMENTS("documents", "id, title, body"),
+        DOCUMENT_AUTHORS("document_authors", "document_id, author_id"),
+        DOCUMENT_REFERENCES("document_references", "document_id, reference_id");
+
+        private final String name;
+        private final String columns;
+
+        Table(String name, String columns) {
+            this.name = name;
+            this.columns = columns;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Flush {
+        void run() throws IOException;
+    }
+}
@@ -0,0 +1,234 @@
+package com.krieger.loadtest;
+
+import com.krieger.DocumentAndAuthorManagementApplication;
+import com.krieger.aop.LatencyHistogram;
+import com.krieger.author.models.AuthorResponse;
+import com.krieger.eventbus.AuthorEventHandler;
+import com.krieger.jdbc.SqlStatistics;
+import com.krieger.jdbc.SqlStatisticsRecorder;
+import com.krieger.kafka.KafkaProducer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * To measure how many author-deletion events per second the kafka consumer sustains, end to end from
+ * KafkaProducer to the completed DocumentService.updateDocumentReferencesAndDeleteAuthor, and how producer
+ * settings affect the producer. Runs the application against the embedded kafka broker and a local database,
+ * a throwaway Postgres container unless jdbc-url is given.
+ *
+ * <pre>
+ * mvn -Pbenchmark -DskipTests test-compile exec:exec@kafka-benchmark \
+ *     -Dkafka.args="--events=20000 --partitions=6 --concurrency=6 --linger-ms=5 --compression=lz4"
+ * </pre>
+ * Run it once more with --virtual-threads=true to compare listener and handler threads on virtual threads against
+ * platform threads.
+ */
+public final class KafkaBenchmark {
+
+    private static final String TOPIC = "document-and-author-benchmark-topic";
+
+    // send time of every event in nanoseconds, keyed by author ID.
+    private static final Map<Long, Long> SENT_AT = new ConcurrentHashMap<>();
+    private static final AtomicLong LAST_COMPLETED_AT = new AtomicLong();
+    private static volatile LatencyHistogram endToEnd = new LatencyHistogram();
+    private static volatile CountDownLatch completed = new CountDownLatch(0);
+
+    public static void main(String[] args) throws Exception {
+        var options = new Options(args);
+        int events = options.integer("events", 10_000);
+        int warmupEvents = options.integer("warmup-events", 1_000);
+        int partitions = options.integer("partitions", 6);
+        int documentsPerAuthor = options.integer("documents-per-author", 2);
+        var timeout = options.duration("timeout", Duration.ofMinutes(10));
+
+        var broker = new EmbeddedKafkaKraftBroker(1, partitions, TOPIC);
+        broker.afterPropertiesSet();
+        PostgreSQLContainer<?> postgres = null;
+        if (options.string("jdbc-url", null) == null) {
+            postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:latest"));
+            postgres.start();
+        }
+        try (var context = start(options, broker, postgres)) {
+            // events sent before partitions are assigned would measure the consumer group join.
+            context.getBean(KafkaListenerEndpointRegistry.class).getListenerContainers().stream()
+                    .filter(container -> Arrays.asList(container.getContainerProperties().getTopics()).contains(TOPIC))
+                    .forEach(container -> ContainerTestUtils.waitForAssignment(container, partitions));
+            var authorIds = seed(context.getBean(JdbcTemplate.class), warmupEvents + events, documentsPerAuthor);
+            var statements = new LongAdder();
+            var maxStatements = new AtomicLong();
+            context.getBean(SqlStatisticsRecorder.class).addCompletionListener((SqlStatistics statistics) -> {
+                if (statistics.scope().equals(AuthorEventHandler.SQL_STATISTICS_SCOPE)) {
+                    statements.add(statistics.statements());
+                    maxStatements.accumulateAndGet(statistics.statements(), Math::max);
+                }
+            });
+            var producer = context.getBean(KafkaProducer.class);
+            send(producer, authorIds.subList(0, warmupEvents), timeout);
+
+            endToEnd = new LatencyHistogram();
+            statements.reset();
+            maxStatements.set(0);
+            long started = System.nanoTime();
+            long produced = send(producer, authorIds.subList(warmupEvents, authorIds.size()), timeout);
+            long processedEvents = events - completed.getCount();
+            var snapshot = endToEnd.snapshot();
+            System.out.printf("events %d, partitions %d, consumer concurrency %s, ordered parallel %s, virtual threads %s%n",
+                    events, partitions, options.string("concurrency", "1"), options.string("ordered-parallel", "false"),
+                    options.string("virtual-threads", "false"));
+            System.out.printf("producer       %10.1f events/s%n", events / seconds(produced - started));
+            System.out.printf("consumer       %10.1f events/s%s%n", processedEvents / seconds(LAST_COMPLETED_AT.get() - started),
+                    processedEvents == events ? "" : " (timed out, " + processedEvents + " processed)");
+            System.out.printf("end to end     p50 %.2f ms, p99 %.2f ms, max %.2f ms%n",
+                    snapshot.valueAtPercentile(50) / 1e6, snapshot.valueAtPercentile(99) / 1e6, snapshot.maxValue() / 1e6);
+            System.out.printf("per event      %.1f SQL statements(max %d)%n",
+                    statements.sum() / (double) Math.max(1, processedEvents), maxStatements.get());
+        } finally {
+            if (postgres != null) {
+                postgres.stop();
+            }
+            broker.destroy();
+        }
+    }
+
+    /**
+     * To send a deletion event for every author, then wait until all of them are handled.
+     *
+     * @return time at which kafka acknowledged the last event, in nanoseconds.
+     */
+    private static long send(KafkaProducer producer, List<Long> authorIds, Duration timeout) throws InterruptedException {
+        completed = new CountDownLatch(authorIds.size());
+        List<CompletableFuture<?>> sends = new ArrayList<>(authorIds.size());
+        for (Long authorId : authorIds) {
+            SENT_AT.put(authorId, System.nanoTime());
+            sends.add(producer.sendAuthorInformation(AuthorResponse.builder().id(authorId).build()));
+        }
+        CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).join();
+        long produced = System.nanoTime();
+        completed.await(timeout.toSeconds(), TimeUnit.SECONDS);
+        return produced;
+    }
+
+    private static ConfigurableApplicationContext start(Options options, EmbeddedKafkaKraftBroker broker, PostgreSQLContainer<?> postgres) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+        // broker and database are provided here, not by docker compose.
+        properties.put("spring.docker.compose.enabled", false);
+        properties.put("spring.datasource.url", postgres != null ? postgres.getJdbcUrl() : options.string("jdbc-url", null));
+        properties.put("spring.datasource.username", postgres != null ? postgres.getUsername() : options.string("user", "krieger"));
+        properties.put("spring.datasource.password", postgres != null ? postgres.getPassword() : options.string("password", "krieger"));
+        // same database for the reactive reads, the JDBC URL without its parameters.
+        var jdbcUrl = (String) properties.get("spring.datasource.url");
+        properties.put("spring.r2dbc.url", jdbcUrl.replaceFirst("^jdbc:", "r2dbc:").replaceFirst("\\?.*$", ""));
+        properties.put("spring.r2dbc.username", properties.get("spring.datasource.username"));
+        properties.put("spring.r2dbc.password", properties.get("spring.datasource.password"));
+        properties.put("spring.kafka.bootstrap-servers", broker.getBrokersAsString());
+        properties.put("spring.kafka.producer.bootstrap-servers", broker.getBrokersAsString());
+        properties.put("spring.kafka.consumer.bootstrap-servers", broker.getBrokersAsString());
+        // events sent before partitions are assigned are still consumed.
+        properties.put("spring.kafka.consumer.auto-offset-reset", "earliest");
+        properties.put("spring.kafka.listener.concurrency", options.integer("concurrency", 1));
+        properties.put("spring.kafka.producer.acks", options.string("acks", "all"));
+        properties.put("spring.kafka.producer.properties.linger.ms", options.integer("linger-ms", 0));
+        properties.put("spring.kafka.producer.batch-size", options.integer("batch-size", 16_384));
+        properties.put("spring.kafka.producer.compression-type", options.string("compression", "none"));
+        properties.put("kafka.topic", TOPIC);
+        properties.put("kafka.consumer.ordered-parallel.enabled", options.string("ordered-parallel", "false"));
+        properties.put("kafka.consumer.ordered-parallel.max-concurrency", options.integer("max-concurrency", 10));
+        properties.put("kafka.snapshot.warm-up-on-startup", false);
+        properties.put("spring.threads.virtual.enabled", options.string("virtual-threads", "false"));
+        properties.put("event-bus.mode", "kafka");
+        properties.put("sql-statistics.enabled", true);
+        // per event info logs would measure the console.
+        properties.put("logging.level.com.krieger", "WARN");
+        properties.put("logging.level.org.apache.kafka", "WARN");
+        properties.put("logging.level.kafka", "WARN");
+        // passed as command line arguments, so that they take precedence over application.yml.
+        return new SpringApplicationBuilder(DocumentAndAuthorManagementApplication.class, Probe.class)
+                .run(properties.entrySet().stream().map(property -> "--" + property.getKey() + "=" + property.getValue()).toArray(String[]::new));
+    }
+
+    /**
+     * To insert the authors to delete, each with its own documents, in bulk.
+     *
+     * @return IDs of the inserted authors.
+     */
+    private static List<Long> seed(JdbcTemplate jdbcTemplate, int authors, int documentsPerAuthor) {
+        var authorIds = jdbcTemplate.queryForList(
+                "INSERT INTO authors (first_name, last_name) SELECT 'Benchmark', 'Author ' || g FROM generate_series(1, ?) g RETURNING id",
+                Long.class, authors
+        );
+        var documentIds = jdbcTemplate.queryForList(
+                "INSERT INTO documents (title, body) SELECT 'Benchmark document ' || g, repeat('body ', 200) FROM generate_series(1, ?) g RETURNING id",
+                Long.class, authors * documentsPerAuthor
+        );
+        List<Object[]> documentAuthors = new ArrayList<>(documentIds.size());
+        for (int index = 0; index < documentIds.size(); index++) {
+            documentAuthors.add(new Object[]{documentIds.get(index), authorIds.get(index / documentsPerAuthor)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO document_authors (document_id, author_id) VALUES (?, ?)", documentAuthors);
+        return authorIds;
+    }
+
+    private static double seconds(long nanos) {
+        return Math.max(1, nanos) / 1e9;
+    }
+
+    /**
+     * To time every handled author event from its send until the handler returns.
+     */
+    @Configuration
+    static class Probe {
+
+        @Bean
+        static BeanPostProcessor authorEventHandlerProbe() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof AuthorEventHandler)) {
+                        return bean;
+                    }
+                    var proxyFactory = new ProxyFactory(bean);
+                    proxyFactory.setProxyTargetClass(true);
+                    proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+                        var result = invocation.proceed();
+                        if (invocation.getArguments()[0] instanceof AuthorResponse author) {
+                            var sentAt = SENT_AT.remove(author.getId());
+                            if (sentAt != null) {
+                                long now = System.nanoTime();
+                                endToEnd.record(now - sentAt);
+                                LAST_COMPLETED_AT.accumulateAndGet(now, Math::max);
+                                completed.countDown();
+                            }
+                        }
+                        return result;
+                    });
+                    return proxyFactory.getProxy();
+                }
+            };
+        }
+    }
+}
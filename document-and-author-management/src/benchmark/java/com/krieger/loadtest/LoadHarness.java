@@ -0,0 +1,222 @@
+package com.krieger.loadtest;
+
+import com.krieger.aop.LatencyHistogram;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * To drive the REST endpoints with a weighted read/write mix from a fixed number of closed-loop clients, and report
+ * latency percentiles and throughput per operation. Hot IDs follow a power law, like in the generated dataset.
+ * Long durations make it a soak test, with interim reports every report-interval.
+ *
+ * <pre>
+ * mvn -Pbenchmark -DskipTests test-compile exec:exec@load-test \
+ *     -Dload.args="--authors=100000 --documents=2000000 --duration=PT5M --baseline=target/load-baseline.properties"
+ * </pre>
+ * Exits with status 1 when a baseline is given and an operation regressed beyond the tolerance.
+ * To compare thread models, run with --save-baseline against the application on platform threads, then with
+ * --baseline against the application started with VIRTUAL_THREADS_ENABLED=true, at a concurrency well above the
+ * connection pool size.
+ */
+public final class LoadHarness {
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final String baseUrl;
+    private final String documentAuthorization;
+    private final String authorAuthorization;
+    private final ZipfSampler authorSampler;
+    private final ZipfSampler documentSampler;
+    // weight of every operation, out of their sum.
+    private final Map<Operation, Integer> mix = new LinkedHashMap<>();
+    private final int totalWeight;
+    private final Map<String, LatencyHistogram> latencies = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+    private volatile boolean recording;
+
+    LoadHarness(Options options) {
+        baseUrl = options.string("base-url", "http://localhost:9090");
+        documentAuthorization = basic(options.string("document-user", "krieger-document"), options.string("document-password", "krieger-document"));
+        authorAuthorization = basic(options.string("author-user", "krieger-author"), options.string("author-password", "krieger-author"));
+        var exponent = options.decimal("hot-key-exponent", 1.1);
+        authorSampler = new ZipfSampler(options.integer("authors", 6), exponent);
+        documentSampler = new ZipfSampler(options.integer("documents", 8), exponent);
+        for (String entry : options.string("mix", "get-document=50,list-documents=15,get-author=20,create-document=10,update-document=5").split(",")) {
+            var weight = entry.split("=");
+            mix.put(Operation.of(weight[0].trim()), Integer.parseInt(weight[1].trim()));
+        }
+        totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    public static void main(String[] args) throws Exception {
+        var options = new Options(args);
+        var harness = new LoadHarness(options);
+        var report = harness.run(
+                options.integer("concurrency", 32),
+                options.duration("warmup", Duration.ofSeconds(10)),
+                options.duration("duration", Duration.ofMinutes(1)),
+                options.duration("report-interval", Duration.ofSeconds(30))
+        );
+        System.out.print(report.format());
+        var saveBaseline = options.string("save-baseline", null);
+        if (saveBaseline != null) {
+            try (var writer = Files.newBufferedWriter(Path.of(saveBaseline))) {
+                report.save(writer);
+            }
+            System.out.println("Saved baseline to " + saveBaseline);
+        }
+        var baseline = options.string("baseline", null);
+        if (baseline != null) {
+            List<String> regressions;
+            try (var reader = Files.newBufferedReader(Path.of(baseline))) {
+                regressions = report.compare(reader, options.decimal("tolerance", 0.1));
+            }
+            regressions.forEach(regression -> System.out.println("REGRESSION " + regression));
+            if (!regressions.isEmpty()) {
+                System.exit(1);
+            }
+            System.out.println("Within tolerance of baseline " + baseline);
+        }
+    }
+
+    LoadReport run(int concurrency, Duration warmup, Duration duration, Duration reportInterval) throws InterruptedException {
+        long start = System.nanoTime();
+        long recordingStart = start + warmup.toNanos();
+        long end = recordingStart + duration.toNanos();
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int client = 0; client < concurrency; client++) {
+                executor.submit(() -> {
+                    while (System.nanoTime() < end) {
+                        execute(nextOperation());
+                    }
+                });
+            }
+            Thread.sleep(warmup);
+            recording = true;
+            long nextReport = recordingStart + reportInterval.toNanos();
+            while (nextReport < end) {
+                Thread.sleep(Duration.ofNanos(nextReport - System.nanoTime()));
+                System.out.printf("-- after %d s%n%s", (nextReport - recordingStart) / 1_000_000_000, report(nextReport - recordingStart).format());
+                nextReport += reportInterval.toNanos();
+            }
+        }
+        return report(System.nanoTime() - recordingStart);
+    }
+
+    private LoadReport report(long elapsedNanos) {
+        Map<String, LatencyHistogram.Snapshot> snapshots = new LinkedHashMap<>();
+        Map<String, Long> errorCounts = new LinkedHashMap<>();
+        mix.keySet().forEach(operation -> {
+            snapshots.put(operation.name, latencies.computeIfAbsent(operation.name, name -> new LatencyHistogram()).snapshot());
+            errorCounts.put(operation.name, errors.computeIfAbsent(operation.name, name -> new LongAdder()).sum());
+        });
+        return new LoadReport(snapshots, errorCounts, elapsedNanos / 1_000_000_000.0);
+    }
+
+    private Operation nextOperation() {
+        int pick = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (var entry : mix.entrySet()) {
+            pick -= entry.getValue();
+            if (pick < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Operation mix is empty.");
+    }
+
+    private void execute(Operation operation) {
+        var request = request(operation);
+        long started = System.nanoTime();
+        boolean failed;
+        try {
+            failed = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() >= 400;
+        } catch (IOException ex) {
+            failed = true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (recording) {
+            latencies.computeIfAbsent(operation.name, name -> new LatencyHistogram()).record(System.nanoTime() - started);
+            if (failed) {
+                errors.computeIfAbsent(operation.name, name -> new LongAdder()).increment();
+            }
+        }
+    }
+
+    private HttpRequest request(Operation operation) {
+        var random = ThreadLocalRandom.current();
+        return switch (operation) {
+            case GET_DOCUMENT -> get("/api/v1/documents/" + documentSampler.sample(random), documentAuthorization);
+            case LIST_DOCUMENTS -> get("/api/v1/documents?page=" + random.nextInt(10) + "&size=20", documentAuthorization);
+            case GET_AUTHOR -> get("/api/v1/authors/" + authorSampler.sample(random), authorAuthorization);
+            case CREATE_DOCUMENT -> send("POST", "/api/v1/documents", documentJson(random));
+            case UPDATE_DOCUMENT -> send("PUT", "/api/v1/documents/" + documentSampler.sample(random), documentJson(random));
+        };
+    }
+
+    private String documentJson(ThreadLocalRandom random) {
+        List<Long> references = new ArrayList<>();
+        for (int i = random.nextInt(4); i > 0; i--) {
+            references.add(documentSampler.sample(random));
+        }
+        return "{\"title\":\"Load test " + random.nextInt() + "\",\"body\":\"" + "load ".repeat(1 + random.nextInt(400))
+                + "\",\"authorIds\":[" + authorSampler.sample(random) + "],\"references\":"
+                + references.stream().distinct().toList() + "}";
+    }
+
+    private HttpRequest get(String path, String authorization) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).header("Authorization", authorization).GET().build();
+    }
+
+    private HttpRequest send(String method, String path, String json) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", documentAuthorization)
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private static String basic(String user, String password) {
+        return "Basic " + Base64.getEncoder().encodeToString((user + ":" + password).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private enum Operation {
+        GET_DOCUMENT("get-document"),
+        LIST_DOCUMENTS("list-documents"),
+        GET_AUTHOR("get-author"),
+        CREATE_DOCUMENT("create-document"),
+        UPDATE_DOCUMENT("update-document");
+
+        private final String name;
+
+        Operation(String name) {
+            this.name = name;
+        }
+
+        static Operation of(String name) {
+            for (var operation : values()) {
+                if (operation.name.equals(name)) {
+                    return operation;
+                }
+            }
+            throw new IllegalArgumentException("Unknown operation " + name);
+        }
+    }
+}
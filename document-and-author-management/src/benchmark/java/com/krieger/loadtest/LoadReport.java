@@ -0,0 +1,85 @@
+package com.krieger.loadtest;
+
+import com.krieger.aop.LatencyHistogram;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Latency percentiles and throughput of every operation of a load run, saved as a baseline and compared with one.
+ */
+final class LoadReport {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final Map<String, LatencyHistogram.Snapshot> latencies;
+    private final Map<String, Long> errors;
+    private final double seconds;
+
+    LoadReport(Map<String, LatencyHistogram.Snapshot> latencies, Map<String, Long> errors, double seconds) {
+        this.latencies = latencies;
+        this.errors = errors;
+        this.seconds = seconds;
+    }
+
+    String format() {
+        var text = new StringBuilder(String.format("%-18s %10s %10s %9s %9s %9s %9s %9s %8s%n",
+                "operation", "requests", "ops/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "errors"));
+        latencies.forEach((operation, snapshot) -> {
+            text.append(String.format("%-18s %10d %10.1f", operation, snapshot.count(), throughput(operation)));
+            for (double percentile : PERCENTILES) {
+                text.append(String.format(" %9.2f", millis(snapshot.valueAtPercentile(percentile))));
+            }
+            text.append(String.format(" %9.2f %8d%n", millis(snapshot.maxValue()), errors.getOrDefault(operation, 0L)));
+        });
+        return text.toString();
+    }
+
+    void save(Writer writer) throws IOException {
+        var baseline = new Properties();
+        latencies.forEach((operation, snapshot) -> {
+            baseline.setProperty(operation + ".throughput", String.valueOf(throughput(operation)));
+            baseline.setProperty(operation + ".p99", String.valueOf(millis(snapshot.valueAtPercentile(99))));
+        });
+        baseline.store(writer, "load harness baseline, throughput in ops/s and latency in ms");
+    }
+
+    /**
+     * To compare with a saved baseline.
+     *
+     * @param reader of the baseline.
+     * @param tolerance allowed relative change, e.g. 0.1 for 10%.
+     * @return regressions, empty when the run is within tolerance.
+     */
+    List<String> compare(Reader reader, double tolerance) throws IOException {
+        var baseline = new Properties();
+        baseline.load(reader);
+        List<String> regressions = new ArrayList<>();
+        latencies.forEach((operation, snapshot) -> {
+            var baseThroughput = baseline.getProperty(operation + ".throughput");
+            if (baseThroughput != null && throughput(operation) < Double.parseDouble(baseThroughput) * (1 - tolerance)) {
+                regressions.add(String.format("%s throughput %.1f ops/s, baseline %s ops/s",
+                        operation, throughput(operation), baseThroughput));
+            }
+            var baseP99 = baseline.getProperty(operation + ".p99");
+            var p99 = millis(snapshot.valueAtPercentile(99));
+            if (baseP99 != null && p99 > Double.parseDouble(baseP99) * (1 + tolerance)) {
+                regressions.add(String.format("%s p99 %.2f ms, baseline %s ms", operation, p99, baseP99));
+            }
+        });
+        return regressions;
+    }
+
+    private double throughput(String operation) {
+        return latencies.get(operation).count() / seconds;
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,43 @@
+package com.krieger.loadtest;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * To read "--name=value" command line options with defaults.
+ */
+final class Options {
+
+    private final Map<String, String> values = new HashMap<>();
+
+    Options(String[] args) {
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            var separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+    }
+
+    String string(String name, String defaultValue) {
+        return values.getOrDefault(name, defaultValue);
+    }
+
+    int integer(String name, int defaultValue) {
+        return values.containsKey(name) ? Integer.parseInt(values.get(name)) : defaultValue;
+    }
+
+    long longValue(String name, long defaultValue) {
+        return values.containsKey(name) ? Long.parseLong(values.get(name)) : defaultValue;
+    }
+
+    double decimal(String name, double defaultValue) {
+        return values.containsKey(name) ? Double.parseDouble(values.get(name)) : defaultValue;
+    }
+
+    Duration duration(String name, Duration defaultValue) {
+        return values.containsKey(name) ? Duration.parse(values.get(name)) : defaultValue;
+    }
+}
@@ -0,0 +1,177 @@
+package com.krieger.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * To measure startup of the packaged application in every launch mode: time until the readiness probe reports UP,
+ * the startup time logged by Spring Boot, and latency of the first and second request once ready.
+ * Every run starts a fresh JVM, against a running database(and kafka, unless the application runs in-process).
+ *
+ * <pre>
+ * mvn -Paot -DskipTests package
+ * mvn -Pbenchmark -DskipTests test-compile exec:exec@startup-benchmark \
+ *     -Dstartup.args="--runs=5 --app-args=--event-bus.mode=in-process,--kafka.snapshot.warm-up-on-startup=false"
+ * </pre>
+ * or packaged, trained and measured in one build, which reports after the JMH benchmarks unless they are skipped:
+ * <pre>
+ * mvn -Paot,benchmark -DskipTests -Djmh.skip verify -Dstartup.args="..."
+ * </pre>
+ * Arguments of the application are separated by commas.
+ * Modes: "jar"(java -jar on the boot jar), "extracted"(extracted jar and libraries), "aot"(extracted, with
+ * spring.aot.enabled) and "aot-cds"(extracted, with spring.aot.enabled and the trained class data sharing archive).
+ */
+public final class StartupBenchmark {
+
+    private static final Pattern STARTED = Pattern.compile("Started \\S+ in ([0-9.]+) seconds");
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+    private final Path bootJar;
+    private final Path applicationDirectory;
+    private final String baseUrl;
+    private final String authorization;
+    private final String firstRequestPath;
+    private final List<String> applicationArgs;
+    private final Duration timeout;
+
+    StartupBenchmark(Options options) {
+        var target = Path.of(options.string("target", "target")).toAbsolutePath();
+        var jarName = options.string("jar", "document-and-author-management-1.0.0.jar");
+        bootJar = target.resolve(jarName);
+        applicationDirectory = target.resolve("application");
+        baseUrl = options.string("base-url", "http://localhost:9090");
+        var user = options.string("user", "krieger-document");
+        var password = options.string("password", "krieger-document");
+        authorization = "Basic " + Base64.getEncoder().encodeToString((user + ":" + password).getBytes(StandardCharsets.UTF_8));
+        firstRequestPath = options.string("first-request", "/api/v1/documents?page=0&size=20");
+        var args = options.string("app-args", "");
+        applicationArgs = args.isBlank() ? List.of() : Arrays.asList(args.trim().split(","));
+        timeout = options.duration("timeout", Duration.ofMinutes(2));
+    }
+
+    public static void main(String[] args) throws Exception {
+        var options = new Options(args);
+        var benchmark = new StartupBenchmark(options);
+        int runs = options.integer("runs", 3);
+        Map<String, List<Run>> results = new LinkedHashMap<>();
+        for (String mode : options.string("modes", "jar,extracted,aot,aot-cds").split(",")) {
+            var runsOfMode = new ArrayList<Run>();
+            for (int run = 0; run < runs; run++) {
+                runsOfMode.add(benchmark.run(mode.trim()));
+            }
+            results.put(mode.trim(), runsOfMode);
+        }
+        System.out.printf("%n%-10s %12s %12s %16s %16s%n", "mode", "ready ms", "started ms", "first req ms", "second req ms");
+        results.forEach((mode, runsOfMode) -> System.out.printf("%-10s %12d %12d %16.1f %16.1f%n",
+                mode,
+                median(runsOfMode.stream().mapToDouble(Run::readyMillis).toArray()).longValue(),
+                median(runsOfMode.stream().mapToDouble(Run::startedMillis).toArray()).longValue(),
+                median(runsOfMode.stream().mapToDouble(Run::firstRequestMillis).toArray()),
+                median(runsOfMode.stream().mapToDouble(Run::secondRequestMillis).toArray())
+        ));
+        System.out.printf("medians of %d runs per mode%n", runs);
+    }
+
+    Run run(String mode) throws IOException, InterruptedException {
+        var log = Files.createTempFile("startup-" + mode + "-", ".log");
+        var process = new ProcessBuilder(command(mode))
+                .directory(applicationDirectory.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        try {
+            long start = System.nanoTime();
+            awaitReady(process, start, log);
+            long ready = System.nanoTime() - start;
+            double first = requestMillis(firstRequestPath);
+            double second = requestMillis(firstRequestPath);
+            var matcher = STARTED.matcher(Files.readString(log));
+            long started = matcher.find() ? (long) (Double.parseDouble(matcher.group(1)) * 1000) : -1;
+            var result = new Run(ready / 1_000_000, started, first, second);
+            System.out.printf("%s: ready in %d ms, started in %d ms, first request %.1f ms, second request %.1f ms%n",
+                    mode, result.readyMillis(), result.startedMillis(), first, second);
+            Files.delete(log);
+            return result;
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private List<String> command(String mode) {
+        var command = new ArrayList<String>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        switch (mode) {
+            case "jar" -> command.addAll(List.of("-jar", bootJar.toString()));
+            case "extracted" -> command.addAll(List.of("-jar", bootJar.getFileName().toString()));
+            case "aot" -> command.addAll(List.of("-Dspring.aot.enabled=true", "-jar", bootJar.getFileName().toString()));
+            case "aot-cds" -> command.addAll(List.of(
+                    "-XX:SharedArchiveFile=application.jsa",
+                    "-Xlog:cds=off",
+                    "-Dspring.aot.enabled=true",
+                    "-jar",
+                    bootJar.getFileName().toString()
+            ));
+            default -> throw new IllegalArgumentException("Unknown mode " + mode);
+        }
+        command.addAll(applicationArgs);
+        return command;
+    }
+
+    private void awaitReady(Process process, long start, Path log) throws IOException, InterruptedException {
+        var readiness = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/health/readiness"))
+                .header("Authorization", authorization)
+                .timeout(Duration.ofSeconds(1))
+                .build();
+        while (System.nanoTime() - start < timeout.toNanos()) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Application exited with " + process.exitValue() + ", see " + log);
+            }
+            try {
+                if (client.send(readiness, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // not listening yet.
+            }
+            Thread.sleep(20);
+        }
+        throw new IllegalStateException("Application not ready within " + timeout + ", see " + log);
+    }
+
+    private double requestMillis(String path) throws IOException, InterruptedException {
+        var request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", authorization)
+                .build();
+        long start = System.nanoTime();
+        var response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        double millis = (System.nanoTime() - start) / 1_000_000.0;
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException(path + " returned " + response.statusCode());
+        }
+        return millis;
+    }
+
+    private static Double median(double[] values) {
+        Arrays.sort(values);
+        int middle = values.length / 2;
+        return values.length % 2 == 1 ? values[middle] : (values[middle - 1] + values[middle]) / 2;
+    }
+
+    record Run(long readyMillis, long startedMillis, double firstRequestMillis, double secondRequestMillis) {
+    }
+}
@@ -0,0 +1,35 @@
+package com.krieger.loadtest;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * To sample ranks 1..n with power-law(zipf) probability, rank 1 being the most likely.
+ * Used for author productivity, citation counts and hot keys of the load harness.
+ */
+final class ZipfSampler {
+
+    // cumulative probability of every rank, rank r at index r - 1.
+    private final double[] cumulative;
+
+    /**
+     * @param n number of ranks.
+     * @param exponent skew, 0 is uniform and higher values concentrate on the first ranks.
+     */
+    ZipfSampler(int n, double exponent) {
+        cumulative = new double[n];
+        double sum = 0;
+        for (int rank = 1; rank <= n; rank++) {
+            sum += 1 / Math.pow(rank, exponent);
+            cumulative[rank - 1] = sum;
+        }
+        for (int index = 0; index < n; index++) {
+            cumulative[index] /= sum;
+        }
+    }
+
+    long sample(RandomGenerator random) {
+        var index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return (index >= 0 ? index : -index - 1) + 1L;
+    }
+}
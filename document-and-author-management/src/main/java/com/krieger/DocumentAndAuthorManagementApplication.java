@@ -2,12 +2,25 @@ package com.krieger;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
-@SpringBootApplication
+// R2DBC serves only the reactive reads, which need no transactions, and a second transaction manager would make
+// every @Transactional ambiguous.
+@SpringBootApplication(exclude = R2dbcTransactionManagerAutoConfiguration.class)
+@EnableScheduling
+@EnableCaching
 public class DocumentAndAuthorManagementApplication {
 
+	// startup steps kept for "/actuator/startuptimeline", about two per bean.
+	private static final int STARTUP_STEPS = 10_000;
+
 	public static void main(String[] args) {
-		SpringApplication.run(DocumentAndAuthorManagementApplication.class, args);
+		var application = new SpringApplication(DocumentAndAuthorManagementApplication.class);
+		application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEPS));
+		application.run(args);
 	}
 
 }
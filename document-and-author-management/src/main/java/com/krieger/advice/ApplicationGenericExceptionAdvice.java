@@ -10,6 +10,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 
 import java.util.HashMap;
 
@@ -43,6 +44,32 @@ public class ApplicationGenericExceptionAdvice {
                 );
     }
 
+    /**
+     * To handle invalid request parameters and path variables and send proper message.
+     *
+     * @param validationException thrown when a constrained parameter of a controller method is not valid.
+     * @return response entity with custom generic field error response class.
+     */
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public ResponseEntity<GenericFieldErrorResponse> handleHandlerMethodValidationException(
+            HandlerMethodValidationException validationException
+    ) {
+        // to hold the parameter error
+        var errors = new HashMap<String, String>();
+        validationException.getAllValidationResults()
+                .forEach(
+                        result -> result.getResolvableErrors().forEach(
+                                // adding parameter errors to hashmap.
+                                error -> errors.put(result.getMethodParameter().getParameterName(), error.getDefaultMessage())
+                        )
+                );
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(
+                        new GenericFieldErrorResponse(errors)
+                );
+    }
+
     /**
      * To handle AuthorNotFoundException & DocumentNotFoundException exceptions and send proper error message.
      *
@@ -0,0 +1,108 @@
+package com.krieger.aop;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with log-linear buckets(HDR style). Every power of two is split into 32 linear
+ * sub-buckets, so recorded values keep about 3% relative precision over the whole long range in fixed memory.
+ * Recording is a single atomic increment, percentiles are computed from a point-in-time copy of the counts.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // values below 32 get a bucket each, then 32 buckets for every power of two up to 2^62.
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalValue = new LongAdder();
+    private final AtomicLong maxValue = new AtomicLong();
+
+    /**
+     * To record the value, negative values are recorded as zero.
+     *
+     * @param value to record, e.g. elapsed nanoseconds.
+     */
+    public void record(long value) {
+        var recorded = Math.max(0, value);
+        counts.incrementAndGet(bucketIndex(recorded));
+        totalCount.increment();
+        totalValue.add(recorded);
+        // compare first, so that the common case does not write.
+        if (recorded > maxValue.get()) {
+            maxValue.accumulateAndGet(recorded, Math::max);
+        }
+    }
+
+    /**
+     * To take a point-in-time copy of the histogram, concurrent records may be partly included.
+     *
+     * @return snapshot to compute percentiles from.
+     */
+    public Snapshot snapshot() {
+        var copy = new long[BUCKETS];
+        long count = 0;
+        for (int index = 0; index < BUCKETS; index++) {
+            copy[index] = counts.get(index);
+            count += copy[index];
+        }
+        return new Snapshot(copy, count, totalValue.sum(), maxValue.get());
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKETS;
+        return (shift + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long highestValueInBucket(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long subBucket = SUB_BUCKETS + index % SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    /**
+     * Point-in-time copy of a histogram.
+     *
+     * @param counts     count of every bucket.
+     * @param count      total number of recorded values.
+     * @param totalValue sum of all recorded values.
+     * @param maxValue   largest recorded value.
+     */
+    public record Snapshot(long[] counts, long count, long totalValue, long maxValue) {
+
+        public double mean() {
+            return count == 0 ? 0 : (double) totalValue / count;
+        }
+
+        /**
+         * To get the value below which the given percentage of recorded values fall.
+         *
+         * @param percentile between 0 and 100.
+         * @return highest value of the bucket holding the percentile, never above max value.
+         */
+        public long valueAtPercentile(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            long target = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+            long seen = 0;
+            for (int index = 0; index < counts.length; index++) {
+                seen += counts[index];
+                if (seen >= target) {
+                    return Math.min(highestValueInBucket(index), maxValue);
+                }
+            }
+            return maxValue;
+        }
+    }
+}
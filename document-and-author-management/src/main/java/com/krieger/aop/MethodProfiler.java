@@ -0,0 +1,85 @@
+package com.krieger.aop;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * To keep latency histogram of every profiled method.
+ */
+public class MethodProfiler {
+
+    private final Map<Method, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    /**
+     * To record the elapsed time of a method call.
+     *
+     * @param method called method.
+     * @param elapsedNanos elapsed time of the call.
+     */
+    public void record(Method method, long elapsedNanos) {
+        var histogram = histograms.get(method);
+        if (histogram == null) {
+            histogram = histograms.computeIfAbsent(method, key -> new LatencyHistogram());
+        }
+        histogram.record(elapsedNanos);
+    }
+
+    /**
+     * To summarize the latency of all profiled methods.
+     *
+     * @return latency profiles by method name, sorted by name.
+     */
+    public Map<String, MethodProfile> profiles() {
+        Map<String, MethodProfile> profiles = new TreeMap<>();
+        histograms.forEach((method, histogram) -> profiles.put(name(method), MethodProfile.of(histogram.snapshot())));
+        return profiles;
+    }
+
+    /**
+     * To drop all recorded latencies.
+     */
+    public void reset() {
+        histograms.clear();
+    }
+
+    private static String name(Method method) {
+        return method.getDeclaringClass().getSimpleName() + "." + method.getName() + Arrays.stream(method.getParameterTypes())
+                .map(Class::getSimpleName)
+                .collect(Collectors.joining(",", "(", ")"));
+    }
+
+    /**
+     * Latency summary of a profiled method, in milliseconds.
+     *
+     * @param samples number of timed calls.
+     * @param mean    mean latency.
+     * @param p50     median latency.
+     * @param p90     90th percentile latency.
+     * @param p99     99th percentile latency.
+     * @param p999    99.9th percentile latency.
+     * @param max     largest latency.
+     */
+    public record MethodProfile(long samples, double mean, double p50, double p90, double p99, double p999, double max) {
+
+        static MethodProfile of(LatencyHistogram.Snapshot snapshot) {
+            return new MethodProfile(
+                    snapshot.count(),
+                    millis(snapshot.mean()),
+                    millis(snapshot.valueAtPercentile(50)),
+                    millis(snapshot.valueAtPercentile(90)),
+                    millis(snapshot.valueAtPercentile(99)),
+                    millis(snapshot.valueAtPercentile(99.9)),
+                    millis(snapshot.maxValue())
+            );
+        }
+
+        private static double millis(double nanos) {
+            return nanos / TimeUnit.MILLISECONDS.toNanos(1);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.krieger.aop;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * To time sampled calls of profiled methods. Unlike an AspectJ style advice, it allocates nothing per call,
+ * the method is taken straight from the invocation and used as histogram key.
+ */
+public class ProfilingAdvice implements MethodInterceptor {
+
+    private final MethodProfiler profiler;
+    private final double sampleRate;
+
+    public ProfilingAdvice(MethodProfiler profiler, double sampleRate) {
+        this.profiler = profiler;
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return invocation.proceed();
+        }
+        var started = System.nanoTime();
+        try {
+            return invocation.proceed();
+        } finally {
+            profiler.record(invocation.getMethod(), System.nanoTime() - started);
+        }
+    }
+}
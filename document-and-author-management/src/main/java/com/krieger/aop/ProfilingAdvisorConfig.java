@@ -0,0 +1,38 @@
+package com.krieger.aop;
+
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+
+/**
+ * To profile methods matching the configured patterns, only registered when profiling is enabled so that
+ * disabled profiling costs nothing.
+ */
+@Configuration
+@ConditionalOnProperty(name = "profiling.enabled", havingValue = "true")
+public class ProfilingAdvisorConfig {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static MethodProfiler methodProfiler() {
+        return new MethodProfiler();
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor profilingAdvisor(MethodProfiler methodProfiler, ProfilingConfig profilingConfig) {
+        return new DefaultPointcutAdvisor(
+                new ProfilingPointcut(profilingConfig.getInclude(), profilingConfig.getExclude()),
+                new ProfilingAdvice(methodProfiler, profilingConfig.getSampleRate())
+        );
+    }
+
+    @Bean
+    public ProfilingEndpoint profilingEndpoint(MethodProfiler methodProfiler) {
+        return new ProfilingEndpoint(methodProfiler);
+    }
+}
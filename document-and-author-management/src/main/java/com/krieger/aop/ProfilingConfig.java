@@ -0,0 +1,29 @@
+package com.krieger.aop;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * To read specific("profiling") properties from properties(.yml, .yaml or .properties) file.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "profiling")
+@Data
+public class ProfilingConfig {
+    // when disabled, no method is proxied for profiling at all.
+    private boolean enabled = false;
+    // fraction of calls which are timed, between 0 and 1.
+    private double sampleRate = 1.0;
+    // methods to profile, as "fully.qualified.ClassName.methodName" patterns with "*" wildcards.
+    private List<String> include = new ArrayList<>(List.of(
+            "com.krieger.*.controller.*",
+            "com.krieger.*.service.*",
+            "com.krieger.*.mapper.*"
+    ));
+    // methods not to profile, even when included.
+    private List<String> exclude = new ArrayList<>();
+}
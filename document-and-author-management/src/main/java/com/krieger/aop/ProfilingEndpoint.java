@@ -0,0 +1,28 @@
+package com.krieger.aop;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.Map;
+
+/**
+ * To expose latency percentiles of profiled methods on "/actuator/profiling".
+ */
+@Endpoint(id = "profiling")
+@RequiredArgsConstructor
+public class ProfilingEndpoint {
+
+    private final MethodProfiler profiler;
+
+    @ReadOperation
+    public Map<String, MethodProfiler.MethodProfile> profiles() {
+        return profiler.profiles();
+    }
+
+    @DeleteOperation
+    public void reset() {
+        profiler.reset();
+    }
+}
@@ -0,0 +1,41 @@
+package com.krieger.aop;
+
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.PatternMatchUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+
+/**
+ * To select profiled methods by include/exclude patterns. Matching happens once per method when beans are proxied,
+ * so patterns add no cost to the calls themselves.
+ */
+public class ProfilingPointcut extends StaticMethodMatcherPointcut {
+
+    private final String[] include;
+    private final String[] exclude;
+
+    public ProfilingPointcut(List<String> include, List<String> exclude) {
+        this.include = include.toArray(String[]::new);
+        this.exclude = exclude.toArray(String[]::new);
+    }
+
+    @Override
+    public boolean matches(Method method, Class<?> targetClass) {
+        if (!Modifier.isPublic(method.getModifiers()) || method.getDeclaringClass() == Object.class) {
+            return false;
+        }
+        // implementation class, or declaring class for methods inherited from interfaces or super classes.
+        var implementationName = ClassUtils.getUserClass(targetClass).getName() + "." + method.getName();
+        var declarationName = method.getDeclaringClass().getName() + "." + method.getName();
+        return (matchesAny(include, implementationName) || matchesAny(include, declarationName))
+                && !matchesAny(exclude, implementationName)
+                && !matchesAny(exclude, declarationName);
+    }
+
+    private static boolean matchesAny(String[] patterns, String name) {
+        return PatternMatchUtils.simpleMatch(patterns, name);
+    }
+}
@@ -0,0 +1,22 @@
+package com.krieger.authentication;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * To read specific("authentication.cache") properties from properties(.yml, .yaml or .properties) file.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "authentication.cache")
+@Data
+public class AuthenticationCacheConfig {
+    // when disabled, every request pays the BCrypt check.
+    private boolean enabled = true;
+    // verified credentials kept at a time, least recently used ones are dropped first.
+    private long maximumSize = 1000;
+    // verified credentials are checked with BCrypt again after this long.
+    private Duration ttl = Duration.ofMinutes(5);
+}
@@ -0,0 +1,97 @@
+package com.krieger.authentication;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.GrantedAuthority;
+
+import javax.crypto.KeyGenerator;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Collection;
+
+/**
+ * To skip the deliberately slow password check for credentials verified recently. Only successful checks are
+ * cached, keyed by an HMAC digest of username and password under a per-process random key, so that neither
+ * passwords nor cheaply reversible hashes of them are kept in memory. Failed checks always reach the delegate.
+ */
+public class CachingAuthenticationProvider implements AuthenticationProvider {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final AuthenticationProvider delegate;
+    private final SecretKey key;
+    // verified principal and authorities, keyed by credentials digest.
+    private final Cache<String, Verified> verified;
+
+    public CachingAuthenticationProvider(AuthenticationProvider delegate, long maximumSize, Duration ttl) {
+        this.delegate = delegate;
+        try {
+            this.key = KeyGenerator.getInstance(HMAC_ALGORITHM).generateKey();
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("HMAC-SHA256 is not available.", ex);
+        }
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        if (authentication.getCredentials() == null) {
+            return delegate.authenticate(authentication);
+        }
+        var digest = digest(authentication.getName(), authentication.getCredentials().toString());
+        var cached = verified.getIfPresent(digest);
+        if (cached != null) {
+            return authenticated(cached, authentication);
+        }
+        var result = delegate.authenticate(authentication);
+        if (result != null && result.isAuthenticated()) {
+            verified.put(digest, new Verified(result.getPrincipal(), result.getAuthorities()));
+        }
+        return result;
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return delegate.supports(authentication);
+    }
+
+    /**
+     * To drop all verified credentials, e.g. after users or passwords are changed.
+     */
+    public void invalidateAll() {
+        verified.invalidateAll();
+    }
+
+    // a new token on every hit, since the authentication manager erases credentials of the returned one.
+    private static Authentication authenticated(Verified cached, Authentication request) {
+        var token = UsernamePasswordAuthenticationToken.authenticated(cached.principal(), null, cached.authorities());
+        token.setDetails(request.getDetails());
+        return token;
+    }
+
+    private String digest(String username, String password) {
+        try {
+            var mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            mac.update(username.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return Base64.getEncoder().encodeToString(mac.doFinal(password.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Unable to digest credentials.", ex);
+        }
+    }
+
+    private record Verified(Object principal, Collection<? extends GrantedAuthority> authorities) {
+    }
+}
@@ -18,6 +18,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * To handle the security on application level.
  */
@@ -36,10 +38,14 @@ public class SecurityConfig {
             "/swagger-resources/**",
             "/swagger-ui/**",
             "/webjars/**",
-            "/swagger-ui.html"
+            "/swagger-ui.html",
+            // liveness and readiness probes of kubernetes and compose, which do not authenticate.
+            "/actuator/health",
+            "/actuator/health/**"
     };
 
     private final BasicAuthConfig basicAuthConfig;
+    private final AuthenticationCacheConfig authenticationCacheConfig;
 
     /**
      * Reading custom configuration properties from property file and creating DOCUMENT, AUTHOR roles with username and password.
@@ -48,14 +54,19 @@ public class SecurityConfig {
      */
     @Bean
     public UserDetailsService userDetailsService() {
+        // BCrypt is slow on purpose, so both passwords are encoded at the same time. The encoder bean is resolved
+        // here, a bean created from another thread would wait for this one.
+        var passwordEncoder = passwordEncoder();
+        var documentPassword = CompletableFuture.supplyAsync(() -> passwordEncoder.encode(basicAuthConfig.document.getPassword()));
+        var authorPassword = CompletableFuture.supplyAsync(() -> passwordEncoder.encode(basicAuthConfig.author.getPassword()));
         // creating DOCUMENT role with username and password
         UserDetails document = User.withUsername(basicAuthConfig.document.getUsername())
-                .password(passwordEncoder().encode(basicAuthConfig.document.getPassword()))
+                .password(documentPassword.join())
                 .roles(basicAuthConfig.document.getRole())
                 .build();
         // creating AUTHOR role with username and password
         UserDetails author = User.withUsername(basicAuthConfig.author.getUsername())
-                .password(passwordEncoder().encode(basicAuthConfig.author.getPassword()))
+                .password(authorPassword.join())
                 .roles(basicAuthConfig.author.getRole())
                 .build();
         // saving roles with username and password in InMemoryUserDetailsManager for further authentication process.
@@ -97,7 +108,8 @@ public class SecurityConfig {
     }
 
     /**
-     * To provide authentication.
+     * To provide authentication, credentials verified with BCrypt are remembered for a while so that repeated
+     * basic auth requests skip the slow hash.
      *
      * @return authentication provider with updated roles, usernames and passwords.
      */
@@ -106,7 +118,14 @@ public class SecurityConfig {
         DaoAuthenticationProvider authenticationProvider=new DaoAuthenticationProvider();
         authenticationProvider.setUserDetailsService(userDetailsService());
         authenticationProvider.setPasswordEncoder(passwordEncoder());
-        return authenticationProvider;
+        if (!authenticationCacheConfig.isEnabled()) {
+            return authenticationProvider;
+        }
+        return new CachingAuthenticationProvider(
+                authenticationProvider,
+                authenticationCacheConfig.getMaximumSize(),
+                authenticationCacheConfig.getTtl()
+        );
     }
 
 }
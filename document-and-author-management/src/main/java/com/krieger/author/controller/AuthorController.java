@@ -1,10 +1,17 @@
 package com.krieger.author.controller;
 
 import com.krieger.author.models.AllAuthorsResponse;
+import com.krieger.author.models.AuthorIdsRequest;
 import com.krieger.author.models.AuthorRequest;
 import com.krieger.author.models.AuthorResponse;
+import com.krieger.author.models.AuthorsByIdsResponse;
+import com.krieger.author.models.BulkPublishRequest;
+import com.krieger.author.models.BulkPublishResponse;
 import com.krieger.author.service.AuthorService;
+import com.krieger.eventbus.AuthorEventBus;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -91,6 +98,30 @@ public class AuthorController {
         return ResponseEntity.ok(service.getAuthorById(authorId));
     }
 
+    /**
+     * Retrieves authors by a list of IDs, e.g. "?ids=3,1,2".
+     *
+     * @param request IDs of the authors to retrieve.
+     * @return Found authors in the order of the IDs and the IDs without an author, with HTTP OK status.
+     */
+    @GetMapping(params = "ids")
+    @PreAuthorize("hasAuthority('ROLE_AUTHOR')")
+    public ResponseEntity<AuthorsByIdsResponse> getAuthorsByIds(@Valid AuthorIdsRequest request) {
+        return ResponseEntity.ok(service.getAuthorsByIds(request.ids()));
+    }
+
+    /**
+     * Retrieves authors by a list of IDs in the request body, when the list does not fit in a URL.
+     *
+     * @param request IDs of the authors to retrieve.
+     * @return Found authors in the order of the IDs and the IDs without an author, with HTTP OK status.
+     */
+    @PostMapping("/by-ids")
+    @PreAuthorize("hasAuthority('ROLE_AUTHOR')")
+    public ResponseEntity<AuthorsByIdsResponse> getAuthorsByIdsInBody(@RequestBody @Valid AuthorIdsRequest request) {
+        return ResponseEntity.ok(service.getAuthorsByIds(request.ids()));
+    }
+
     /**
      * Deletes an author by ID.
      *
@@ -115,4 +146,30 @@ public class AuthorController {
     public ResponseEntity<String> sendAuthorToKafka(@PathVariable("author-id") Long authorId) {
         return ResponseEntity.ok(service.sendAuthorToKafka(authorId));
     }
+
+    /**
+     * Sends authors to kafka in bulk, by IDs, by name filters or all of them when asked for with "all": true.
+     *
+     * @param request authors to send, a request without IDs, filters and "all" is rejected.
+     * @return Number of sent and failed authors with HTTP OK status.
+     */
+    @PostMapping("/send")
+    @PreAuthorize("hasAuthority('ROLE_AUTHOR')")
+    public ResponseEntity<BulkPublishResponse> sendAuthorsToKafka(@RequestBody @Valid BulkPublishRequest request) {
+        return ResponseEntity.ok(service.sendAuthorsToKafka(request));
+    }
+
+    /**
+     * Replays dead-lettered author events back to kafka in batches.
+     *
+     * @param batchSize maximum number of dead-lettered events to replay, between 1 and 1000.
+     * @return Retrieve replayed message with HTTP OK status.
+     */
+    @PostMapping("/dead-letters/replay")
+    @PreAuthorize("hasAuthority('ROLE_AUTHOR')")
+    public ResponseEntity<String> replayDeadLetteredAuthors(
+            @RequestParam(defaultValue = "100") @Positive @Max(AuthorEventBus.MAX_REPLAY_BATCH_SIZE) int batchSize
+    ) {
+        return ResponseEntity.ok(service.replayDeadLetteredAuthors(batchSize));
+    }
 }
@@ -0,0 +1,47 @@
+package com.krieger.author.controller;
+
+import com.krieger.author.models.AuthorResponse;
+import com.krieger.author.service.AuthorStreamService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+/**
+ * To stream authors(AUTHOR role user) as newline delimited JSON, read over R2DBC next to the blocking
+ * AuthorController. The request thread is released once the stream starts, and authors are written as fast
+ * as the client reads them.
+ */
+@RestController
+@RequestMapping("/api/v1/authors")
+@RequiredArgsConstructor
+public class AuthorStreamController {
+
+    private final AuthorStreamService service;
+
+    /**
+     * Streams a page of authors with their documents, one JSON document per line.
+     *
+     * @param firstName Optional filter by the author's first name.
+     * @param lastName Optional filter by the author's last name.
+     * @param page Zero-based page index.
+     * @param size Page size.
+     * @param sort Sorting criteria (comma-separated field,direction pair).
+     * @return stream of authors in sort order.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasAuthority('ROLE_AUTHOR')")
+    public Flux<AuthorResponse> streamAuthors(
+            @RequestParam(required = false) String firstName,
+            @RequestParam(required = false) String lastName,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "1000") int size,
+            @RequestParam(defaultValue = "id,asc") String[] sort
+    ) {
+        return service.streamAuthors(firstName, lastName, page, size, sort);
+    }
+}
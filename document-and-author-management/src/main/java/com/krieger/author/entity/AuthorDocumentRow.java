@@ -0,0 +1,17 @@
+package com.krieger.author.entity;
+
+/**
+ * Read-only R2DBC projection of a document of an author.
+ *
+ * @param authorId ID of the author.
+ * @param documentId ID of the document.
+ * @param title title of the document.
+ * @param body body of the document.
+ */
+public record AuthorDocumentRow(
+        Long authorId,
+        Long documentId,
+        String title,
+        String body
+) {
+}
@@ -0,0 +1,19 @@
+package com.krieger.author.entity;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * Read-only R2DBC mapping of an author row, without the documents of the author.
+ *
+ * @param id author ID.
+ * @param firstName first name of the author.
+ * @param lastName last name of the author.
+ */
+@Table("authors")
+public record AuthorRow(
+        @Id Long id,
+        String firstName,
+        String lastName
+) {
+}
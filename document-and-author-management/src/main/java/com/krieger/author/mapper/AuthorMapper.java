@@ -1,13 +1,20 @@
 package com.krieger.author.mapper;
 
 import com.krieger.author.entity.Author;
+import com.krieger.author.entity.AuthorDocumentRow;
+import com.krieger.author.entity.AuthorRow;
 import com.krieger.author.exception.AuthorRequestException;
 import com.krieger.author.models.AuthorRequest;
 import com.krieger.author.models.AuthorResponse;
+import com.krieger.author.models.AuthorSummary;
 import com.krieger.document.entity.Document;
+import com.krieger.document.entity.DocumentReferenceRow;
 import com.krieger.document.models.DocumentResponse;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -53,6 +60,59 @@ public class AuthorMapper {
                 .build();
     }
 
+    /**
+     * To map author summary to model object, documents are not part of the summary.
+     *
+     * @param summary author identity and name.
+     * @return AuthorResponse model object without documents.
+     */
+    public AuthorResponse toAuthorResponseModel(AuthorSummary summary) {
+        return AuthorResponse.builder()
+                .id(summary.getId())
+                .firstName(summary.getFirstName())
+                .lastName(summary.getLastName())
+                .build();
+    }
+
+    /**
+     * To map author row read over R2DBC, with its documents and their references, to model object.
+     *
+     * @param author author row to map.
+     * @param documents documents of the author.
+     * @param referencesByDocument references of the documents, keyed by document ID.
+     * @return AuthorResponse model object shaped like the one of the Author entity.
+     */
+    public AuthorResponse toAuthorResponseModel(
+            AuthorRow author,
+            Collection<AuthorDocumentRow> documents,
+            Map<Long, Collection<DocumentReferenceRow>> referencesByDocument
+    ) {
+        return AuthorResponse.builder()
+                .id(author.id())
+                .firstName(author.firstName())
+                .lastName(author.lastName())
+                .documents(
+                        documents.stream()
+                                .map(document -> DocumentResponse.builder()
+                                        .id(document.documentId())
+                                        .title(document.title())
+                                        .body(document.body())
+                                        .references(
+                                                referencesByDocument.getOrDefault(document.documentId(), List.of())
+                                                        .stream()
+                                                        .map(reference -> DocumentResponse.builder()
+                                                                .id(reference.referenceId())
+                                                                .title(reference.title())
+                                                                .body(reference.body())
+                                                                .build())
+                                                        .collect(Collectors.toSet())
+                                        )
+                                        .build())
+                                .collect(Collectors.toSet())
+                )
+                .build();
+    }
+
     /**
      * To map document entity to document response object.
      * @param document entity object to map.
@@ -0,0 +1,21 @@
+package com.krieger.author.models;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * To accept the IDs of authors to get at once, from the "ids" query parameter or from the request body.
+ *
+ * @param ids of the authors, in the order they are returned.
+ */
+public record AuthorIdsRequest(
+        @NotEmpty(message = "Author IDs should not be null or empty.")
+        @Size(max = AuthorIdsRequest.MAX_IDS, message = "At most " + AuthorIdsRequest.MAX_IDS + " author IDs are allowed.")
+        List<@NotNull Long> ids
+) {
+    // same bound as DocumentIdsRequest.MAX_IDS.
+    public static final int MAX_IDS = 1000;
+}
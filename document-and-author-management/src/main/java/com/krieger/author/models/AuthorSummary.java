@@ -0,0 +1,13 @@
+package com.krieger.author.models;
+
+/**
+ * Projection of author identity and name, read without loading author documents.
+ */
+public interface AuthorSummary {
+
+    Long getId();
+
+    String getFirstName();
+
+    String getLastName();
+}
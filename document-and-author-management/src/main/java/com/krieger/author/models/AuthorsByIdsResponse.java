@@ -0,0 +1,15 @@
+package com.krieger.author.models;
+
+import java.util.List;
+
+/**
+ * To send the authors found for a list of IDs to UI.
+ *
+ * @param content the found authors, in the order of the requested IDs, each ID once.
+ * @param missingIds the requested IDs without an author, in the order they were requested.
+ */
+public record AuthorsByIdsResponse(
+        List<AuthorResponse> content,
+        List<Long> missingIds
+) {
+}
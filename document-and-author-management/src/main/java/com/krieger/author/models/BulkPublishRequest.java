@@ -0,0 +1,38 @@
+package com.krieger.author.models;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+
+/**
+ * To accept the authors to send to kafka in bulk, either by IDs, by name filters or all of them.
+ * Sending all authors has to be asked for explicitly, every sent author event deletes the author.
+ *
+ * @param authorIds IDs of the authors to send, filters are ignored when IDs are present.
+ * @param firstName optional filter by author first name.
+ * @param lastName optional filter by author last name.
+ * @param all true to send all authors, only when no IDs and no filters are given.
+ */
+public record BulkPublishRequest(
+        @Size(min = 1, max = AuthorIdsRequest.MAX_IDS, message = "Between 1 and " + AuthorIdsRequest.MAX_IDS + " author IDs are allowed.")
+        List<@NotNull Long> authorIds,
+        String firstName,
+        String lastName,
+        Boolean all
+) {
+
+    @JsonIgnore
+    @AssertTrue(message = "Author IDs, a name filter or all should be given.")
+    public boolean isSelective() {
+        return authorIds != null || hasFilter() || Boolean.TRUE.equals(all);
+    }
+
+    @JsonIgnore
+    public boolean hasFilter() {
+        return StringUtils.hasText(firstName) || StringUtils.hasText(lastName);
+    }
+}
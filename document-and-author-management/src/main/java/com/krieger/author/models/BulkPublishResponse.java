@@ -0,0 +1,13 @@
+package com.krieger.author.models;
+
+/**
+ * To send the outcome of a bulk send to UI.
+ *
+ * @param sent number of authors accepted by kafka.
+ * @param failed number of authors which could not be sent.
+ */
+public record BulkPublishResponse(
+        long sent,
+        long failed
+) {
+}
@@ -0,0 +1,28 @@
+package com.krieger.author.repository;
+
+import com.krieger.author.entity.AuthorDocumentRow;
+import com.krieger.author.entity.AuthorRow;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.util.Collection;
+
+/**
+ * To provide non-blocking reads of authors over R2DBC, on the same tables as AuthorRepository.
+ */
+@Repository
+public interface AuthorReadRepository extends R2dbcRepository<AuthorRow, Long> {
+    // page of all authors.
+    Flux<AuthorRow> findAllBy(Pageable pageable);
+    // accept author firstName and lastName both parameters with pagination to return response.
+    Flux<AuthorRow> findAllByFirstNameAndLastName(String firstName, String lastName, Pageable pageable);
+    // accept author firstName or lastName at least one parameter with pagination to return response.
+    Flux<AuthorRow> findAllByFirstNameOrLastName(String firstName, String lastName, Pageable pageable);
+    // documents of all given authors in one query.
+    @Query("SELECT da.author_id, d.id AS document_id, d.title, d.body FROM document_authors da " +
+            "JOIN documents d ON d.id = da.document_id WHERE da.author_id IN (:authorIds)")
+    Flux<AuthorDocumentRow> findDocumentsOfAuthors(Collection<Long> authorIds);
+}
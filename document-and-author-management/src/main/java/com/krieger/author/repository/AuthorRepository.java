@@ -1,11 +1,23 @@
 package com.krieger.author.repository;
 
 import com.krieger.author.entity.Author;
+import com.krieger.author.entity.AuthorDocumentRow;
+import com.krieger.author.entity.AuthorRow;
+import com.krieger.author.models.AuthorSummary;
+import com.krieger.document.entity.DocumentReferenceRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
 /**
  * To provides data access operations for Author entities.
  */
@@ -15,4 +27,27 @@ public interface AuthorRepository extends JpaRepository<Author, Long> {
     Page<Author> findAllByFirstNameAndLastName(String firstName, String lastName, Pageable pageable);
     // accept author firstName or lastName at least one parameter with pagination to return response.
     Page<Author> findAllByFirstNameOrLastName(String firstName, String lastName, Pageable pageable);
+    // stream author summaries of given IDs from a DB cursor, without loading author documents.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT a.id AS id, a.firstName AS firstName, a.lastName AS lastName FROM Author a " +
+            "WHERE a.id IN :authorIds ORDER BY a.id")
+    Stream<AuthorSummary> streamAllByIdIn(Collection<Long> authorIds);
+    // stream author summaries matching the optional name filters from a DB cursor, without loading author documents.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT a.id AS id, a.firstName AS firstName, a.lastName AS lastName FROM Author a " +
+            "WHERE (:firstName IS NULL OR a.firstName = :firstName) " +
+            "AND (:lastName IS NULL OR a.lastName = :lastName) ORDER BY a.id")
+    Stream<AuthorSummary> streamAllByName(String firstName, String lastName);
+    // rows of all given authors in one query, without loading their eager documents.
+    @Query("SELECT new com.krieger.author.entity.AuthorRow(a.id, a.firstName, a.lastName) FROM Author a " +
+            "WHERE a.id IN :authorIds")
+    List<AuthorRow> findRowsByIdIn(Collection<Long> authorIds);
+    // documents of all given authors in one query.
+    @Query("SELECT new com.krieger.author.entity.AuthorDocumentRow(a.id, d.id, d.title, d.body) " +
+            "FROM Author a JOIN a.documents d WHERE a.id IN :authorIds")
+    List<AuthorDocumentRow> findDocumentRowsOfAuthors(Collection<Long> authorIds);
+    // references of the documents of all given authors in one query, documents shared by authors only once.
+    @Query("SELECT DISTINCT new com.krieger.document.entity.DocumentReferenceRow(d.id, r.id, r.title, r.body) " +
+            "FROM Author a JOIN a.documents d JOIN d.references r WHERE a.id IN :authorIds")
+    List<DocumentReferenceRow> findReferenceRowsOfAuthorDocuments(Collection<Long> authorIds);
 }
@@ -3,6 +3,12 @@ package com.krieger.author.service;
 import com.krieger.author.models.AllAuthorsResponse;
 import com.krieger.author.models.AuthorRequest;
 import com.krieger.author.models.AuthorResponse;
+import com.krieger.author.models.AuthorsByIdsResponse;
+import com.krieger.author.models.BulkPublishRequest;
+import com.krieger.author.models.BulkPublishResponse;
+
+import java.util.List;
+import java.util.Map;
 
 /**
  * Delegate all requests to implementation layer to get appropriate response.
@@ -17,7 +23,15 @@ public interface AuthorService {
 
     AuthorResponse getAuthorById(Long authorId);
 
+    AuthorsByIdsResponse getAuthorsByIds(List<Long> authorIds);
+
+    Map<Long, AuthorResponse> loadAuthorsByIds(List<Long> authorIds);
+
     void deleteAuthorById(Long authorId);
 
     String sendAuthorToKafka(Long authorId);
+
+    BulkPublishResponse sendAuthorsToKafka(BulkPublishRequest request);
+
+    String replayDeadLetteredAuthors(int batchSize);
 }
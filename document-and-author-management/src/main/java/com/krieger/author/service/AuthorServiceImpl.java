@@ -1,23 +1,50 @@
 package com.krieger.author.service;
 
+import com.krieger.author.entity.Author;
+import com.krieger.author.entity.AuthorDocumentRow;
+import com.krieger.author.entity.AuthorRow;
 import com.krieger.author.exception.AuthorNotFoundException;
 import com.krieger.author.mapper.AuthorMapper;
 import com.krieger.author.models.AuthorRequest;
 import com.krieger.author.models.AuthorResponse;
+import com.krieger.author.models.AuthorSummary;
+import com.krieger.author.models.AuthorsByIdsResponse;
+import com.krieger.author.models.BulkPublishRequest;
+import com.krieger.author.models.BulkPublishResponse;
 import com.krieger.author.models.AllAuthorsResponse;
 import com.krieger.author.models.CustomSort;
 import com.krieger.author.models.CustomPageable;
 import com.krieger.author.repository.AuthorRepository;
-import com.krieger.kafka.KafkaProducer;
+import com.krieger.cache.CacheNames;
+import com.krieger.cache.CachedMultiGet;
+import com.krieger.document.entity.DocumentReferenceRow;
+import com.krieger.eventbus.AuthorEventBus;
+import com.krieger.eventbus.EventBusConfig;
+import com.krieger.kafka.models.EntityChangeEvent;
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import static com.krieger.kafka.models.EntityChangeEvent.EntityType.AUTHOR;
+import static com.krieger.kafka.models.EntityChangeEvent.EntityType.DOCUMENT;
 import static java.lang.String.format;
 
 /**
@@ -29,7 +56,10 @@ public class AuthorServiceImpl implements AuthorService {
 
     private final AuthorRepository repository;
     private final AuthorMapper mapper;
-    private final KafkaProducer kafkaProducer;
+    private final AuthorEventBus authorEventBus;
+    private final EventBusConfig eventBusConfig;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheManager cacheManager;
 
     /**
      * To save author information.
@@ -39,11 +69,13 @@ public class AuthorServiceImpl implements AuthorService {
      */
     public AuthorResponse saveAuthor(AuthorRequest request) {
         // convert saved author entity to model object.
-        return mapper.toAuthorResponseModel(
+        var authorResponse = mapper.toAuthorResponseModel(
                 repository.save(
                         mapper.toAuthorEntity(request) // convert model to entity before saving to DB.
                 )
         );
+        eventPublisher.publishEvent(EntityChangeEvent.created(AUTHOR, authorResponse.getId(), authorResponse));
+        return authorResponse;
     }
 
     /**
@@ -55,12 +87,16 @@ public class AuthorServiceImpl implements AuthorService {
      */
     public AuthorResponse updateAuthor(AuthorRequest request, Long authorId) {
         // find author before updating it.
-        findAuthorByAuthorId(authorId, "No author found with specified ID : %s to update.");
+        var before = mapper.toAuthorResponseModel(
+                findAuthorByAuthorId(authorId, "No author found with specified ID : %s to update.")
+        );
         // convert model object to entity.
         var authorEntity = mapper.toAuthorEntity(request);
         authorEntity.setId(authorId);
         // convert saved author entity to author response object.
-        return mapper.toAuthorResponseModel(repository.save(authorEntity));
+        var after = mapper.toAuthorResponseModel(repository.save(authorEntity));
+        eventPublisher.publishEvent(EntityChangeEvent.updated(AUTHOR, authorId, before, after));
+        return after;
     }
 
     /**
@@ -68,10 +104,11 @@ public class AuthorServiceImpl implements AuthorService {
      *
      * @param authorId to identify author.
      * @param format generic message format to send proper error message.
+     * @return found author entity.
      * @throws AuthorNotFoundException when there is no author found with specified authorId.
      */
-    private void findAuthorByAuthorId(Long authorId, String format) {
-        repository.findById(authorId).orElseThrow(
+    private Author findAuthorByAuthorId(Long authorId, String format) {
+        return repository.findById(authorId).orElseThrow(
                 // if there is no author found, we need to send exception message to user/client.
                 () -> new AuthorNotFoundException(
                         format(format, authorId)
@@ -151,10 +188,57 @@ public class AuthorServiceImpl implements AuthorService {
      * @param authorId is used to identify Author resource.
      * @return fetched identified Author resource information.
      */
+    @Cacheable(CacheNames.AUTHORS)
     public AuthorResponse getAuthorById(Long authorId) {
         return getAuthorResponseByAuthorId(authorId, "No author found with specified ID : %s fetch.");
     }
 
+    /**
+     * To find authors by a list of IDs, cached authors from the author cache and all others with three queries in
+     * total(authors, their documents and the references of those documents), however many IDs are requested.
+     *
+     * @param authorIds IDs of the authors, duplicates are returned once.
+     * @return found authors in the order of the requested IDs and the IDs without an author.
+     */
+    public AuthorsByIdsResponse getAuthorsByIds(List<Long> authorIds) {
+        var result = CachedMultiGet.get(
+                cacheManager.getCache(CacheNames.AUTHORS),
+                authorIds,
+                AuthorResponse.class,
+                this::loadAuthorsByIds
+        );
+        return new AuthorsByIdsResponse(result.content(), result.missingIds());
+    }
+
+    /**
+     * To load authors with their documents and the references of those documents, without loading the entities and
+     * their eager relations recursively. Always read from DB, the author cache is neither read nor filled.
+     *
+     * @param authorIds IDs of the authors to load.
+     * @return found authors by ID.
+     */
+    public Map<Long, AuthorResponse> loadAuthorsByIds(List<Long> authorIds) {
+        var authors = repository.findRowsByIdIn(authorIds);
+        if (authors.isEmpty()) {
+            return Map.of();
+        }
+        var foundIds = authors.stream().map(AuthorRow::id).toList();
+        Map<Long, List<AuthorDocumentRow>> documentsByAuthor = repository.findDocumentRowsOfAuthors(foundIds)
+                .stream()
+                .collect(Collectors.groupingBy(AuthorDocumentRow::authorId));
+        Map<Long, Collection<DocumentReferenceRow>> referencesByDocument = repository.findReferenceRowsOfAuthorDocuments(foundIds)
+                .stream()
+                .collect(Collectors.groupingBy(DocumentReferenceRow::documentId, Collectors.toCollection(ArrayList::new)));
+        return authors.stream().collect(Collectors.toMap(
+                AuthorRow::id,
+                author -> mapper.toAuthorResponseModel(
+                        author,
+                        documentsByAuthor.getOrDefault(author.id(), List.of()),
+                        referencesByDocument
+                )
+        ));
+    }
+
     /**
      * To find author details by authorId and map to author response object.
      *
@@ -181,12 +265,21 @@ public class AuthorServiceImpl implements AuthorService {
      * @param authorId is used to identify author resource in DB to delete.
      */
     public void deleteAuthorById(Long authorId) {
-        findAuthorByAuthorId(authorId, "No author found with specified ID : %s to delete.");
+        var before = mapper.toAuthorResponseModel(
+                findAuthorByAuthorId(authorId, "No author found with specified ID : %s to delete.")
+        );
         repository.deleteById(authorId);
+        eventPublisher.publishEvent(EntityChangeEvent.deleted(AUTHOR, authorId, before));
+        // author documents are removed along with the author.
+        if (before.getDocuments() != null) {
+            before.getDocuments().forEach(
+                    document -> eventPublisher.publishEvent(EntityChangeEvent.deleted(DOCUMENT, document.getId(), document))
+            );
+        }
     }
 
     /**
-     * To send author information to kafka by ID.
+     * To send author information to the event bus(kafka, unless configured otherwise) by ID.
      *
      * @param authorId - used to identify resource to send to kafka.
      * @return success response or exception message to UI.
@@ -196,7 +289,74 @@ public class AuthorServiceImpl implements AuthorService {
                 authorId,
                 "No author found with specified ID : %s to send to kafka."
         );
-        kafkaProducer.sendAuthorInformation(authorResponse);
+        authorEventBus.publish(authorResponse);
         return format("Successfully Sent Author : %s Information to Kafka", authorId);
     }
+
+    /**
+     * To send all requested authors to kafka, streamed from a DB cursor so that memory stays flat regardless of
+     * number of authors. Number of sends in flight is bounded, streaming waits for a free slot(backpressure).
+     *
+     * @param request authors to send, by IDs or by name filters.
+     * @return number of sent and failed authors.
+     */
+    @Transactional
+    public BulkPublishResponse sendAuthorsToKafka(BulkPublishRequest request) {
+        var maxInFlight = eventBusConfig.getBulkPublishMaxInFlight();
+        var inFlight = new Semaphore(maxInFlight);
+        var sent = new AtomicLong();
+        var failed = new AtomicLong();
+        try (Stream<AuthorSummary> authors = streamAuthors(request)) {
+            authors.forEach(author -> {
+                inFlight.acquireUninterruptibly();
+                CompletableFuture<?> send;
+                try {
+                    send = authorEventBus.publish(mapper.toAuthorResponseModel(author));
+                } catch (RuntimeException ex) {
+                    send = CompletableFuture.failedFuture(ex);
+                }
+                send.whenComplete((result, ex) -> {
+                    (ex == null ? sent : failed).incrementAndGet();
+                    inFlight.release();
+                });
+            });
+        }
+        // wait for the sends still in flight.
+        inFlight.acquireUninterruptibly(maxInFlight);
+        return new BulkPublishResponse(sent.get(), failed.get());
+    }
+
+    /**
+     * To stream summaries of the requested authors, IDs take precedence over name filters. All authors are streamed
+     * only when asked for, a request without IDs and filters streams none otherwise.
+     *
+     * @param request authors to stream.
+     * @return stream of author summaries, to be closed by the caller.
+     */
+    private Stream<AuthorSummary> streamAuthors(BulkPublishRequest request) {
+        if (request.authorIds() != null) {
+            return repository.streamAllByIdIn(request.authorIds());
+        }
+        if (request.hasFilter()) {
+            return repository.streamAllByName(
+                    StringUtils.hasText(request.firstName()) ? request.firstName() : null,
+                    StringUtils.hasText(request.lastName()) ? request.lastName() : null
+            );
+        }
+        if (Boolean.TRUE.equals(request.all())) {
+            return repository.streamAllByName(null, null);
+        }
+        return Stream.empty();
+    }
+
+    /**
+     * To replay dead-lettered author events back to the event bus.
+     *
+     * @param batchSize maximum number of dead-lettered events to replay.
+     * @return success response with number of replayed events.
+     */
+    public String replayDeadLetteredAuthors(int batchSize) {
+        var replayed = authorEventBus.replayDeadLetters(batchSize);
+        return format("Successfully Replayed %s Dead-Lettered Author Events to Kafka", replayed);
+    }
 }
@@ -0,0 +1,12 @@
+package com.krieger.author.service;
+
+import com.krieger.author.models.AuthorResponse;
+import reactor.core.publisher.Flux;
+
+/**
+ * Delegate all streaming read requests to implementation to get appropriate responses.
+ */
+public interface AuthorStreamService {
+
+    Flux<AuthorResponse> streamAuthors(String firstName, String lastName, int page, int size, String[] sort);
+}
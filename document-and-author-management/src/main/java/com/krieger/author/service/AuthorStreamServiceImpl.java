@@ -0,0 +1,96 @@
+package com.krieger.author.service;
+
+import com.krieger.author.entity.AuthorDocumentRow;
+import com.krieger.author.entity.AuthorRow;
+import com.krieger.author.mapper.AuthorMapper;
+import com.krieger.author.models.AuthorResponse;
+import com.krieger.author.repository.AuthorReadRepository;
+import com.krieger.document.entity.DocumentReferenceRow;
+import com.krieger.document.repository.DocumentReadRepository;
+import com.krieger.reactive.ReactiveReadConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * To stream authors over R2DBC without holding a thread per request. Rows are read as the client consumes them,
+ * and documents with their references are looked up once per batch of rows instead of once per author.
+ */
+@Service
+@RequiredArgsConstructor
+public class AuthorStreamServiceImpl implements AuthorStreamService {
+
+    private final AuthorReadRepository repository;
+    private final DocumentReadRepository documentReadRepository;
+    private final AuthorMapper mapper;
+    private final ReactiveReadConfig config;
+
+    /**
+     * To stream a page of authors, optionally filtered by first and last name like getAllAuthors.
+     *
+     * @param firstName Optional filter by the author's first name.
+     * @param lastName Optional filter by the author's last name.
+     * @param page      The page number to retrieve, starting from 0.
+     * @param size      The number of records per page, capped at the configured maximum.
+     * @param sort      An array containing the sort field and direction ("asc" or "desc").
+     * @return authors of the page in sort order, emitted as they are read.
+     */
+    public Flux<AuthorResponse> streamAuthors(String firstName, String lastName, int page, int size, String[] sort) {
+        Sort.Direction direction =
+                sort[1].equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
+        Pageable pageable = PageRequest.of(page, Math.min(size, config.getMaxPageSize()), Sort.by(direction, sort[0]));
+        Flux<AuthorRow> authors;
+        if (firstName != null && lastName != null) {
+            authors = repository.findAllByFirstNameAndLastName(firstName, lastName, pageable);
+        } else if (firstName != null || lastName != null) {
+            authors = repository.findAllByFirstNameOrLastName(firstName, lastName, pageable);
+        } else {
+            authors = repository.findAllBy(pageable);
+        }
+        // one batch at a time, so that no more rows are read than the client is about to consume.
+        return authors
+                .buffer(config.getBatchSize())
+                .concatMap(this::withDocuments, 1);
+    }
+
+    /**
+     * To load documents of a batch of authors and references of those documents, two queries for the whole batch.
+     *
+     * @param authors batch of author rows.
+     * @return authors of the batch in the same order, with their documents.
+     */
+    private Flux<AuthorResponse> withDocuments(List<AuthorRow> authors) {
+        var authorIds = authors.stream().map(AuthorRow::id).toList();
+        return repository.findDocumentsOfAuthors(authorIds)
+                .collectMultimap(AuthorDocumentRow::authorId)
+                .flatMap(documentsByAuthor -> referencesOf(documentsByAuthor)
+                        .map(referencesByDocument -> authors.stream()
+                                .map(author -> mapper.toAuthorResponseModel(
+                                        author,
+                                        documentsByAuthor.getOrDefault(author.id(), List.of()),
+                                        referencesByDocument
+                                ))
+                                .toList()))
+                .flatMapIterable(responses -> responses);
+    }
+
+    private Mono<Map<Long, Collection<DocumentReferenceRow>>> referencesOf(Map<Long, Collection<AuthorDocumentRow>> documentsByAuthor) {
+        var documentIds = documentsByAuthor.values().stream()
+                .flatMap(Collection::stream)
+                .map(AuthorDocumentRow::documentId)
+                .distinct()
+                .toList();
+        if (documentIds.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        return documentReadRepository.findReferencesOfDocuments(documentIds).collectMultimap(DocumentReferenceRow::documentId);
+    }
+}
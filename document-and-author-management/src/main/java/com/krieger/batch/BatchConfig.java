@@ -0,0 +1,17 @@
+package com.krieger.batch;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * To read specific("batch") properties from properties(.yml, .yaml or .properties) file.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "batch")
+@Data
+public class BatchConfig {
+
+    // reads of one batch running at the same time, each on its own DB connection.
+    private int concurrency = 4;
+}
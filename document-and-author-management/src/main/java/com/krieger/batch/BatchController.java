@@ -0,0 +1,33 @@
+package com.krieger.batch;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * To accept batches of document and author requests(any authenticated user) and delegate to the batch service.
+ * Authorities are checked per sub-request, like for the standalone requests.
+ */
+@RestController
+@RequestMapping("/api/v1/batch")
+@RequiredArgsConstructor
+public class BatchController {
+
+    private final BatchService service;
+
+    /**
+     * Runs the sub-requests of a batch, e.g.
+     * {"requests": [{"id": "doc", "method": "GET", "path": "/api/v1/documents/1"}, ...]}.
+     *
+     * @param request Sub-requests, in the order they are applied.
+     * @return One response per sub-request, each with its own status, with HTTP OK status.
+     */
+    @PostMapping
+    public ResponseEntity<BatchResponse> executeBatch(@RequestBody @Valid BatchRequest request) {
+        return ResponseEntity.ok(service.execute(request));
+    }
+}
@@ -0,0 +1,22 @@
+package com.krieger.batch;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * Represents one sub-request of a batch, written like the standalone request.
+ *
+ * @param id optional client reference, returned with the response.
+ * @param method HTTP method, e.g. "GET".
+ * @param path path with query string, e.g. "/api/v1/documents?ids=1,2".
+ * @param body request body of POST and PUT requests.
+ */
+public record BatchOperation(
+        String id,
+        @NotBlank(message = "Batch request method should not be null or empty.")
+        String method,
+        @NotBlank(message = "Batch request path should not be null or empty.")
+        String path,
+        JsonNode body
+) {
+}
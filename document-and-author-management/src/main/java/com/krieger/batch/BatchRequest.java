@@ -0,0 +1,22 @@
+package com.krieger.batch;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Represents the sub-requests of a batch, answered in the same order.
+ *
+ * @param requests sub-requests against the document and author endpoints.
+ */
+public record BatchRequest(
+        @NotEmpty(message = "Batch requests should not be null or empty.")
+        @Size(max = BatchRequest.MAX_REQUESTS, message = "At most " + BatchRequest.MAX_REQUESTS + " requests are allowed in a batch.")
+        List<@NotNull @Valid BatchOperation> requests
+) {
+    // a batch holds its request thread until all sub-requests completed.
+    public static final int MAX_REQUESTS = 50;
+}
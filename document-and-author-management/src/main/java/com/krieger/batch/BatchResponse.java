@@ -0,0 +1,13 @@
+package com.krieger.batch;
+
+import java.util.List;
+
+/**
+ * Represents the responses of a batch.
+ *
+ * @param responses one per sub-request, in the order of the sub-requests.
+ */
+public record BatchResponse(
+        List<BatchResult> responses
+) {
+}
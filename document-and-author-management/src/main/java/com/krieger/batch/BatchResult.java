@@ -0,0 +1,18 @@
+package com.krieger.batch;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Represents the response of one sub-request, as the standalone request would have responded.
+ *
+ * @param id client reference of the sub-request.
+ * @param status HTTP status code.
+ * @param body response body, or the error message.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchResult(
+        String id,
+        int status,
+        Object body
+) {
+}
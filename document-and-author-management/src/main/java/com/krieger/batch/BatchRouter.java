@@ -0,0 +1,226 @@
+package com.krieger.batch;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.krieger.author.controller.AuthorController;
+import com.krieger.author.models.AuthorIdsRequest;
+import com.krieger.author.models.AuthorRequest;
+import com.krieger.document.controller.DocumentController;
+import com.krieger.document.models.DocumentIdsRequest;
+import com.krieger.document.models.DocumentRequest;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import static java.lang.String.format;
+
+/**
+ * To resolve a sub-request of a batch to the controller method serving the standalone request. Controllers are called
+ * through their proxies, so that every sub-request passes the same authority check as the standalone request, and
+ * request bodies and ID lists are validated like request bodies are.
+ */
+@Component
+@RequiredArgsConstructor
+public class BatchRouter {
+
+    private static final PathPattern DOCUMENTS = PathPatternParser.defaultInstance.parse("/api/v1/documents");
+    private static final PathPattern DOCUMENT = PathPatternParser.defaultInstance.parse("/api/v1/documents/{document-id}");
+    private static final PathPattern AUTHORS = PathPatternParser.defaultInstance.parse("/api/v1/authors");
+    private static final PathPattern AUTHOR = PathPatternParser.defaultInstance.parse("/api/v1/authors/{author-id}");
+
+    private final DocumentController documentController;
+    private final AuthorController authorController;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    /**
+     * To find the controller method of the sub-request. Arguments are converted when it is called, so that invalid
+     * ones fail the sub-request only.
+     *
+     * @param operation sub-request.
+     * @return call of the controller method, and whether it changes data.
+     * @throws ResponseStatusException when there is no such document or author operation.
+     */
+    public Route route(BatchOperation operation) {
+        var method = operation.method().toUpperCase(Locale.ROOT);
+        var uri = UriComponentsBuilder.fromUriString(operation.path()).build();
+        var path = PathContainer.parsePath(Objects.requireNonNullElse(uri.getPath(), ""));
+        Supplier<ResponseEntity<?>> call = switch (method) {
+            case "GET" -> get(path, uri.getQueryParams());
+            case "POST" -> post(path, operation.body());
+            case "PUT" -> put(path, operation.body());
+            case "DELETE" -> delete(path);
+            default -> null;
+        };
+        if (call == null) {
+            throw new ResponseStatusException(
+                    HttpStatus.NOT_FOUND,
+                    format("No batch operation found for %s %s.", method, uri.getPath())
+            );
+        }
+        return new Route(!method.equals("GET"), call);
+    }
+
+    private Supplier<ResponseEntity<?>> get(PathContainer path, MultiValueMap<String, String> params) {
+        if (DOCUMENTS.matches(path)) {
+            if (params.containsKey("ids")) {
+                return () -> documentController.getDocumentsByIds(valid(new DocumentIdsRequest(ids(params))));
+            }
+            return () -> documentController.getAllDocuments(
+                    param(params, "title"), param(params, "body"), page(params), size(params), sort(params)
+            );
+        }
+        if (AUTHORS.matches(path)) {
+            if (params.containsKey("ids")) {
+                return () -> authorController.getAuthorsByIds(valid(new AuthorIdsRequest(ids(params))));
+            }
+            return () -> authorController.getAllAuthors(
+                    param(params, "firstName"), param(params, "lastName"), page(params), size(params), sort(params)
+            );
+        }
+        var document = DOCUMENT.matchAndExtract(path);
+        if (document != null) {
+            return () -> documentController.getDocumentById(id(document.getUriVariables().get("document-id")));
+        }
+        var author = AUTHOR.matchAndExtract(path);
+        if (author != null) {
+            return () -> authorController.getAuthorById(id(author.getUriVariables().get("author-id")));
+        }
+        return null;
+    }
+
+    private Supplier<ResponseEntity<?>> post(PathContainer path, JsonNode body) {
+        if (DOCUMENTS.matches(path)) {
+            return () -> documentController.saveDocument(body(body, DocumentRequest.class));
+        }
+        if (AUTHORS.matches(path)) {
+            return () -> authorController.saveAuthor(body(body, AuthorRequest.class));
+        }
+        return null;
+    }
+
+    private Supplier<ResponseEntity<?>> put(PathContainer path, JsonNode body) {
+        var document = DOCUMENT.matchAndExtract(path);
+        if (document != null) {
+            return () -> documentController.updateDocument(
+                    body(body, DocumentRequest.class), id(document.getUriVariables().get("document-id"))
+            );
+        }
+        var author = AUTHOR.matchAndExtract(path);
+        if (author != null) {
+            return () -> authorController.updateAuthor(
+                    body(body, AuthorRequest.class), id(author.getUriVariables().get("author-id"))
+            );
+        }
+        return null;
+    }
+
+    private Supplier<ResponseEntity<?>> delete(PathContainer path) {
+        var document = DOCUMENT.matchAndExtract(path);
+        if (document != null) {
+            return () -> documentController.deleteDocumentById(id(document.getUriVariables().get("document-id")));
+        }
+        var author = AUTHOR.matchAndExtract(path);
+        if (author != null) {
+            return () -> authorController.deleteAuthorById(id(author.getUriVariables().get("author-id")));
+        }
+        return null;
+    }
+
+    private <T> T body(JsonNode body, Class<T> type) {
+        if (body == null || body.isNull()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Request body should not be null.");
+        }
+        try {
+            return valid(objectMapper.treeToValue(body, type));
+        } catch (JsonProcessingException | IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Request body is not readable: " + ex.getMessage());
+        }
+    }
+
+    private <T> T valid(T value) {
+        var violations = validator.validate(value);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+        return value;
+    }
+
+    // "ids=1,2" and "ids=1&ids=2" alike.
+    private List<Long> ids(MultiValueMap<String, String> params) {
+        return params.get("ids").stream()
+                .flatMap(value -> Arrays.stream(decode(value).split(",")))
+                .filter(id -> !id.isBlank())
+                .map(this::id)
+                .toList();
+    }
+
+    private Long id(String value) {
+        try {
+            return Long.valueOf(value.trim());
+        } catch (NumberFormatException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, format("Invalid ID : %s.", value));
+        }
+    }
+
+    private String param(MultiValueMap<String, String> params, String name) {
+        var value = params.getFirst(name);
+        return value != null ? decode(value) : null;
+    }
+
+    private int page(MultiValueMap<String, String> params) {
+        return number(params, "page", 0);
+    }
+
+    private int size(MultiValueMap<String, String> params) {
+        return number(params, "size", 10);
+    }
+
+    private int number(MultiValueMap<String, String> params, String name, int defaultValue) {
+        var value = param(params, name);
+        try {
+            return value != null ? Integer.parseInt(value) : defaultValue;
+        } catch (NumberFormatException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, format("Invalid %s : %s.", name, value));
+        }
+    }
+
+    // field and direction, "sort=title,desc" and "sort=title&sort=desc" alike, ascending when no direction is given.
+    private String[] sort(MultiValueMap<String, String> params) {
+        var values = params.get("sort");
+        if (values == null) {
+            return new String[]{"id", "asc"};
+        }
+        var sort = values.stream().flatMap(value -> Arrays.stream(decode(value).split(","))).toArray(String[]::new);
+        return sort.length == 1 ? new String[]{sort[0], "asc"} : sort;
+    }
+
+    private static String decode(String value) {
+        return UriUtils.decode(value, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param write whether the sub-request changes data, reads are GET sub-requests.
+     * @param call calls the controller method.
+     */
+    public record Route(boolean write, Supplier<ResponseEntity<?>> call) {
+    }
+}
@@ -0,0 +1,149 @@
+package com.krieger.batch;
+
+import com.krieger.advice.ApplicationGenericExceptionAdvice;
+import com.krieger.advice.GenericErrorMessage;
+import com.krieger.advice.GenericFieldErrorResponse;
+import com.krieger.author.exception.AuthorNotFoundException;
+import com.krieger.document.exception.DocumentNotFoundException;
+import com.krieger.document.exception.DocumentReferenceException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+/**
+ * To run the sub-requests of a batch under the authentication of the batch request. Consecutive reads run at the
+ * same time, each in its own read-only transaction. A write waits for the sub-requests before it and runs alone on
+ * the request thread, so that later sub-requests see its changes. A failed sub-request does not stop the batch, its
+ * error is its response, as the standalone request would have responded.
+ */
+@Service
+public class BatchService {
+
+    private final BatchRouter router;
+    private final BatchConfig config;
+    private final ApplicationGenericExceptionAdvice exceptionAdvice;
+    // reads run off the request thread, within a session like requests are with open-in-view.
+    private final TransactionTemplate readOnlyTransaction;
+
+    public BatchService(
+            BatchRouter router,
+            BatchConfig config,
+            ApplicationGenericExceptionAdvice exceptionAdvice,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.router = router;
+        this.config = config;
+        this.exceptionAdvice = exceptionAdvice;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * To run all sub-requests of the batch.
+     *
+     * @param request sub-requests.
+     * @return one response per sub-request, in the order of the sub-requests.
+     */
+    public BatchResponse execute(BatchRequest request) {
+        var operations = request.requests();
+        var results = new BatchResult[operations.size()];
+        var executor = Executors.newFixedThreadPool(config.getConcurrency(), Thread.ofVirtual().name("batch-", 0).factory());
+        try (var reads = new DelegatingSecurityContextExecutorService(executor, SecurityContextHolder.getContext())) {
+            Map<Integer, Future<BatchResult>> pendingReads = new LinkedHashMap<>();
+            for (int i = 0; i < operations.size(); i++) {
+                var operation = operations.get(i);
+                BatchRouter.Route route;
+                try {
+                    route = router.route(operation);
+                } catch (RuntimeException ex) {
+                    results[i] = failed(operation, ex);
+                    continue;
+                }
+                if (route.write()) {
+                    await(pendingReads, operations, results);
+                    results[i] = execute(operation, route);
+                } else {
+                    pendingReads.put(i, reads.submit(() -> readOnlyTransaction.execute(status -> execute(operation, route))));
+                }
+            }
+            await(pendingReads, operations, results);
+        }
+        return new BatchResponse(Arrays.asList(results));
+    }
+
+    /**
+     * To wait for the pending reads and collect their responses.
+     */
+    private void await(Map<Integer, Future<BatchResult>> pendingReads, List<BatchOperation> operations, BatchResult[] results) {
+        pendingReads.forEach((index, read) -> {
+            try {
+                results[index] = read.get();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for batch requests.", ex);
+            } catch (ExecutionException ex) {
+                // the transaction failed, the sub-request itself does not throw.
+                var cause = ex.getCause() instanceof RuntimeException runtime ? runtime : new IllegalStateException(ex.getCause());
+                results[index] = failed(operations.get(index), cause);
+            }
+        });
+        pendingReads.clear();
+    }
+
+    private BatchResult execute(BatchOperation operation, BatchRouter.Route route) {
+        try {
+            var response = route.call().get();
+            return new BatchResult(operation.id(), response.getStatusCode().value(), response.getBody());
+        } catch (RuntimeException ex) {
+            return failed(operation, ex);
+        }
+    }
+
+    /**
+     * To respond to a failed sub-request like the exception handlers respond to a failed standalone request.
+     * Denied sub-requests are reported as forbidden, so that they can be told apart from failures.
+     *
+     * @param operation failed sub-request.
+     * @param exception cause of the failure.
+     * @return error response of the sub-request.
+     */
+    BatchResult failed(BatchOperation operation, RuntimeException exception) {
+        ResponseEntity<?> response = switch (exception) {
+            case AccessDeniedException denied -> error(HttpStatus.FORBIDDEN, denied.getMessage());
+            case ResponseStatusException status -> error(HttpStatus.valueOf(status.getStatusCode().value()), status.getReason());
+            case ConstraintViolationException violations -> ResponseEntity.badRequest().body(
+                    new GenericFieldErrorResponse(violations.getConstraintViolations().stream().collect(Collectors.toMap(
+                            violation -> violation.getPropertyPath().toString(),
+                            ConstraintViolation::getMessage,
+                            (first, second) -> first
+                    )))
+            );
+            case AuthorNotFoundException notFound -> exceptionAdvice.handleNotFoundExceptions(notFound);
+            case DocumentNotFoundException notFound -> exceptionAdvice.handleNotFoundExceptions(notFound);
+            case DocumentReferenceException reference -> exceptionAdvice.handleDocumentReferenceException(reference);
+            default -> exceptionAdvice.handleAllExceptions(exception);
+        };
+        return new BatchResult(operation.id(), response.getStatusCode().value(), response.getBody());
+    }
+
+    private static ResponseEntity<GenericErrorMessage> error(HttpStatus status, String message) {
+        return ResponseEntity.status(status).body(new GenericErrorMessage(status.name(), message));
+    }
+}
@@ -0,0 +1,123 @@
+package com.krieger.cache;
+
+import com.krieger.author.models.AuthorResponse;
+import com.krieger.document.models.DocumentResponse;
+import com.krieger.document.repository.DocumentRepository;
+import com.krieger.kafka.CacheInvalidationBroadcaster;
+import com.krieger.kafka.SnapshotWriter;
+import com.krieger.kafka.models.EntityChangeEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static com.krieger.cache.CacheNames.AUTHORS;
+import static com.krieger.cache.CacheNames.DOCUMENTS;
+
+/**
+ * To keep cached author and document responses coherent with committed changes.
+ * Affected keys are evicted locally right away and broadcast to other nodes, when running with kafka.
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidator {
+
+    private final CacheManager cacheManager;
+    private final DocumentRepository documentRepository;
+    // absent with in-process event bus, which runs on a single node.
+    private final ObjectProvider<CacheInvalidationBroadcaster> broadcaster;
+    // absent with in-process event bus, no snapshot topic is kept then.
+    private final ObjectProvider<SnapshotWriter> snapshotWriter;
+
+    /**
+     * To invalidate all cached responses affected by the committed change.
+     *
+     * @param event committed change of an author or a document.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChange(EntityChangeEvent event) {
+        var keys = affectedKeys(event);
+        evict(keys);
+        broadcaster.ifAvailable(cacheInvalidationBroadcaster -> cacheInvalidationBroadcaster.broadcast(keys));
+    }
+
+    /**
+     * To capture the snapshots of all responses affected by the change, while its transaction is still open.
+     *
+     * @param event change of an author or a document, about to be committed.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void captureSnapshots(EntityChangeEvent event) {
+        snapshotWriter.ifAvailable(writer -> writer.capture(affectedKeys(event)));
+    }
+
+    /**
+     * To evict the keys from local caches.
+     *
+     * @param keys IDs to evict by cache name.
+     */
+    public void evict(Map<String, Set<Long>> keys) {
+        keys.forEach((cacheName, ids) -> {
+            var cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                ids.forEach(cache::evict);
+            }
+        });
+    }
+
+    /**
+     * Responses embed related entities(author with its documents, document with its authors and references),
+     * so a change also affects the cached responses of related entities. Authors embed the references of their
+     * documents too, so a changed document also affects the authors of the documents referencing it.
+     *
+     * @param event committed change.
+     * @return IDs to evict by cache name.
+     */
+    Map<String, Set<Long>> affectedKeys(EntityChangeEvent event) {
+        Map<String, Set<Long>> keys = new HashMap<>();
+        switch (event.entityType()) {
+            case AUTHOR -> {
+                add(keys, AUTHORS, event.entityId());
+                states(event, AuthorResponse.class)
+                        .filter(author -> author.getDocuments() != null)
+                        .flatMap(author -> author.getDocuments().stream())
+                        .forEach(document -> add(keys, DOCUMENTS, document.getId()));
+            }
+            case DOCUMENT -> {
+                add(keys, DOCUMENTS, event.entityId());
+                states(event, DocumentResponse.class)
+                        .filter(document -> document.getAuthors() != null)
+                        .flatMap(document -> document.getAuthors().stream())
+                        .forEach(author -> add(keys, AUTHORS, author.getId()));
+                // documents embedding this one as a reference, and their authors embedding those documents.
+                if (event.changeType() != EntityChangeEvent.ChangeType.CREATED) {
+                    documentRepository.findIdsOfDocumentsReferencing(event.entityId())
+                            .forEach(documentId -> add(keys, DOCUMENTS, documentId));
+                    documentRepository.findAuthorIdsOfDocumentsReferencing(event.entityId())
+                            .forEach(authorId -> add(keys, AUTHORS, authorId));
+                }
+            }
+        }
+        return keys;
+    }
+
+    private static <T> Stream<T> states(EntityChangeEvent event, Class<T> type) {
+        return Stream.of(event.before(), event.after())
+                .filter(type::isInstance)
+                .map(type::cast);
+    }
+
+    private static void add(Map<String, Set<Long>> keys, String cacheName, Long id) {
+        if (id != null) {
+            keys.computeIfAbsent(cacheName, name -> new HashSet<>()).add(id);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.krieger.cache;
+
+/**
+ * Names of the caches of author and document responses, configured by "spring.cache.cache-names" property.
+ */
+public final class CacheNames {
+
+    public static final String AUTHORS = "authors";
+    public static final String DOCUMENTS = "documents";
+
+    private CacheNames() {
+    }
+}
@@ -0,0 +1,67 @@
+package com.krieger.cache;
+
+import org.springframework.cache.Cache;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * To get responses of many IDs at once: cached responses are taken from the cache, all others are loaded together
+ * and cached, like @Cacheable does for a single ID.
+ */
+public final class CachedMultiGet {
+
+    private CachedMultiGet() {
+    }
+
+    /**
+     * @param cache cache of the responses, null when caching is not configured.
+     * @param ids requested IDs, duplicates are returned once.
+     * @param type type of the responses.
+     * @param loader loads responses of all given IDs at once, IDs without an entity are left out.
+     * @return found responses in the order of the requested IDs, and the IDs not found.
+     */
+    public static <V> Result<V> get(Cache cache, List<Long> ids, Class<V> type, Function<List<Long>, Map<Long, V>> loader) {
+        var distinctIds = new LinkedHashSet<>(ids);
+        Map<Long, V> found = new HashMap<>();
+        List<Long> uncachedIds = new ArrayList<>();
+        for (Long id : distinctIds) {
+            var cached = cache != null ? cache.get(id, type) : null;
+            if (cached != null) {
+                found.put(id, cached);
+            } else {
+                uncachedIds.add(id);
+            }
+        }
+        if (!uncachedIds.isEmpty()) {
+            loader.apply(uncachedIds).forEach((id, value) -> {
+                found.put(id, value);
+                if (cache != null) {
+                    cache.put(id, value);
+                }
+            });
+        }
+        List<V> content = new ArrayList<>(found.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : distinctIds) {
+            var value = found.get(id);
+            if (value != null) {
+                content.add(value);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return new Result<>(content, missingIds);
+    }
+
+    /**
+     * @param content found responses, in the order of the requested IDs.
+     * @param missingIds requested IDs without an entity, in the order they were requested.
+     */
+    public record Result<V>(List<V> content, List<Long> missingIds) {
+    }
+}
@@ -1,8 +1,10 @@
 package com.krieger.document.controller;
 
 import com.krieger.document.models.AllDocumentsResponse;
+import com.krieger.document.models.DocumentIdsRequest;
 import com.krieger.document.models.DocumentRequest;
 import com.krieger.document.models.DocumentResponse;
+import com.krieger.document.models.DocumentsByIdsResponse;
 import com.krieger.document.service.DocumentService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -89,6 +91,30 @@ public class DocumentController {
         return ResponseEntity.ok(service.getDocumentById(documentId));
     }
 
+    /**
+     * Retrieves documents by a list of IDs, e.g. "?ids=3,1,2".
+     *
+     * @param request IDs of the documents to retrieve.
+     * @return Found documents in the order of the IDs and the IDs without a document, with HTTP OK status.
+     */
+    @GetMapping(params = "ids")
+    @PreAuthorize("hasAuthority('ROLE_DOCUMENT')")
+    public ResponseEntity<DocumentsByIdsResponse> getDocumentsByIds(@Valid DocumentIdsRequest request) {
+        return ResponseEntity.ok(service.getDocumentsByIds(request.ids()));
+    }
+
+    /**
+     * Retrieves documents by a list of IDs given in the request body, for lists too long for a query string.
+     *
+     * @param request IDs of the documents to retrieve.
+     * @return Found documents in the order of the IDs and the IDs without a document, with HTTP OK status.
+     */
+    @PostMapping("/by-ids")
+    @PreAuthorize("hasAuthority('ROLE_DOCUMENT')")
+    public ResponseEntity<DocumentsByIdsResponse> getDocumentsByIdsInBody(@RequestBody @Valid DocumentIdsRequest request) {
+        return ResponseEntity.ok(service.getDocumentsByIds(request.ids()));
+    }
+
     /**
      * Deletes a document by its ID.
      *
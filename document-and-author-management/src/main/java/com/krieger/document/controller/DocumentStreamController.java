@@ -0,0 +1,47 @@
+package com.krieger.document.controller;
+
+import com.krieger.document.models.DocumentResponse;
+import com.krieger.document.service.DocumentStreamService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+/**
+ * To stream documents(DOCUMENT role user) as newline delimited JSON, read over R2DBC next to the blocking
+ * DocumentController. The request thread is released once the stream starts, and documents are written as fast
+ * as the client reads them.
+ */
+@RestController
+@RequestMapping("api/v1/documents")
+@RequiredArgsConstructor
+public class DocumentStreamController {
+
+    private final DocumentStreamService service;
+
+    /**
+     * Streams a page of documents, one JSON document per line.
+     *
+     * @param title Optional filter by the document title.
+     * @param body Optional filter by the document body.
+     * @param page Zero-based page index.
+     * @param size Page size.
+     * @param sort Sorting criteria (comma-separated field,direction pair).
+     * @return stream of documents in sort order.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasAuthority('ROLE_DOCUMENT')")
+    public Flux<DocumentResponse> streamDocuments(
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) String body,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "1000") int size,
+            @RequestParam(defaultValue = "id,asc") String[] sort
+    ) {
+        return service.streamDocuments(title, body, page, size, sort);
+    }
+}
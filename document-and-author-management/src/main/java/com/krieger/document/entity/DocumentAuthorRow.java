@@ -0,0 +1,17 @@
+package com.krieger.document.entity;
+
+/**
+ * Read-only R2DBC projection of an author of a document.
+ *
+ * @param documentId ID of the document.
+ * @param authorId ID of the author.
+ * @param firstName first name of the author.
+ * @param lastName last name of the author.
+ */
+public record DocumentAuthorRow(
+        Long documentId,
+        Long authorId,
+        String firstName,
+        String lastName
+) {
+}
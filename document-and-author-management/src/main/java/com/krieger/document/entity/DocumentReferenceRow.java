@@ -0,0 +1,17 @@
+package com.krieger.document.entity;
+
+/**
+ * Read-only R2DBC projection of a document referenced by a document.
+ *
+ * @param documentId ID of the referencing document.
+ * @param referenceId ID of the referenced document.
+ * @param title title of the referenced document.
+ * @param body body of the referenced document.
+ */
+public record DocumentReferenceRow(
+        Long documentId,
+        Long referenceId,
+        String title,
+        String body
+) {
+}
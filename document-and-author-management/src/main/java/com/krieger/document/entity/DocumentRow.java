@@ -0,0 +1,19 @@
+package com.krieger.document.entity;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * Read-only R2DBC mapping of a document row, without its authors and references.
+ *
+ * @param id document ID.
+ * @param title document title.
+ * @param body document body.
+ */
+@Table("documents")
+public record DocumentRow(
+        @Id Long id,
+        String title,
+        String body
+) {
+}
@@ -4,6 +4,9 @@ import com.krieger.author.entity.Author;
 import com.krieger.author.exception.AuthorNotFoundException;
 import com.krieger.author.models.AuthorResponse;
 import com.krieger.document.entity.Document;
+import com.krieger.document.entity.DocumentAuthorRow;
+import com.krieger.document.entity.DocumentReferenceRow;
+import com.krieger.document.entity.DocumentRow;
 import com.krieger.document.exception.DocumentNotFoundException;
 import com.krieger.document.exception.DocumentReferenceException;
 import com.krieger.document.exception.DocumentRequestException;
@@ -12,6 +15,7 @@ import com.krieger.document.models.DocumentResponse;
 import java.util.Objects;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.stream.Collectors;
 
 /**
@@ -135,4 +139,42 @@ public class DocumentMapper {
                 .body(reference.getBody())
                 .build(); // Build and return the mapped reference as DocumentResponse model.
     }
+
+    /**
+     * Converts a document row read over R2DBC, with its authors and references, into a DocumentResponse model.
+     *
+     * @param document The document row to convert.
+     * @param authors The authors of the document.
+     * @param references The documents referenced by the document.
+     * @return A DocumentResponse model shaped like the one of the Document entity.
+     */
+    public DocumentResponse toDocumentResponseModel(
+            DocumentRow document,
+            Collection<DocumentAuthorRow> authors,
+            Collection<DocumentReferenceRow> references
+    ) {
+        return DocumentResponse.builder()
+                .id(document.id())
+                .title(document.title())
+                .body(document.body())
+                .authors(
+                        authors.stream()
+                                .map(author -> AuthorResponse.builder()
+                                        .id(author.authorId())
+                                        .firstName(author.firstName())
+                                        .lastName(author.lastName())
+                                        .build())
+                                .collect(Collectors.toSet())
+                )
+                .references(
+                        references.stream()
+                                .map(reference -> DocumentResponse.builder()
+                                        .id(reference.referenceId())
+                                        .title(reference.title())
+                                        .body(reference.body())
+                                        .build())
+                                .collect(Collectors.toSet())
+                )
+                .build();
+    }
 }
@@ -0,0 +1,21 @@
+package com.krieger.document.models;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Represents the IDs of documents to get at once, from the "ids" query parameter or from the request body.
+ *
+ * @param ids of the documents, in the order they are returned.
+ */
+public record DocumentIdsRequest(
+    @NotEmpty(message = "Document IDs should not be null or empty.")
+    @Size(max = DocumentIdsRequest.MAX_IDS, message = "At most " + DocumentIdsRequest.MAX_IDS + " document IDs are allowed.")
+    List<@NotNull Long> ids
+) {
+    // keeps the IN list of one query well below the bind parameter limit of the database.
+    public static final int MAX_IDS = 1000;
+}
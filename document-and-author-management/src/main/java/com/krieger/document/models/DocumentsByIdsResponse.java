@@ -0,0 +1,15 @@
+package com.krieger.document.models;
+
+import java.util.List;
+
+/**
+ * Represents the documents found for a list of IDs.
+ *
+ * @param content    The found documents, in the order of the requested IDs, each ID once.
+ * @param missingIds The requested IDs without a document, in the order they were requested.
+ */
+public record DocumentsByIdsResponse(
+        List<DocumentResponse> content,
+        List<Long> missingIds
+) {
+}
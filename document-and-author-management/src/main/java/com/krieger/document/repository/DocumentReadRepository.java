@@ -0,0 +1,33 @@
+package com.krieger.document.repository;
+
+import com.krieger.document.entity.DocumentAuthorRow;
+import com.krieger.document.entity.DocumentReferenceRow;
+import com.krieger.document.entity.DocumentRow;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.util.Collection;
+
+/**
+ * To provide non-blocking reads of documents over R2DBC, on the same tables as DocumentRepository.
+ */
+@Repository
+public interface DocumentReadRepository extends R2dbcRepository<DocumentRow, Long> {
+    // page of all documents.
+    Flux<DocumentRow> findAllBy(Pageable pageable);
+    // accept title and body both parameters with pagination object to return response.
+    Flux<DocumentRow> findAllByTitleAndBody(String title, String body, Pageable pageable);
+    // accept title or body any one param and pagination object to return response.
+    Flux<DocumentRow> findAllByTitleOrBody(String title, String body, Pageable pageable);
+    // authors of all given documents in one query.
+    @Query("SELECT da.document_id, a.id AS author_id, a.first_name, a.last_name FROM document_authors da " +
+            "JOIN authors a ON a.id = da.author_id WHERE da.document_id IN (:documentIds)")
+    Flux<DocumentAuthorRow> findAuthorsOfDocuments(Collection<Long> documentIds);
+    // references of all given documents in one query.
+    @Query("SELECT dr.document_id, d.id AS reference_id, d.title, d.body FROM document_references dr " +
+            "JOIN documents d ON d.id = dr.reference_id WHERE dr.document_id IN (:documentIds)")
+    Flux<DocumentReferenceRow> findReferencesOfDocuments(Collection<Long> documentIds);
+}
@@ -1,12 +1,16 @@
 package com.krieger.document.repository;
 
 import com.krieger.document.entity.Document;
+import com.krieger.document.entity.DocumentAuthorRow;
+import com.krieger.document.entity.DocumentReferenceRow;
+import com.krieger.document.entity.DocumentRow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -21,4 +25,25 @@ public interface DocumentRepository extends JpaRepository<Document, Long> {
     // Find all documents that reference a specific document
     @Query("SELECT d FROM Document d JOIN d.references r WHERE r.id = :referenceId")
     List<Document> findDocumentsReferencing(Long referenceId);
+    // Find IDs of all documents that reference a specific document, without loading the documents
+    @Query("SELECT d.id FROM Document d JOIN d.references r WHERE r.id = :referenceId")
+    List<Long> findIdsOfDocumentsReferencing(Long referenceId);
+    // Find IDs of the authors of all documents that reference a specific document, without loading the documents
+    @Query("SELECT DISTINCT a.id FROM Document d JOIN d.references r JOIN d.authors a WHERE r.id = :referenceId")
+    List<Long> findAuthorIdsOfDocumentsReferencing(Long referenceId);
+    // Find IDs of all documents written by a specific author, read from the DB and not from the author cache
+    @Query("SELECT d.id FROM Document d JOIN d.authors a WHERE a.id = :authorId")
+    List<Long> findIdsOfDocumentsByAuthor(Long authorId);
+    // rows of all given documents in one query, without loading their eager references.
+    @Query("SELECT new com.krieger.document.entity.DocumentRow(d.id, d.title, d.body) FROM Document d " +
+            "WHERE d.id IN :documentIds")
+    List<DocumentRow> findRowsByIdIn(Collection<Long> documentIds);
+    // authors of all given documents in one query.
+    @Query("SELECT new com.krieger.document.entity.DocumentAuthorRow(d.id, a.id, a.firstName, a.lastName) " +
+            "FROM Document d JOIN d.authors a WHERE d.id IN :documentIds")
+    List<DocumentAuthorRow> findAuthorRowsOfDocuments(Collection<Long> documentIds);
+    // references of all given documents in one query.
+    @Query("SELECT new com.krieger.document.entity.DocumentReferenceRow(d.id, r.id, r.title, r.body) " +
+            "FROM Document d JOIN d.references r WHERE d.id IN :documentIds")
+    List<DocumentReferenceRow> findReferenceRowsOfDocuments(Collection<Long> documentIds);
 }
@@ -4,8 +4,10 @@ import com.krieger.document.entity.Document;
 import com.krieger.document.models.AllDocumentsResponse;
 import com.krieger.document.models.DocumentRequest;
 import com.krieger.document.models.DocumentResponse;
+import com.krieger.document.models.DocumentsByIdsResponse;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -21,6 +23,10 @@ public interface DocumentService {
 
     DocumentResponse getDocumentById(Long documentId);
 
+    DocumentsByIdsResponse getDocumentsByIds(List<Long> documentIds);
+
+    Map<Long, DocumentResponse> loadDocumentsByIds(List<Long> documentIds);
+
     void deleteDocumentById(Long documentId);
 
     void deleteDocumentsByIds(Set<Long> documentIdsToDelete);
@@ -3,16 +3,27 @@ package com.krieger.document.service;
 import com.krieger.author.models.CustomPageable;
 import com.krieger.author.models.CustomSort;
 import com.krieger.author.service.AuthorService;
+import com.krieger.cache.CacheNames;
+import com.krieger.cache.CachedMultiGet;
 import com.krieger.document.entity.Document;
+import com.krieger.document.entity.DocumentAuthorRow;
+import com.krieger.document.entity.DocumentReferenceRow;
+import com.krieger.document.entity.DocumentRow;
 import com.krieger.document.exception.DocumentNotFoundException;
 import com.krieger.document.mapper.DocumentMapper;
 import com.krieger.document.models.DocumentRequest;
 import com.krieger.document.models.DocumentResponse;
 import com.krieger.document.models.AllDocumentsResponse;
+import com.krieger.document.models.DocumentsByIdsResponse;
 import com.krieger.document.repository.DocumentRepository;
+import com.krieger.kafka.models.EntityChangeEvent;
+import io.micrometer.core.annotation.Timed;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -21,9 +32,11 @@ import org.springframework.stereotype.Service;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import static com.krieger.kafka.models.EntityChangeEvent.EntityType.DOCUMENT;
 import static java.lang.String.format;
 
 /**
@@ -37,6 +50,8 @@ public class DocumentServiceImpl implements DocumentService {
     private final DocumentRepository repository;
     private final DocumentMapper mapper;
     private final AuthorService authorService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheManager cacheManager;
 
     /**
      * Creates a new document and returns its response representation.
@@ -45,9 +60,11 @@ public class DocumentServiceImpl implements DocumentService {
      * @return Created document response.
      */
     public DocumentResponse saveDocument(DocumentRequest request) {
-        return mapper.toDocumentResponseModel(
+        var documentResponse = mapper.toDocumentResponseModel(
                 repository.save(mapper.toDocumentEntity(request, null))
         );
+        eventPublisher.publishEvent(EntityChangeEvent.created(DOCUMENT, documentResponse.getId(), documentResponse));
+        return documentResponse;
     }
 
     /**
@@ -122,12 +139,16 @@ public class DocumentServiceImpl implements DocumentService {
      */
     public DocumentResponse updateDocument(DocumentRequest request, Long documentId) {
         // checking before updating the document by documentId
-        findDocumentByDocumentId(documentId, "No document found with specified ID : %s to update.");
+        var before = mapper.toDocumentResponseModel(
+                findDocumentByDocumentId(documentId, "No document found with specified ID : %s to update.")
+        );
         var documentEntity = mapper.toDocumentEntity(request, documentId);
         documentEntity.setId(documentId);
-        return mapper.toDocumentResponseModel(
+        var after = mapper.toDocumentResponseModel(
                 repository.save(documentEntity)
         );
+        eventPublisher.publishEvent(EntityChangeEvent.updated(DOCUMENT, documentId, before, after));
+        return after;
     }
 
     /**
@@ -135,10 +156,11 @@ public class DocumentServiceImpl implements DocumentService {
      *
      * @param documentId to identify document object.
      * @param format generic message format to send proper error message.
+     * @return found document entity.
      * @throws DocumentNotFoundException when there is no document found with specified documentId.
      */
-    private void findDocumentByDocumentId(Long documentId, String format) {
-        repository.findById(documentId).orElseThrow(
+    private Document findDocumentByDocumentId(Long documentId, String format) {
+        return repository.findById(documentId).orElseThrow(
                 () -> new DocumentNotFoundException(
                         format(format, documentId)
                 )
@@ -151,6 +173,7 @@ public class DocumentServiceImpl implements DocumentService {
      * @param documentId ID of the document to fetch.
      * @return resulted document response.
      */
+    @Cacheable(CacheNames.DOCUMENTS)
     public DocumentResponse getDocumentById(Long documentId) {
         return repository.findById(documentId)
                 .map(mapper::toDocumentResponseModel)
@@ -161,6 +184,52 @@ public class DocumentServiceImpl implements DocumentService {
                 );
     }
 
+    /**
+     * find documents by a list of IDs, cached documents from the document cache and all others with three queries in
+     * total(documents, their authors and their references), however many IDs are requested.
+     *
+     * @param documentIds IDs of the documents, duplicates are returned once.
+     * @return found documents in the order of the requested IDs and the IDs without a document.
+     */
+    public DocumentsByIdsResponse getDocumentsByIds(List<Long> documentIds) {
+        var result = CachedMultiGet.get(
+                cacheManager.getCache(CacheNames.DOCUMENTS),
+                documentIds,
+                DocumentResponse.class,
+                this::loadDocumentsByIds
+        );
+        return new DocumentsByIdsResponse(result.content(), result.missingIds());
+    }
+
+    /**
+     * To load documents with their authors and references, without loading the entities and their eager references
+     * recursively. Always read from DB, the document cache is neither read nor filled.
+     *
+     * @param documentIds IDs of the documents to load.
+     * @return found documents by ID.
+     */
+    public Map<Long, DocumentResponse> loadDocumentsByIds(List<Long> documentIds) {
+        var documents = repository.findRowsByIdIn(documentIds);
+        if (documents.isEmpty()) {
+            return Map.of();
+        }
+        var foundIds = documents.stream().map(DocumentRow::id).toList();
+        var authorsByDocument = repository.findAuthorRowsOfDocuments(foundIds)
+                .stream()
+                .collect(Collectors.groupingBy(DocumentAuthorRow::documentId));
+        var referencesByDocument = repository.findReferenceRowsOfDocuments(foundIds)
+                .stream()
+                .collect(Collectors.groupingBy(DocumentReferenceRow::documentId));
+        return documents.stream().collect(Collectors.toMap(
+                DocumentRow::id,
+                document -> mapper.toDocumentResponseModel(
+                        document,
+                        authorsByDocument.getOrDefault(document.id(), List.of()),
+                        referencesByDocument.getOrDefault(document.id(), List.of())
+                )
+        ));
+    }
+
     /**
      * delete document by its ID
      *
@@ -170,8 +239,9 @@ public class DocumentServiceImpl implements DocumentService {
         var document = getDocumentById(documentId);
         // Collect all document IDs to empty references
         Set<Long> documentIdsToUpdate = new HashSet<>();
-        collectDocumentReferencesToEmpty(Set.of(document), documentIdsToUpdate);
+        collectDocumentReferencesToEmpty(List.of(documentId), documentIdsToUpdate);
         repository.deleteById(documentId);
+        eventPublisher.publishEvent(EntityChangeEvent.deleted(DOCUMENT, documentId, document));
     }
 
     /**
@@ -195,6 +265,7 @@ public class DocumentServiceImpl implements DocumentService {
             // Fetch the document by its ID
             Document document = repository.findById(documentId)
                     .orElseThrow(() -> new DocumentNotFoundException("Document not found with ID: " + documentId));
+            var before = mapper.toDocumentResponseModel(document);
 
             // Remove only the references that are in the documentIdsToUpdate set
             Set<Document> updatedReferences = document.getReferences().stream()
@@ -205,7 +276,8 @@ public class DocumentServiceImpl implements DocumentService {
             document.setReferences(updatedReferences);
 
             // Save the updated document back to the repository
-            repository.save(document);
+            var after = mapper.toDocumentResponseModel(repository.save(document));
+            eventPublisher.publishEvent(EntityChangeEvent.updated(DOCUMENT, documentId, before, after));
         }
     }
 
@@ -216,7 +288,8 @@ public class DocumentServiceImpl implements DocumentService {
      * @param documentId to identify the documents.
      * @param documentIdsToDelete to store all document IDs.
      */
-    private void collectDocumentReferences(Long documentId, Set<Long> documentIdsToDelete) {
+    // package-private for ReferenceTraversalBenchmark.
+    void collectDocumentReferences(Long documentId, Set<Long> documentIdsToDelete) {
         // Avoid redundant lookups.
         if (!documentIdsToDelete.add(documentId)) {
             return; // If the documentId was already added skips here.
@@ -241,15 +314,16 @@ public class DocumentServiceImpl implements DocumentService {
      */
     @Override
     @Transactional
+    @Timed(value = "document.author.deletion", histogram = true,
+            description = "Time taken to update document references and delete an author.")
     public void updateDocumentReferencesAndDeleteAuthor(Long authorId) {
         try {
-            // Get the author response and written documents.
-            var authorResponse = authorService.getAuthorById(authorId);
+            // Get the written documents in this transaction, a cached author may miss documents removed along with it.
+            var documentIds = repository.findIdsOfDocumentsByAuthor(authorId);
 
             // Collect all document IDs to empty references
             Set<Long> documentIdsToUpdate = new HashSet<>();
-            var documents = authorResponse.getDocuments();
-            collectDocumentReferencesToEmpty(documents, documentIdsToUpdate);
+            collectDocumentReferencesToEmpty(documentIds, documentIdsToUpdate);
 
             // Finally, delete the author if required
             authorService.deleteAuthorById(authorId);
@@ -266,23 +340,21 @@ public class DocumentServiceImpl implements DocumentService {
     /**
      * To collect all documents to empty references.
      *
-     * @param documents to identify the references.
+     * @param documentIds to identify the references.
      * @param documentIdsToUpdate to store all document reference IDs.
      */
-    private void collectDocumentReferencesToEmpty(Set<DocumentResponse> documents, Set<Long> documentIdsToUpdate) {
-        if (documents != null) {
-            documents.forEach(
-                    document ->
-                            // Collect all documents and their references.
-                            collectDocumentReferences(
-                                    document.getId(),
-                                    documentIdsToUpdate
-                            )
-            );
+    private void collectDocumentReferencesToEmpty(List<Long> documentIds, Set<Long> documentIdsToUpdate) {
+        documentIds.forEach(
+                documentId ->
+                        // Collect all documents and their references.
+                        collectDocumentReferences(
+                                documentId,
+                                documentIdsToUpdate
+                        )
+        );
 
-            // Empty all references for the collected documents
-            emptyReferencesByIds(documentIdsToUpdate);
-        }
+        // Empty all references for the collected documents
+        emptyReferencesByIds(documentIdsToUpdate);
     }
 
     /**
@@ -0,0 +1,12 @@
+package com.krieger.document.service;
+
+import com.krieger.document.models.DocumentResponse;
+import reactor.core.publisher.Flux;
+
+/**
+ * Delegate all streaming read requests to implementation to get appropriate responses.
+ */
+public interface DocumentStreamService {
+
+    Flux<DocumentResponse> streamDocuments(String title, String body, int page, int size, String[] sort);
+}
@@ -0,0 +1,80 @@
+package com.krieger.document.service;
+
+import com.krieger.document.entity.DocumentAuthorRow;
+import com.krieger.document.entity.DocumentReferenceRow;
+import com.krieger.document.entity.DocumentRow;
+import com.krieger.document.mapper.DocumentMapper;
+import com.krieger.document.models.DocumentResponse;
+import com.krieger.document.repository.DocumentReadRepository;
+import com.krieger.reactive.ReactiveReadConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * To stream documents over R2DBC without holding a thread per request. Rows are read as the client consumes them,
+ * and authors and references are looked up once per batch of rows instead of once per document.
+ */
+@Service
+@RequiredArgsConstructor
+public class DocumentStreamServiceImpl implements DocumentStreamService {
+
+    private final DocumentReadRepository repository;
+    private final DocumentMapper mapper;
+    private final ReactiveReadConfig config;
+
+    /**
+     * To stream a page of documents, optionally filtered by title and body like getAllDocuments.
+     *
+     * @param title Optional filter by the document title.
+     * @param body Optional filter by the document body.
+     * @param page Zero-based page index.
+     * @param size Page size, capped at the configured maximum.
+     * @param sort Sorting criteria (field,direction pair).
+     * @return documents of the page in sort order, emitted as they are read.
+     */
+    public Flux<DocumentResponse> streamDocuments(String title, String body, int page, int size, String[] sort) {
+        Sort.Direction direction =
+                sort[1].equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
+        Pageable pageable = PageRequest.of(page, Math.min(size, config.getMaxPageSize()), Sort.by(direction, sort[0]));
+        Flux<DocumentRow> documents;
+        if (title != null && body != null) {
+            documents = repository.findAllByTitleAndBody(title, body, pageable);
+        } else if (title != null || body != null) {
+            documents = repository.findAllByTitleOrBody(title, body, pageable);
+        } else {
+            documents = repository.findAllBy(pageable);
+        }
+        // one batch at a time, so that no more rows are read than the client is about to consume.
+        return documents
+                .buffer(config.getBatchSize())
+                .concatMap(this::withAuthorsAndReferences, 1);
+    }
+
+    /**
+     * To load authors and references of a batch of documents, two queries for the whole batch.
+     *
+     * @param documents batch of document rows.
+     * @return documents of the batch in the same order, with their authors and references.
+     */
+    private Flux<DocumentResponse> withAuthorsAndReferences(List<DocumentRow> documents) {
+        var documentIds = documents.stream().map(DocumentRow::id).toList();
+        return Mono.zip(
+                        repository.findAuthorsOfDocuments(documentIds).collectMultimap(DocumentAuthorRow::documentId),
+                        repository.findReferencesOfDocuments(documentIds).collectMultimap(DocumentReferenceRow::documentId)
+                )
+                .flatMapIterable(relations -> documents.stream()
+                        .map(document -> mapper.toDocumentResponseModel(
+                                document,
+                                relations.getT1().getOrDefault(document.id(), List.of()),
+                                relations.getT2().getOrDefault(document.id(), List.of())
+                        ))
+                        .toList());
+    }
+}
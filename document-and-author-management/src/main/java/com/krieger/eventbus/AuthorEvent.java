@@ -0,0 +1,23 @@
+package com.krieger.eventbus;
+
+import com.krieger.author.models.AuthorResponse;
+
+import java.util.UUID;
+
+/**
+ * Represents an author event carried by the in-process event bus.
+ *
+ * @param eventId    unique ID of the event, used to skip duplicated events.
+ * @param producedAt time at which the event is published, in epoch milliseconds.
+ * @param author     author information.
+ */
+public record AuthorEvent(
+        String eventId,
+        long producedAt,
+        AuthorResponse author
+) {
+
+    public static AuthorEvent of(AuthorResponse author) {
+        return new AuthorEvent(UUID.randomUUID().toString(), System.currentTimeMillis(), author);
+    }
+}
@@ -0,0 +1,25 @@
+package com.krieger.eventbus;
+
+import com.krieger.author.models.AuthorResponse;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Abstraction over the transport used to publish author events, so that kafka can be swapped with an in-process
+ * event bus for single-node deployments. Selected by "event-bus.mode" property.
+ */
+public interface AuthorEventBus {
+
+    /**
+     * To publish the author event.
+     *
+     * @param author author information to publish.
+     * @return future completed once the event is accepted by the event bus.
+     */
+    CompletableFuture<?> publish(AuthorResponse author);
+
+    // upper bound of a replay batch, so that one replay does not pull the whole dead-letter topic at once.
+    int MAX_REPLAY_BATCH_SIZE = 1000;
+
+    int replayDeadLetters(int batchSize);
+}
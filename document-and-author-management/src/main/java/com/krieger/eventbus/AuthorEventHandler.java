@@ -0,0 +1,56 @@
+package com.krieger.eventbus;
+
+import com.krieger.author.exception.AuthorNotFoundException;
+import com.krieger.author.models.AuthorResponse;
+import com.krieger.document.service.DocumentService;
+import com.krieger.jdbc.SqlStatisticsRecorder;
+import com.krieger.kafka.ProcessedEventLedger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * To process author events received from any event bus(kafka or in-process).
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class AuthorEventHandler {
+
+    // SQL statistics scope of every handled event, budgets are configured under this name.
+    public static final String SQL_STATISTICS_SCOPE = "EVENT author-event";
+
+    private final DocumentService documentService;
+    private final ProcessedEventLedger processedEventLedger;
+    private final SqlStatisticsRecorder sqlStatisticsRecorder;
+
+    /**
+     * To delete the author of the event, unless the event is already processed.
+     *
+     * @param authorResponse author event.
+     * @param eventId to identify the event.
+     */
+    public void handle(AuthorResponse authorResponse, String eventId) {
+        try (var ignored = sqlStatisticsRecorder.open(SQL_STATISTICS_SCOPE)) {
+            process(authorResponse, eventId);
+        }
+    }
+
+    private void process(AuthorResponse authorResponse, String eventId) {
+        // skip redelivered or duplicated events.
+        if (eventId != null && processedEventLedger.isProcessed(eventId)) {
+            log.info("Skipping already processed event {} for the author with ID {}.", eventId, authorResponse.getId());
+            return;
+        }
+        try {
+            // delete author and all the documents associated with author and update references.
+            documentService.updateDocumentReferencesAndDeleteAuthor(authorResponse.getId());
+        } catch (AuthorNotFoundException ex) {
+            // author is already deleted by an earlier delivery, nothing left to do.
+            log.warn("Author with ID {} is already deleted, skipping event {}.", authorResponse.getId(), eventId);
+        }
+        if (eventId != null) {
+            processedEventLedger.markProcessed(eventId);
+        }
+    }
+}
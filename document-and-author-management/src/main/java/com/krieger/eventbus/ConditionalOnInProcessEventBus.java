@@ -0,0 +1,19 @@
+package com.krieger.eventbus;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Matches when author events are published through the in-process event bus("event-bus.mode: in-process").
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Documented
+@ConditionalOnProperty(name = "event-bus.mode", havingValue = "in-process")
+public @interface ConditionalOnInProcessEventBus {
+}
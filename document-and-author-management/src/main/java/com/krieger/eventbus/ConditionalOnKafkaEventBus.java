@@ -0,0 +1,19 @@
+package com.krieger.eventbus;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Matches when author events are published through kafka("event-bus.mode: kafka"), which is the default.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Documented
+@ConditionalOnProperty(name = "event-bus.mode", havingValue = "kafka", matchIfMissing = true)
+public @interface ConditionalOnKafkaEventBus {
+}
@@ -0,0 +1,51 @@
+package com.krieger.eventbus;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * To read specific("event-bus") properties from properties(.yml, .yaml or .properties) file.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "event-bus")
+@Data
+public class EventBusConfig {
+    // transport of author events, either "kafka" or "in-process".
+    private String mode = "kafka";
+    // maximum number of author events in flight during a bulk send, bounds memory regardless of number of authors.
+    private int bulkPublishMaxInFlight = 1000;
+    private InProcess inProcess = new InProcess();
+
+    /**
+     * In-process event bus properties.
+     */
+    @Data
+    public static class InProcess {
+        // number of ring buffers, events of the same author always go to the same ring buffer.
+        private int partitions = 2;
+        // capacity of every ring buffer.
+        private int capacity = 8192;
+        // maximum number of events drained from a ring buffer at a time.
+        private int batchSize = 256;
+        // how long publisher waits for free space in a full ring buffer.
+        private Duration publishTimeout = Duration.ofSeconds(5);
+        // delivery attempts before an event is moved to dead letters.
+        private int attempts = 3;
+        // maximum number of dead letters kept in memory.
+        private int deadLetterCapacity = 10_000;
+        private Journal journal = new Journal();
+    }
+
+    /**
+     * Local append-only journal properties.
+     */
+    @Data
+    public static class Journal {
+        // keep published events in a local journal, so that unprocessed events survive a restart.
+        private boolean enabled = false;
+        private String path = "data/author-events.journal";
+    }
+}
@@ -0,0 +1,135 @@
+package com.krieger.eventbus;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Local append-only journal of author events, one JSON document per line.
+ * Events are appended once the ring buffer accepts them and replayed on startup, so that events which are not
+ * processed before a restart are not lost. Already processed events are skipped on replay by the ledger.
+ */
+@Slf4j
+public class EventJournal implements AutoCloseable {
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+    // lock instead of synchronized, so that virtual threads blocked on file I/O do not pin their carrier thread.
+    private final ReentrantLock lock = new ReentrantLock();
+    private BufferedWriter writer;
+
+    public EventJournal(Path path, ObjectMapper objectMapper) {
+        this.path = path;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * To read all journaled events, lines which can not be parsed(e.g. torn last line after a crash) are skipped.
+     *
+     * @return journaled events in append order.
+     */
+    public List<AuthorEvent> readAll() {
+        lock.lock();
+        try {
+            List<AuthorEvent> events = new ArrayList<>();
+            if (!Files.exists(path)) {
+                return events;
+            }
+            try {
+                for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    try {
+                        events.add(objectMapper.readValue(line, AuthorEvent.class));
+                    } catch (IOException ex) {
+                        log.warn("Skipping unreadable journal entry in {}. Error: {}", path, ex.getMessage());
+                    }
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            return events;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * To append the event to the journal.
+     *
+     * @param event to append.
+     */
+    public void append(AuthorEvent event) {
+        lock.lock();
+        try {
+            var out = writer();
+            out.write(objectMapper.writeValueAsString(event));
+            out.newLine();
+            out.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * To empty the journal, only when every journaled event is processed.
+     *
+     * @param drained tells whether every journaled event is processed, checked under the journal lock so that
+     *                no event is appended in between.
+     * @return true, if the journal is emptied.
+     */
+    public boolean truncateIf(BooleanSupplier drained) {
+        lock.lock();
+        try {
+            if (!drained.getAsBoolean()) {
+                return false;
+            }
+            close();
+            // writer is opened again on next append.
+            Files.deleteIfExists(path);
+            return true;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private BufferedWriter writer() throws IOException {
+        if (writer == null) {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE);
+        }
+        return writer;
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (writer != null) {
+                writer.close();
+                writer = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
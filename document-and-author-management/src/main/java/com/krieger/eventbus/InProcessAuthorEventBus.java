@@ -0,0 +1,304 @@
+package com.krieger.eventbus;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.krieger.author.models.AuthorResponse;
+import com.krieger.kafka.KafkaConsumerMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+
+/**
+ * In-process event bus for single-node deployments, author events never leave the JVM.
+ * Events are partitioned by author ID over bounded ring buffers, every ring buffer is drained in batches by its own
+ * consumer thread, so that events of the same author are processed in order. Events failed in all attempts are kept
+ * in memory as dead letters until replayed.
+ */
+@Service
+@Slf4j
+@ConditionalOnInProcessEventBus
+public class InProcessAuthorEventBus implements AuthorEventBus, SmartLifecycle {
+
+    // used as topic tag of the consumer metrics.
+    public static final String IN_PROCESS_TOPIC = "in-process";
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+    private static final long STOP_TIMEOUT_SECONDS = 30;
+
+    private final AuthorEventHandler authorEventHandler;
+    private final KafkaConsumerMetrics metrics;
+    private final EventBusConfig.InProcess config;
+    // null, when journal is disabled.
+    private final EventJournal journal;
+    private final List<BlockingQueue<AuthorEvent>> ringBuffers = new ArrayList<>();
+    private final BlockingDeque<AuthorEvent> deadLetters;
+    // events which are published but not processed yet.
+    private final AtomicLong pendingEvents = new AtomicLong();
+    // consumer threads are virtual in virtual-thread mode, so that blocking handlers do not hold platform threads.
+    private final boolean virtualThreads;
+    private ExecutorService consumers;
+    private volatile boolean running;
+
+    // handler is resolved lazily, it depends on document service which publishes through this bus in turn.
+    public InProcessAuthorEventBus(
+            @Lazy AuthorEventHandler authorEventHandler,
+            KafkaConsumerMetrics metrics,
+            EventBusConfig eventBusConfig,
+            ObjectMapper objectMapper,
+            Environment environment
+    ) {
+        this.authorEventHandler = authorEventHandler;
+        this.virtualThreads = Threading.VIRTUAL.isActive(environment);
+        this.metrics = metrics;
+        this.config = eventBusConfig.getInProcess();
+        this.journal = config.getJournal().isEnabled()
+                ? new EventJournal(Path.of(config.getJournal().getPath()), objectMapper)
+                : null;
+        for (int partition = 0; partition < config.getPartitions(); partition++) {
+            ringBuffers.add(new ArrayBlockingQueue<>(config.getCapacity()));
+        }
+        this.deadLetters = new LinkedBlockingDeque<>(config.getDeadLetterCapacity());
+    }
+
+    /**
+     * To publish the author event, waits up to publish timeout when the ring buffer is full.
+     *
+     * @param author author information to publish.
+     */
+    @Override
+    public CompletableFuture<?> publish(AuthorResponse author) {
+        enqueue(AuthorEvent.of(author));
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * To move at most batchSize dead letters back to the ring buffers.
+     *
+     * @param batchSize maximum number of events to replay.
+     * @return number of replayed events.
+     */
+    @Override
+    public int replayDeadLetters(int batchSize) {
+        int replayed = 0;
+        AuthorEvent event;
+        while (replayed < batchSize && (event = deadLetters.pollFirst()) != null) {
+            enqueue(event);
+            replayed++;
+        }
+        metrics.recordReplayed(replayed);
+        log.info("Replayed {} dead-lettered author events to the in-process event bus.", replayed);
+        return replayed;
+    }
+
+    /**
+     * To get number of events which are published but not processed yet.
+     *
+     * @return number of pending events.
+     */
+    public long pendingEvents() {
+        return pendingEvents.get();
+    }
+
+    /**
+     * To get number of dead letters waiting for replay.
+     *
+     * @return number of dead letters.
+     */
+    public int deadLetters() {
+        return deadLetters.size();
+    }
+
+    private void enqueue(AuthorEvent event) {
+        if (!running) {
+            throw new IllegalStateException(format("In-process event bus is stopped, author event %s is not published.", event.eventId()));
+        }
+        pendingEvents.incrementAndGet();
+        boolean accepted = false;
+        try {
+            accepted = ringBuffer(event).offer(event, config.getPublishTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (!accepted) {
+                pendingEvents.decrementAndGet();
+            }
+        }
+        if (!accepted) {
+            throw new IllegalStateException(format("In-process event bus is full, author event %s is not published.", event.eventId()));
+        }
+        if (journal != null) {
+            journal(event);
+        }
+    }
+
+    /**
+     * To journal the event accepted by the ring buffer, so that an event rejected to the caller is never replayed.
+     * An event processed before it is journaled stays in the journal until the next truncation, the handler skips it
+     * on replay. The event is accepted already, so a failed append only loses its journal entry.
+     *
+     * @param event accepted event.
+     */
+    private void journal(AuthorEvent event) {
+        try {
+            journal.append(event);
+        } catch (RuntimeException ex) {
+            log.error("Failed to journal author event {}, it is not replayed after a restart. Error: {}",
+                    event.eventId(), ex.getMessage());
+        }
+    }
+
+    private BlockingQueue<AuthorEvent> ringBuffer(AuthorEvent event) {
+        return ringBuffers.get(Math.floorMod(Objects.hashCode(event.author().getId()), ringBuffers.size()));
+    }
+
+    /**
+     * To drain the ring buffer in batches until the bus is stopped and the ring buffer is empty.
+     *
+     * @param ringBuffer to drain.
+     */
+    private void consume(BlockingQueue<AuthorEvent> ringBuffer) {
+        List<AuthorEvent> batch = new ArrayList<>(config.getBatchSize());
+        while (running || !ringBuffer.isEmpty()) {
+            AuthorEvent first;
+            try {
+                first = ringBuffer.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (first == null) {
+                continue;
+            }
+            batch.add(first);
+            ringBuffer.drainTo(batch, config.getBatchSize() - 1);
+            batch.forEach(this::deliver);
+            pendingEvents.addAndGet(-batch.size());
+            batch.clear();
+            if (journal != null) {
+                // every journaled event is processed, start the journal over.
+                journal.truncateIf(() -> pendingEvents.get() == 0);
+            }
+        }
+    }
+
+    /**
+     * To process the event, retried up to the configured attempts before it is moved to dead letters.
+     *
+     * @param event to process.
+     */
+    private void deliver(AuthorEvent event) {
+        metrics.recordEndToEndLatency(event.producedAt(), IN_PROCESS_TOPIC);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                authorEventHandler.handle(event.author(), event.eventId());
+                return;
+            } catch (RuntimeException ex) {
+                if (attempt >= config.getAttempts()) {
+                    deadLetter(event, ex);
+                    return;
+                }
+                metrics.recordRetry(IN_PROCESS_TOPIC);
+                log.warn("Processing of event {} for the author with ID {} failed in attempt {}. Error: {}",
+                        event.eventId(), event.author().getId(), attempt, ex.getMessage());
+            }
+        }
+    }
+
+    private void deadLetter(AuthorEvent event, RuntimeException ex) {
+        // oldest dead letter is dropped, when dead letters are full.
+        while (!deadLetters.offerLast(event)) {
+            var dropped = deadLetters.pollFirst();
+            if (dropped != null) {
+                log.error("Dead letters are full, dropping author event {}.", dropped.eventId());
+            }
+        }
+        metrics.recordDeadLetter();
+        log.error("Author event with ID {} is moved to dead letters. Error: {}", event.author().getId(), ex.getMessage());
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        consumers = Executors.newFixedThreadPool(
+                ringBuffers.size(),
+                (virtualThreads ? Thread.ofVirtual() : Thread.ofPlatform()).name("in-process-event-bus-", 0).factory()
+        );
+        ringBuffers.forEach(ringBuffer -> consumers.submit(() -> consume(ringBuffer)));
+        if (journal != null) {
+            replayJournal();
+        }
+    }
+
+    /**
+     * To hand the events left in the journal by the previous run back to the ring buffers,
+     * already processed ones are skipped by the handler.
+     */
+    private void replayJournal() {
+        var journaled = journal.readAll();
+        for (AuthorEvent event : journaled) {
+            pendingEvents.incrementAndGet();
+            try {
+                ringBuffer(event).put(event);
+            } catch (InterruptedException ex) {
+                pendingEvents.decrementAndGet();
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        log.info("Replayed {} journaled author events to the in-process event bus.", journaled.size());
+    }
+
+    @Override
+    public void stop() {
+        // consumers drain their ring buffers before they exit.
+        running = false;
+        if (consumers != null) {
+            consumers.shutdown();
+            try {
+                if (!consumers.awaitTermination(STOP_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    log.warn("In-process event bus stopped with {} pending author events.", pendingEvents.get());
+                    consumers.shutdownNow();
+                }
+            } catch (InterruptedException ex) {
+                consumers.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (journal != null) {
+            try {
+                journal.close();
+            } catch (IOException ex) {
+                log.warn("Failed to close the event journal. Error: {}", ex.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // start before and stop after the web server, so that no request publishes to a stopped bus.
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+}
@@ -0,0 +1,40 @@
+package com.krieger.jdbc;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+/**
+ * To create the JDBC connection pool explicitly. Spring boot backs off its data source once an R2DBC connection
+ * factory exists, while JPA, flyway and the blocking write path still need one. Built the same way as the auto
+ * configured pool: "spring.datasource" properties, or the connection details of docker compose when present,
+ * and "spring.datasource.hikari" pool settings.
+ */
+@Configuration
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties properties, ObjectProvider<JdbcConnectionDetails> connectionDetails) {
+        var builder = properties.initializeDataSourceBuilder().type(HikariDataSource.class);
+        var details = connectionDetails.getIfAvailable();
+        if (details != null) {
+            builder.url(details.getJdbcUrl())
+                    .username(details.getUsername())
+                    .password(details.getPassword())
+                    .driverClassName(details.getDriverClassName());
+        }
+        var dataSource = builder.build();
+        if (StringUtils.hasText(properties.getName())) {
+            dataSource.setPoolName(properties.getName());
+        }
+        return dataSource;
+    }
+}
@@ -0,0 +1,11 @@
+package com.krieger.jdbc;
+
+/**
+ * To reject a statement which exceeds the statement budget of its scope.
+ */
+public class SqlBudgetExceededException extends RuntimeException {
+
+    public SqlBudgetExceededException(String message) {
+        super(message);
+    }
+}
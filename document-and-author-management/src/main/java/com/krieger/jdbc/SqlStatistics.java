@@ -0,0 +1,11 @@
+package com.krieger.jdbc;
+
+/**
+ * SQL statements executed within a completed scope(an HTTP request or a kafka message).
+ *
+ * @param scope name of the scope.
+ * @param statements number of executed statements.
+ * @param elapsedNanos time spent executing the statements.
+ */
+public record SqlStatistics(String scope, int statements, long elapsedNanos) {
+}
@@ -0,0 +1,40 @@
+package com.krieger.jdbc;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * To read specific("sql-statistics") properties from properties(.yml, .yaml or .properties) file.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "sql-statistics")
+@Data
+public class SqlStatisticsConfig {
+
+    public enum Action { LOG, FAIL }
+
+    // when disabled, the data source is not proxied at all. Enabled in dev and test profiles.
+    private boolean enabled = false;
+    // maximum statements per scope, keyed by scope name("GET /api/v1/authors/{author-id}", "KAFKA author-event").
+    private Map<String, Integer> budgets = new HashMap<>();
+    // budget of scopes without their own, 0 means unlimited.
+    private int defaultBudget = 0;
+    // LOG reports the exceeded budget once the scope is closed, FAIL rejects the statement exceeding it.
+    private Action action = Action.LOG;
+    // same statement executed this many times within a scope is reported as a possible N+1.
+    private int repeatedStatementThreshold = 10;
+
+    /**
+     * To get the statement budget of the scope.
+     *
+     * @param scope name of the scope.
+     * @return maximum statements, 0 when unlimited.
+     */
+    public int budgetOf(String scope) {
+        return budgets.getOrDefault(scope, defaultBudget);
+    }
+}
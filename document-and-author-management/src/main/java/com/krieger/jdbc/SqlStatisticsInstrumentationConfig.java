@@ -0,0 +1,51 @@
+package com.krieger.jdbc;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.function.SingletonSupplier;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+/**
+ * To proxy the data source and open a statistics scope per HTTP request, only registered when SQL statistics are
+ * enabled so that disabled statistics cost nothing. Only statement executions are intercepted, connections and
+ * result sets are not proxied.
+ */
+@Configuration
+@ConditionalOnProperty(name = "sql-statistics.enabled", havingValue = "true")
+public class SqlStatisticsInstrumentationConfig implements WebMvcConfigurer {
+
+    private final SqlStatisticsRecorder recorder;
+
+    public SqlStatisticsInstrumentationConfig(SqlStatisticsRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @Bean
+    public static BeanPostProcessor sqlStatisticsDataSourcePostProcessor(ObjectProvider<SqlStatisticsRecorder> recorder) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource)) {
+                    return bean;
+                }
+                var listener = new SqlStatisticsListener(SingletonSupplier.of(recorder::getObject));
+                // unwrap(...) of the proxy reaches the pool, so pool metrics and health stay in place.
+                return ProxyDataSourceBuilder.create(beanName, dataSource)
+                        .listener(listener)
+                        .build();
+            }
+        };
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new SqlStatisticsInterceptor(recorder));
+    }
+}
@@ -0,0 +1,47 @@
+package com.krieger.jdbc;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * To count SQL statements of every HTTP request in a scope named after its method and URI template,
+ * e.g. "GET /api/v1/authors/{author-id}", so that budgets are configured per endpoint.
+ * Async(streaming) requests are counted up to the point where the handler returns, as the scope is bound to the
+ * request thread.
+ */
+@RequiredArgsConstructor
+public class SqlStatisticsInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String SCOPE_ATTRIBUTE = SqlStatisticsInterceptor.class.getName() + ".scope";
+
+    private final SqlStatisticsRecorder recorder;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        var pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        var name = request.getMethod() + " " + (pattern == null ? "UNMATCHED" : pattern);
+        request.setAttribute(SCOPE_ATTRIBUTE, recorder.open(name));
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // afterCompletion is not called for this dispatch, the scope is closed on the thread which opened it.
+        close(request);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        close(request);
+    }
+
+    private void close(HttpServletRequest request) {
+        if (request.getAttribute(SCOPE_ATTRIBUTE) instanceof SqlStatisticsRecorder.Scope scope) {
+            request.removeAttribute(SCOPE_ATTRIBUTE);
+            scope.close();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.krieger.jdbc;
+
+import lombok.RequiredArgsConstructor;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * To feed statements of the proxied data source to the recorder. The recorder is looked up on first use,
+ * since the data source is created before the meter registry it reports to.
+ */
+@RequiredArgsConstructor
+public class SqlStatisticsListener implements QueryExecutionListener {
+
+    private final Supplier<SqlStatisticsRecorder> recorder;
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        // a batch is executed as one statement.
+        recorder.get().beforeStatement(queryInfoList.isEmpty() ? "" : queryInfoList.get(0).getQuery());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        recorder.get().afterStatement(execInfo.getElapsedTime() * 1_000_000);
+    }
+}
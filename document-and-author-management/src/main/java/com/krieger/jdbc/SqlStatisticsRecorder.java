@@ -0,0 +1,163 @@
+package com.krieger.jdbc;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * To count SQL statements and time per scope(an HTTP request or a kafka message), check them against the
+ * statement budget of the scope and report statements repeated like an N+1 query.
+ * Scopes are bound to the opening thread, statements executed on other threads are not counted.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class SqlStatisticsRecorder {
+
+    static final String STATEMENTS_METRIC = "sql.statements";
+    static final String TIME_METRIC = "sql.time";
+
+    private final SqlStatisticsConfig config;
+    private final MeterRegistry meterRegistry;
+    private final ThreadLocal<Scope> currentScope = new ThreadLocal<>();
+    private final List<Consumer<SqlStatistics>> completionListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * To open a scope on the current thread, scopes opened within it are added to it once closed.
+     *
+     * @param name of the scope, used to look up its budget and to tag its metrics.
+     * @return scope to close once the unit of work is completed.
+     */
+    public Scope open(String name) {
+        if (!config.isEnabled()) {
+            return Scope.NONE;
+        }
+        var scope = new Scope(this, name, config.budgetOf(name), currentScope.get());
+        currentScope.set(scope);
+        return scope;
+    }
+
+    /**
+     * To count a statement about to be executed within the current scope.
+     *
+     * @param sql statement to execute.
+     * @throws SqlBudgetExceededException if the statement exceeds the budget and the action is FAIL.
+     */
+    public void beforeStatement(String sql) {
+        var scope = currentScope.get();
+        if (scope == null) {
+            return; // e.g. migrations and scheduled jobs.
+        }
+        scope.statements++;
+        scope.statementCounts.merge(sql, 1, Integer::sum);
+        if (scope.budget > 0 && scope.statements > scope.budget && config.getAction() == SqlStatisticsConfig.Action.FAIL) {
+            throw new SqlBudgetExceededException(
+                    "Scope " + scope.name + " exceeded its budget of " + scope.budget + " SQL statements."
+            );
+        }
+    }
+
+    /**
+     * To add the execution time of a statement to the current scope.
+     *
+     * @param elapsedNanos time spent executing the statement.
+     */
+    public void afterStatement(long elapsedNanos) {
+        var scope = currentScope.get();
+        if (scope != null) {
+            scope.elapsedNanos += elapsedNanos;
+        }
+    }
+
+    /**
+     * To get notified of every closed scope, used by tests to assert statement counts.
+     *
+     * @param listener to notify.
+     */
+    public void addCompletionListener(Consumer<SqlStatistics> listener) {
+        completionListeners.add(listener);
+    }
+
+    public void removeCompletionListener(Consumer<SqlStatistics> listener) {
+        completionListeners.remove(listener);
+    }
+
+    private void close(Scope scope) {
+        if (currentScope.get() != scope) {
+            log.warn("SQL statistics scope {} is closed out of order.", scope.name);
+        }
+        if (scope.parent == null) {
+            currentScope.remove();
+        } else {
+            currentScope.set(scope.parent);
+            scope.parent.addAll(scope);
+        }
+        var statistics = new SqlStatistics(scope.name, scope.statements, scope.elapsedNanos);
+        report(scope, statistics);
+        completionListeners.forEach(listener -> listener.accept(statistics));
+    }
+
+    private void report(Scope scope, SqlStatistics statistics) {
+        DistributionSummary.builder(STATEMENTS_METRIC).tag("scope", scope.name).register(meterRegistry)
+                .record(statistics.statements());
+        Timer.builder(TIME_METRIC).tag("scope", scope.name).register(meterRegistry)
+                .record(statistics.elapsedNanos(), TimeUnit.NANOSECONDS);
+        if (scope.budget > 0 && statistics.statements() > scope.budget) {
+            log.warn("{} executed {} SQL statements, exceeding its budget of {}.",
+                    scope.name, statistics.statements(), scope.budget);
+        }
+        scope.statementCounts.forEach((sql, count) -> {
+            if (count >= config.getRepeatedStatementThreshold()) {
+                log.warn("Possible N+1 query, {} executed the same SQL statement {} times: {}", scope.name, count, sql);
+            }
+        });
+    }
+
+    /**
+     * Unit of work whose statements are counted together.
+     */
+    public static final class Scope implements AutoCloseable {
+
+        // returned while statistics are disabled, closing it does nothing.
+        static final Scope NONE = new Scope(null, "none", 0, null);
+
+        private final SqlStatisticsRecorder recorder;
+        private final String name;
+        private final int budget;
+        private final Scope parent;
+        // executions of every distinct statement, to find statements repeated in a loop.
+        private final Map<String, Integer> statementCounts = new HashMap<>();
+        private int statements;
+        private long elapsedNanos;
+
+        private Scope(SqlStatisticsRecorder recorder, String name, int budget, Scope parent) {
+            this.recorder = recorder;
+            this.name = name;
+            this.budget = budget;
+            this.parent = parent;
+        }
+
+        private void addAll(Scope child) {
+            statements += child.statements;
+            elapsedNanos += child.elapsedNanos;
+            child.statementCounts.forEach((sql, count) -> statementCounts.merge(sql, count, Integer::sum));
+        }
+
+        @Override
+        public void close() {
+            if (recorder != null) {
+                recorder.close(this);
+            }
+        }
+    }
+}
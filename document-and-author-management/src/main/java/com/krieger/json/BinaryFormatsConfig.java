@@ -0,0 +1,38 @@
+package com.krieger.json;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * To read and write request and response bodies as CBOR("application/cbor") or Smile("application/x-jackson-smile"),
+ * binary encodings of the same JSON model which are smaller and cheaper to parse for internal clients.
+ * Formats are chosen by the Accept and Content-Type headers. Spring boot puts these converters in place of the
+ * default ones, after the JSON converter, so clients accepting anything(e.g. browsers) keep getting JSON.
+ */
+@Configuration
+@ConditionalOnProperty(name = "json.binary-formats.enabled", havingValue = "true", matchIfMissing = true)
+public class BinaryFormatsConfig {
+
+    /**
+     * Built from the object mapper builder of spring boot, so that "spring.jackson" properties and all Module beans
+     * apply like they do to JSON.
+     *
+     * @param objectMapperBuilder prototype builder of spring boot.
+     * @return CBOR message converter.
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        return new MappingJackson2CborHttpMessageConverter(objectMapperBuilder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        return new MappingJackson2SmileHttpMessageConverter(objectMapperBuilder.factory(new SmileFactory()).build());
+    }
+}
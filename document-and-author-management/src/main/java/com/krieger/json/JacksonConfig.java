@@ -0,0 +1,27 @@
+package com.krieger.json;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * To speed up JSON binding of requests and responses. Spring boot registers every Module bean with the application
+ * object mapper, which the REST and stream endpoints use.
+ */
+@Configuration
+@ConditionalOnProperty(name = "json.blackbird.enabled", havingValue = "true", matchIfMissing = true)
+public class JacksonConfig {
+
+    /**
+     * Blackbird replaces reflective getter, setter and constructor calls with lambdas generated through
+     * LambdaMetafactory, which the JIT inlines like direct calls.
+     *
+     * @return jackson module generating property accessors.
+     */
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
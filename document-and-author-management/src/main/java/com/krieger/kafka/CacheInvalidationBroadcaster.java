@@ -0,0 +1,78 @@
+package com.krieger.kafka;
+
+import com.krieger.cache.CacheInvalidator;
+import com.krieger.eventbus.ConditionalOnKafkaEventBus;
+import com.krieger.kafka.models.CacheInvalidationMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * To broadcast cache invalidations to all other nodes through the invalidation topic.
+ * Invalidations are coalesced per cache and sent as a single message on every flush.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnKafkaEventBus
+public class CacheInvalidationBroadcaster {
+
+    private final KafkaTemplate<String, CacheInvalidationMessage> kafkaTemplate;
+    private final CacheInvalidationConfig config;
+    private final CacheInvalidator cacheInvalidator;
+    // invalidations waiting for the next flush, guarded by this.
+    private Map<String, Set<Long>> pendingKeys = new HashMap<>();
+
+    /**
+     * To queue the keys for the next flush, keys already queued are merged.
+     *
+     * @param keys IDs to evict by cache name.
+     */
+    public synchronized void broadcast(Map<String, Set<Long>> keys) {
+        keys.forEach((cacheName, ids) ->
+                pendingKeys.computeIfAbsent(cacheName, name -> new HashSet<>()).addAll(ids)
+        );
+    }
+
+    /**
+     * To send all queued invalidations to invalidation topic as a single message.
+     */
+    @Scheduled(fixedDelayString = "${kafka.cache-invalidation.flush-interval:PT0.05S}")
+    public void flush() {
+        Map<String, Set<Long>> keys;
+        synchronized (this) {
+            if (pendingKeys.isEmpty()) {
+                return;
+            }
+            keys = pendingKeys;
+            pendingKeys = new HashMap<>();
+        }
+        kafkaTemplate.send(config.getTopic(), config.getNodeId(), new CacheInvalidationMessage(config.getNodeId(), keys));
+        log.debug("Broadcast cache invalidations {} to {}.", keys, config.getTopic());
+    }
+
+    /**
+     * To evict the keys changed on other nodes, own invalidations are already applied locally.
+     *
+     * @param message coalesced cache invalidations.
+     */
+    @KafkaListener(
+            topics = "${kafka.cache-invalidation.topic}",
+            groupId = "#{@cacheInvalidationConfig.groupId}",
+            properties = "auto.offset.reset=latest"
+    )
+    public void onCacheInvalidation(CacheInvalidationMessage message) {
+        if (config.getNodeId().equals(message.nodeId())) {
+            return;
+        }
+        cacheInvalidator.evict(message.keys());
+    }
+}
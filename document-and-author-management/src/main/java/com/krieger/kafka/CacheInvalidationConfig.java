@@ -0,0 +1,24 @@
+package com.krieger.kafka;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.UUID;
+
+/**
+ * To read specific("kafka.cache-invalidation") properties from properties(.yml, .yaml or .properties) file.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "kafka.cache-invalidation")
+@Data
+public class CacheInvalidationConfig {
+    // topic through which cache invalidations are broadcast to all nodes.
+    private String topic = "document-and-author-cache-invalidation-topic";
+    // unique per running node, every node consumes the invalidation topic in its own consumer group.
+    private String nodeId = UUID.randomUUID().toString();
+
+    public String getGroupId() {
+        return "document-and-author-cache-" + nodeId;
+    }
+}
@@ -0,0 +1,18 @@
+package com.krieger.kafka;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * To read specific("kafka.change-events") properties from properties(.yml, .yaml or .properties) file.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "kafka.change-events")
+@Data
+public class ChangeEventConfig {
+    // topic to which all author and document changes are published.
+    private String topic = "document-and-author-change-topic";
+    // change events sent before waiting for kafka to acknowledge them, a flush sends batches until the queue is empty.
+    private int batchSize = 500;
+}
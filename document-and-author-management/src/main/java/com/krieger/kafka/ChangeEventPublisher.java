@@ -0,0 +1,126 @@
+package com.krieger.kafka;
+
+import com.krieger.kafka.models.EntityChangeEvent;
+import com.krieger.eventbus.ConditionalOnKafkaEventBus;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * To publish author and document changes to change-data topic.
+ * Changes are queued once the surrounding transaction is committed and sent to kafka in batches. Every flush drains
+ * the queue, so that it does not grow under sustained load, and the last flush runs on shutdown.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnKafkaEventBus
+public class ChangeEventPublisher {
+
+    private final KafkaTemplate<String, EntityChangeEvent> kafkaTemplate;
+    private final ChangeEventConfig config;
+    // committed changes waiting for the next flush, failed sends are put back in front.
+    private final Deque<EntityChangeEvent> pendingEvents = new ConcurrentLinkedDeque<>();
+
+    /**
+     * To queue the change once it is committed, changes made outside a transaction are queued immediately.
+     *
+     * @param event committed change of an author or a document.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChange(EntityChangeEvent event) {
+        pendingEvents.add(event);
+    }
+
+    /**
+     * To send all queued changes to change-data topic, keyed by entity so that changes of an entity stay in order.
+     * Each batch is acknowledged by kafka before the next one is sent. When a send fails, the failed change and all
+     * changes after it are queued again in their order and sent on the next flush, possibly twice.
+     */
+    @Scheduled(fixedDelayString = "${kafka.change-events.flush-interval:PT0.2S}")
+    public void flush() {
+        drain();
+    }
+
+    /**
+     * To publish the changes queued when the application stops, before kafka producers are closed.
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        if (!drain()) {
+            log.error("Shutting down with {} change events not published to {}.", pendingEvents.size(), config.getTopic());
+        }
+    }
+
+    // true when the queue is drained, false when a send failed.
+    private synchronized boolean drain() {
+        int sent = 0;
+        List<EntityChangeEvent> batch;
+        while (!(batch = nextBatch()).isEmpty()) {
+            List<CompletableFuture<SendResult<String, EntityChangeEvent>>> sends = new ArrayList<>(batch.size());
+            for (EntityChangeEvent event : batch) {
+                sends.add(send(event));
+            }
+            // sends of a batch are not ordered by their outcome, so the first failed event and all events after it
+            // are queued again, so that a later change of the same entity is never published before an earlier one.
+            int firstFailed = -1;
+            Throwable cause = null;
+            for (int i = 0; i < batch.size(); i++) {
+                try {
+                    sends.get(i).join();
+                    if (firstFailed < 0) {
+                        sent++;
+                    }
+                } catch (CompletionException ex) {
+                    if (firstFailed < 0) {
+                        firstFailed = i;
+                        cause = ex.getCause();
+                    }
+                }
+            }
+            if (firstFailed >= 0) {
+                var requeued = batch.subList(firstFailed, batch.size());
+                for (int i = requeued.size() - 1; i >= 0; i--) {
+                    pendingEvents.addFirst(requeued.get(i));
+                }
+                log.warn("Publishing change events to {} failed, {} change events are sent again on the next flush. Error: {}",
+                        config.getTopic(), requeued.size(), cause != null ? cause.getMessage() : null);
+                return false;
+            }
+        }
+        if (sent > 0) {
+            log.debug("Published {} change events to {}.", sent, config.getTopic());
+        }
+        return true;
+    }
+
+    private List<EntityChangeEvent> nextBatch() {
+        List<EntityChangeEvent> batch = new ArrayList<>();
+        EntityChangeEvent event;
+        while (batch.size() < config.getBatchSize() && (event = pendingEvents.poll()) != null) {
+            batch.add(event);
+        }
+        return batch;
+    }
+
+    private CompletableFuture<SendResult<String, EntityChangeEvent>> send(EntityChangeEvent event) {
+        try {
+            return kafkaTemplate.send(config.getTopic(), event.key(), event);
+        } catch (RuntimeException ex) {
+            // e.g. metadata of the topic not available within max.block.ms.
+            return CompletableFuture.failedFuture(ex);
+        }
+    }
+}
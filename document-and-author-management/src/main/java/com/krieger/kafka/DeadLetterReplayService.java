@@ -0,0 +1,132 @@
+package com.krieger.kafka;
+
+import com.krieger.author.models.AuthorResponse;
+import com.krieger.eventbus.AuthorEventBus;
+import com.krieger.eventbus.ConditionalOnKafkaEventBus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.core.env.Environment;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * To replay dead-lettered author events back to the main topic in batches.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnKafkaEventBus
+public class DeadLetterReplayService {
+
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(1);
+
+    private final ConsumerFactory<String, AuthorResponse> consumerFactory;
+    private final KafkaTemplate<String, AuthorResponse> kafkaTemplate;
+    private final KafkaConsumerMetrics metrics;
+    private final Environment environment;
+    // one replay at a time, a lock instead of synchronized so that a virtual thread polling kafka is not pinned.
+    private final ReentrantLock replayLock = new ReentrantLock();
+
+    /**
+     * To move at most batchSize events from the dead-letter topic back to the main topic.
+     * Offsets of the replay group are committed only for events which are successfully sent.
+     *
+     * @param batchSize maximum number of events to replay, between 1 and AuthorEventBus.MAX_REPLAY_BATCH_SIZE.
+     * @return number of replayed events.
+     * @throws IllegalArgumentException when batchSize is out of bounds.
+     */
+    public int replay(int batchSize) {
+        if (batchSize < 1 || batchSize > AuthorEventBus.MAX_REPLAY_BATCH_SIZE) {
+            throw new IllegalArgumentException(
+                    "Replay batch size should be between 1 and " + AuthorEventBus.MAX_REPLAY_BATCH_SIZE + "."
+            );
+        }
+        replayLock.lock();
+        try {
+            return replayBatch(batchSize);
+        } finally {
+            replayLock.unlock();
+        }
+    }
+
+    private int replayBatch(int batchSize) {
+        var topic = Objects.requireNonNull(environment.getProperty("kafka.topic"));
+        var deadLetterTopic = topic + KafkaConsumer.DEAD_LETTER_TOPIC_SUFFIX;
+        var overrides = new Properties();
+        overrides.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        overrides.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+        overrides.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, String.valueOf(batchSize));
+
+        try (Consumer<String, AuthorResponse> consumer = consumerFactory.createConsumer(
+                environment.getProperty("spring.kafka.consumer.group-id") + KafkaConsumer.DEAD_LETTER_TOPIC_SUFFIX + "-replay",
+                null,
+                null,
+                overrides
+        )) {
+            consumer.assign(
+                    consumer.partitionsFor(deadLetterTopic).stream()
+                            .map(partitionInfo -> new TopicPartition(deadLetterTopic, partitionInfo.partition()))
+                            .toList()
+            );
+            int replayed = 0;
+            while (replayed < batchSize) {
+                var records = consumer.poll(POLL_TIMEOUT);
+                if (records.isEmpty()) {
+                    break; // dead-letter topic is drained.
+                }
+                List<CompletableFuture<?>> sends = new ArrayList<>();
+                Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+                for (ConsumerRecord<String, AuthorResponse> deadLetter : records) {
+                    if (replayed + sends.size() >= batchSize) {
+                        break;
+                    }
+                    sends.add(kafkaTemplate.send(toMainTopicRecord(topic, deadLetter)));
+                    offsets.put(
+                            new TopicPartition(deadLetter.topic(), deadLetter.partition()),
+                            new OffsetAndMetadata(deadLetter.offset() + 1)
+                    );
+                }
+                // wait for all sends before committing, so that no dead letter is lost.
+                CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).join();
+                consumer.commitSync(offsets);
+                replayed += sends.size();
+            }
+            metrics.recordReplayed(replayed);
+            log.info("Replayed {} dead-lettered author events from {} to {}.", replayed, deadLetterTopic, topic);
+            return replayed;
+        }
+    }
+
+    /**
+     * To frame the main topic record from dead-lettered record, keeping its key and event ID.
+     *
+     * @param topic main topic.
+     * @param deadLetter dead-lettered record.
+     * @return record to send to main topic.
+     */
+    private ProducerRecord<String, AuthorResponse> toMainTopicRecord(String topic, ConsumerRecord<String, AuthorResponse> deadLetter) {
+        var record = new ProducerRecord<>(topic, deadLetter.key(), deadLetter.value());
+        var eventId = deadLetter.headers().lastHeader(KafkaProducer.EVENT_ID_HEADER);
+        if (eventId != null) {
+            record.headers().add(eventId);
+        }
+        return record;
+    }
+}
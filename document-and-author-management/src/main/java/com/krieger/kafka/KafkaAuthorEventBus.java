@@ -0,0 +1,31 @@
+package com.krieger.kafka;
+
+import com.krieger.author.models.AuthorResponse;
+import com.krieger.eventbus.AuthorEventBus;
+import com.krieger.eventbus.ConditionalOnKafkaEventBus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Kafka backed event bus, author events are sent to kafka topic and dead letters are replayed from dead-letter topic.
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnKafkaEventBus
+public class KafkaAuthorEventBus implements AuthorEventBus {
+
+    private final KafkaProducer kafkaProducer;
+    private final DeadLetterReplayService deadLetterReplayService;
+
+    @Override
+    public CompletableFuture<?> publish(AuthorResponse author) {
+        return kafkaProducer.sendAuthorInformation(author);
+    }
+
+    @Override
+    public int replayDeadLetters(int batchSize) {
+        return deadLetterReplayService.replay(batchSize);
+    }
+}
@@ -1,23 +1,140 @@
 package com.krieger.kafka;
 
 import com.krieger.author.models.AuthorResponse;
-import com.krieger.document.service.DocumentService;
+import com.krieger.eventbus.AuthorEventHandler;
+import com.krieger.eventbus.ConditionalOnKafkaEventBus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.core.env.Environment;
+import org.springframework.kafka.annotation.DltHandler;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.kafka.retrytopic.TopicSuffixingStrategy;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletionException;
+
 @Service
 @Slf4j
 @RequiredArgsConstructor
+@ConditionalOnKafkaEventBus
 public class KafkaConsumer {
 
-    private final DocumentService documentService;
+    // suffixes of the tiered retry topics(<topic>-retry-0, <topic>-retry-1, ...) and dead-letter topic(<topic>-dlt).
+    public static final String RETRY_TOPIC_SUFFIX = "-retry";
+    public static final String DEAD_LETTER_TOPIC_SUFFIX = "-dlt";
+    // ID of the author event listener, retry and dead-letter destinations are registered under it.
+    public static final String AUTHOR_EVENTS_LISTENER_ID = "author-events";
+
+    private final AuthorEventHandler authorEventHandler;
+    private final KafkaConsumerMetrics metrics;
+    private final Environment environment;
+    private final KeyOrderedExecutor keyOrderedExecutor;
+    private final RetryTopicForwarder retryTopicForwarder;
+
+    // failed events are moved to retry topics with exponential backoff, so that the main partition never blocks.
+    @RetryableTopic(
+            attempts = "${kafka.retry.attempts:4}",
+            backoff = @Backoff(
+                    delayExpression = "${kafka.retry.delay:1000}",
+                    multiplierExpression = "${kafka.retry.multiplier:2.0}",
+                    maxDelayExpression = "${kafka.retry.max-delay:30000}"
+            ),
+            retryTopicSuffix = RETRY_TOPIC_SUFFIX,
+            dltTopicSuffix = DEAD_LETTER_TOPIC_SUFFIX,
+            topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE
+    )
+    @KafkaListener(id = AUTHOR_EVENTS_LISTENER_ID, topics = "${kafka.topic}", groupId = "${spring.kafka.consumer.group-id}")
+    public void consumeAuthorResponseFromKafka(
+            AuthorResponse authorResponse,
+            ConsumerRecord<String, AuthorResponse> record,
+            @Header(name = KafkaProducer.EVENT_ID_HEADER, required = false) String eventId,
+            @Header(name = KafkaProducer.PRODUCED_AT_HEADER, required = false) Long producedAt,
+            @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
+            @Header(name = KafkaHeaders.ACKNOWLEDGMENT, required = false) Acknowledgment acknowledgment
+    ) {
+        if (producedAt != null) {
+            metrics.recordEndToEndLatency(producedAt, topic);
+        }
+        var mainTopic = environment.getProperty("kafka.topic");
+        if (!topic.equals(mainTopic)) {
+            metrics.recordRetry(topic);
+        }
+        // acknowledgment is present only in ordered parallel mode.
+        if (acknowledgment == null) {
+            authorEventHandler.handle(authorResponse, eventId);
+            return;
+        }
+        // retry topics are processed inline, so that failures move on to the next retry topic.
+        if (!topic.equals(mainTopic)) {
+            authorEventHandler.handle(authorResponse, eventId);
+            acknowledgment.acknowledge();
+            return;
+        }
+        // events of the same author are processed in order, events of different authors run concurrently.
+        keyOrderedExecutor.submit(authorResponse.getId(), () -> authorEventHandler.handle(authorResponse, eventId))
+                .whenComplete((result, ex) -> {
+                    if (ex == null) {
+                        acknowledgment.acknowledge();
+                    } else {
+                        forwardToRetryTopic(record, eventId, ex, acknowledgment);
+                    }
+                });
+    }
+
+    /**
+     * Events failed off the consumer thread can not be handed to the container error handler, so they are forwarded
+     * to their next retry topic(or dead-letter topic) here. The event is acknowledged only once the forward is sent,
+     * failed sends are repeated after the retry delay, so that the event is never lost. An event left unacknowledged
+     * on shutdown is received again after restart.
+     *
+     * @param record failed author event.
+     * @param eventId to identify the event.
+     * @param ex reason of the failure.
+     * @param acknowledgment to acknowledge the event once it is forwarded.
+     */
+    private void forwardToRetryTopic(ConsumerRecord<String, AuthorResponse> record, String eventId, Throwable ex, Acknowledgment acknowledgment) {
+        var cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+        var exception = cause instanceof Exception failure ? failure : new IllegalStateException(cause);
+        log.error("Processing of event {} for the author with ID {} failed, forwarding to retry topic. Error: {}",
+                eventId, record.value().getId(), exception.getMessage());
+        long delay = environment.getProperty("kafka.retry.delay", Long.class, 1000L);
+        while (true) {
+            try {
+                retryTopicForwarder.forward(record, exception);
+                acknowledgment.acknowledge();
+                return;
+            } catch (RuntimeException sendFailure) {
+                log.error("Forwarding event {} to retry topic failed, retrying in {}ms. Error: {}", eventId, delay, sendFailure.getMessage());
+            }
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException interrupted) {
+                Thread.currentThread().interrupt();
+                log.warn("Event {} is left unacknowledged on shutdown.", eventId);
+                return;
+            }
+        }
+    }
 
-    @KafkaListener(topics = "${kafka.topic}", groupId = "${spring.kafka.consumer.group-id}")
-    public void consumeAuthorResponseFromKafka(AuthorResponse authorResponse) {
-        // delete author and all the documents associated with author and update references.
-        documentService.updateDocumentReferencesAndDeleteAuthor(authorResponse.getId());
+    /**
+     * To handle author events which are failed in all retry attempts, they stay in dead-letter topic until replayed.
+     *
+     * @param authorResponse dead-lettered author event.
+     * @param exceptionMessage reason of the last failure.
+     */
+    @DltHandler
+    public void handleDeadLetteredAuthorResponse(
+            AuthorResponse authorResponse,
+            @Header(name = KafkaHeaders.DLT_EXCEPTION_MESSAGE, required = false) String exceptionMessage
+    ) {
+        metrics.recordDeadLetter();
+        log.error("Author event with ID {} is moved to dead-letter topic. Error: {}", authorResponse.getId(), exceptionMessage);
     }
 
 }
@@ -0,0 +1,70 @@
+package com.krieger.kafka;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * To record author consumer metrics, exposed through the actuator metrics endpoint.
+ */
+// named explicitly, "kafkaConsumerMetrics" is taken by the kafka client metrics of spring boot actuator.
+@Component("authorEventConsumerMetrics")
+@RequiredArgsConstructor
+public class KafkaConsumerMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * To record time taken from producing an author event until it is received by the consumer.
+     *
+     * @param producedAt produce time of the event in epoch milliseconds.
+     * @param topic topic from which the event is received.
+     */
+    public void recordEndToEndLatency(long producedAt, String topic) {
+        Timer.builder("kafka.author.event.latency")
+                .description("Time taken from producing an author event until it is received by the consumer.")
+                .tag("topic", topic)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(Duration.ofMillis(Math.max(0, System.currentTimeMillis() - producedAt)));
+    }
+
+    /**
+     * To count an author event delivered again from a retry topic.
+     *
+     * @param retryTopic retry topic from which the event is delivered.
+     */
+    public void recordRetry(String retryTopic) {
+        Counter.builder("kafka.author.consumer.retries")
+                .description("Author events delivered again from a retry topic.")
+                .tag("topic", retryTopic)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * To count an author event routed to the dead-letter topic.
+     */
+    public void recordDeadLetter() {
+        Counter.builder("kafka.author.consumer.dead.letters")
+                .description("Author events routed to the dead-letter topic after all retries failed.")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * To count dead-lettered author events replayed to the main topic.
+     *
+     * @param replayed number of replayed events.
+     */
+    public void recordReplayed(int replayed) {
+        Counter.builder("kafka.author.consumer.dead.letters.replayed")
+                .description("Dead-lettered author events replayed to the main topic.")
+                .register(meterRegistry)
+                .increment(replayed);
+    }
+}
@@ -0,0 +1,43 @@
+package com.krieger.kafka;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.springframework.boot.autoconfigure.kafka.DefaultKafkaConsumerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Map;
+
+/**
+ * To configure kafka consumer metrics. Per-partition consumer lag(kafka.consumer.fetch.manager.records.lag)
+ * and other kafka client metrics are bound by spring boot, this adds poll batch sizes and @Timed support.
+ */
+@Configuration
+public class KafkaMetricsConfig {
+
+    /**
+     * To register poll batch size interceptor on every consumer created by the consumer factory.
+     *
+     * @param meterRegistry registry to record batch sizes.
+     * @return consumer factory customizer.
+     */
+    @Bean
+    public DefaultKafkaConsumerFactoryCustomizer pollBatchSizeCustomizer(MeterRegistry meterRegistry) {
+        return consumerFactory -> consumerFactory.updateConfigs(Map.of(
+                ConsumerConfig.INTERCEPTOR_CLASSES_CONFIG, PollBatchSizeInterceptor.class.getName(),
+                PollBatchSizeInterceptor.METER_REGISTRY_CONFIG, meterRegistry
+        ));
+    }
+
+    /**
+     * To record processing time of methods annotated with @Timed.
+     *
+     * @param meterRegistry registry to record method timings.
+     * @return timed aspect.
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
@@ -1,26 +1,64 @@
 package com.krieger.kafka;
 
 import com.krieger.author.models.AuthorResponse;
+import com.krieger.eventbus.ConditionalOnKafkaEventBus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.env.Environment;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Service;
 
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
 @Service
 @RequiredArgsConstructor
+@ConditionalOnKafkaEventBus
 public class KafkaProducer {
 
+    // header carrying unique event ID, used by consumer to skip duplicated events.
+    public static final String EVENT_ID_HEADER = "event-id";
+    // header carrying produce time in epoch milliseconds, used by consumer to measure end-to-end latency.
+    public static final String PRODUCED_AT_HEADER = "produced-at";
+
     private final KafkaTemplate<String, AuthorResponse> kafkaTemplate;
     private final Environment environment;
 
-    public void sendAuthorInformation(AuthorResponse author) {
+    public CompletableFuture<SendResult<String, AuthorResponse>> sendAuthorInformation(AuthorResponse author) {
+        return sendAuthorInformation(
+                author,
+                environment.getProperty("kafka.topic"),
+                UUID.randomUUID().toString(),
+                System.currentTimeMillis()
+        );
+    }
+
+    /**
+     * To send author information to the given topic, keyed by author ID so that all events of an author land on
+     * the same partition in order.
+     *
+     * @param author author information to send.
+     * @param topic topic to send to.
+     * @param eventId unique ID of the event.
+     * @param producedAt time at which the event is produced first, in epoch milliseconds.
+     * @return future completed once kafka acknowledges the event.
+     */
+    public CompletableFuture<SendResult<String, AuthorResponse>> sendAuthorInformation(
+            AuthorResponse author,
+            String topic,
+            String eventId,
+            Long producedAt
+    ) {
         Message<AuthorResponse> message = MessageBuilder
                 .withPayload(author)
-                .setHeader(KafkaHeaders.TOPIC, environment.getProperty("kafka.topic"))
+                .setHeader(KafkaHeaders.TOPIC, topic)
+                .setHeader(KafkaHeaders.KEY, String.valueOf(author.getId()))
+                .setHeader(EVENT_ID_HEADER, eventId)
+                .setHeader(PRODUCED_AT_HEADER, producedAt)
                 .build();
-        kafkaTemplate.send(message);
+        return kafkaTemplate.send(message);
     }
 }
@@ -1,19 +1,31 @@
 package com.krieger.kafka;
 
+import com.krieger.eventbus.ConditionalOnKafkaEventBus;
 import lombok.RequiredArgsConstructor;
 import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.common.config.TopicConfig;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
+import org.springframework.kafka.config.ContainerCustomizer;
 import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties;
 
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.Objects;
 
 @Configuration
 @RequiredArgsConstructor
+@ConditionalOnKafkaEventBus
 public class KafkaTemplateConfig {
 
     private final Environment environment;
+    private final ChangeEventConfig changeEventConfig;
+    private final OrderedParallelConsumerConfig orderedParallelConsumerConfig;
+    private final CacheInvalidationConfig cacheInvalidationConfig;
+    private final SnapshotConfig snapshotConfig;
 
     @Bean
     public NewTopic newTopic() {
@@ -22,4 +34,55 @@ public class KafkaTemplateConfig {
                 .build();
     }
 
+    @Bean
+    public NewTopic changeEventTopic() {
+        return TopicBuilder
+                .name(changeEventConfig.getTopic())
+                .build();
+    }
+
+    // invalidations are only useful for a short while, so they are not retained for long.
+    @Bean
+    public NewTopic cacheInvalidationTopic() {
+        return TopicBuilder
+                .name(cacheInvalidationConfig.getTopic())
+                .config(TopicConfig.RETENTION_MS_CONFIG, String.valueOf(Duration.ofHours(1).toMillis()))
+                .build();
+    }
+
+    // only the latest state of every key is needed, older states are compacted away.
+    @Bean
+    public NewTopic snapshotTopic() {
+        return TopicBuilder
+                .name(snapshotConfig.getTopic())
+                .partitions(snapshotConfig.getPartitions())
+                .compact()
+                .build();
+    }
+
+    @Bean
+    public KeyOrderedExecutor keyOrderedExecutor() {
+        return new KeyOrderedExecutor(orderedParallelConsumerConfig.getMaxConcurrency());
+    }
+
+    /**
+     * In ordered parallel mode, listener acknowledges every record once it is processed, possibly out of order.
+     * Async acks let the container commit only up to the lowest offset which is not processed yet.
+     * Only the container of the main topic is customized, other listeners never acknowledge manually.
+     *
+     * @return container customizer applied to all listener containers.
+     */
+    @Bean
+    public ContainerCustomizer<Object, Object, ConcurrentMessageListenerContainer<Object, Object>> orderedParallelContainerCustomizer() {
+        return container -> {
+            var topics = container.getContainerProperties().getTopics();
+            if (orderedParallelConsumerConfig.isEnabled()
+                    && topics != null
+                    && Arrays.asList(topics).contains(environment.getProperty("kafka.topic"))) {
+                container.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+                container.getContainerProperties().setAsyncAcks(true);
+            }
+        };
+    }
+
 }
@@ -0,0 +1,93 @@
+package com.krieger.kafka;
+
+import com.krieger.eventbus.ConditionalOnKafkaEventBus;
+import com.krieger.startup.StartupConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.AbstractMessageListenerContainer;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * To create kafka topics(NewTopic beans, including retry and dead-letter topics) in the background instead of
+ * blocking startup on the admin client. Creation starts once all beans are instantiated, like it does in KafkaAdmin.
+ * Only the listener containers wait for it, so that they subscribe to existing topics with the intended
+ * configuration: they do not start with the context("spring.kafka.listener.auto-startup: false") and are started here
+ * once topics are created, while the rest of the application starts and reports ready without waiting.
+ * KafkaAdmin itself does not create topics("spring.kafka.admin.auto-create: false").
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnKafkaEventBus
+public class KafkaTopicInitializer implements SmartInitializingSingleton, SmartLifecycle {
+
+    private final KafkaAdmin kafkaAdmin;
+    private final StartupConfig startupConfig;
+    private final KafkaListenerEndpointRegistry listenerEndpointRegistry;
+    private volatile CompletableFuture<Boolean> topicsCreated = CompletableFuture.completedFuture(false);
+    private volatile boolean running;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!startupConfig.isCreateTopics()) {
+            return;
+        }
+        long start = System.nanoTime();
+        topicsCreated = CompletableFuture.supplyAsync(
+                kafkaAdmin::initialize,
+                task -> Thread.ofVirtual().name("kafka-topic-creation").start(task)
+        ).whenComplete((created, ex) -> {
+            if (ex == null) {
+                log.info("Kafka topics checked in {} ms.", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
+        });
+    }
+
+    // returns right away, listeners are started once topics are created(or creation times out).
+    @Override
+    public synchronized void start() {
+        running = true;
+        topicsCreated.copy()
+                .orTimeout(startupConfig.getTopicCreationTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((created, ex) -> {
+                    if (ex != null) {
+                        log.warn("Kafka topics are not created, listeners start anyway. Error: {}", ex.toString());
+                    }
+                    startListeners();
+                });
+    }
+
+    // listeners are not started after the context is stopped.
+    private synchronized void startListeners() {
+        if (!running) {
+            return;
+        }
+        listenerEndpointRegistry.getListenerContainers().stream()
+                .filter(container -> !container.isRunning())
+                .forEach(MessageListenerContainer::start);
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // started before and stopped after the listener containers, so that a late start never outlives their stop.
+    @Override
+    public int getPhase() {
+        return AbstractMessageListenerContainer.DEFAULT_PHASE - 1;
+    }
+}
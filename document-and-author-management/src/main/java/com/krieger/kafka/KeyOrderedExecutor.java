@@ -0,0 +1,64 @@
+package com.krieger.kafka;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * To run tasks concurrently across distinct keys on virtual threads, while tasks of the same key run one after
+ * another in submission order. Number of tasks running at the same time is bounded by maxConcurrency, so that
+ * the DB connection pool is not exhausted.
+ */
+public class KeyOrderedExecutor implements AutoCloseable {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    // last submitted task of every key which is still running or waiting.
+    private final Map<Object, CompletableFuture<Void>> tails = new ConcurrentHashMap<>();
+    private final Semaphore permits;
+
+    public KeyOrderedExecutor(int maxConcurrency) {
+        this.permits = new Semaphore(maxConcurrency);
+    }
+
+    /**
+     * To submit the task, it starts once all earlier tasks of the same key are completed(successfully or not).
+     *
+     * @param key to order the tasks.
+     * @param task to run.
+     * @return future completed when the task is completed.
+     */
+    public CompletableFuture<Void> submit(Object key, Runnable task) {
+        CompletableFuture<Void> future = tails.compute(key, (k, tail) ->
+                (tail == null ? CompletableFuture.<Void>completedFuture(null) : tail.handle((result, ex) -> (Void) null))
+                        .thenRunAsync(() -> runWithPermit(task), executor)
+        );
+        // forget the key once its last task is completed.
+        return future.whenComplete((result, ex) -> tails.remove(key, future));
+    }
+
+    private void runWithPermit(Runnable task) {
+        permits.acquireUninterruptibly();
+        try {
+            task.run();
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * To get number of keys which have running or waiting tasks.
+     *
+     * @return number of active keys.
+     */
+    public int activeKeys() {
+        return tails.size();
+    }
+
+    @Override
+    public void close() {
+        executor.close();
+    }
+}
@@ -0,0 +1,18 @@
+package com.krieger.kafka;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * To read specific("kafka.consumer.ordered-parallel") properties from properties(.yml, .yaml or .properties) file.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "kafka.consumer.ordered-parallel")
+@Data
+public class OrderedParallelConsumerConfig {
+    // process author events concurrently across distinct authors, keeping per-author order.
+    private boolean enabled = false;
+    // maximum number of author events processed at the same time, keep it within DB connection pool size.
+    private int maxConcurrency = 10;
+}
@@ -0,0 +1,57 @@
+package com.krieger.kafka;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerInterceptor;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Kafka consumer interceptor to record the number of records returned by every poll, per topic.
+ * Kafka instantiates interceptors itself, so the meter registry is passed through consumer configs.
+ */
+public class PollBatchSizeInterceptor implements ConsumerInterceptor<Object, Object> {
+
+    // consumer config key holding the meter registry instance.
+    public static final String METER_REGISTRY_CONFIG = "krieger.metrics.meter-registry";
+
+    private MeterRegistry meterRegistry;
+
+    @Override
+    public void configure(Map<String, ?> configs) {
+        meterRegistry = (MeterRegistry) configs.get(METER_REGISTRY_CONFIG);
+    }
+
+    @Override
+    public ConsumerRecords<Object, Object> onConsume(ConsumerRecords<Object, Object> records) {
+        if (meterRegistry != null && !records.isEmpty()) {
+            Map<String, Integer> batchSizes = new HashMap<>();
+            for (TopicPartition partition : records.partitions()) {
+                batchSizes.merge(partition.topic(), records.records(partition).size(), Integer::sum);
+            }
+            batchSizes.forEach((topic, batchSize) ->
+                    DistributionSummary.builder("kafka.consumer.poll.batch.size")
+                            .description("Number of records returned by a consumer poll.")
+                            .tag("topic", topic)
+                            .publishPercentileHistogram()
+                            .register(meterRegistry)
+                            .record(batchSize)
+            );
+        }
+        return records;
+    }
+
+    @Override
+    public void onCommit(Map<TopicPartition, OffsetAndMetadata> offsets) {
+        // nothing to record on commit.
+    }
+
+    @Override
+    public void close() {
+        // nothing to release.
+    }
+}
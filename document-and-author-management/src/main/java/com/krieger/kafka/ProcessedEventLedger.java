@@ -0,0 +1,80 @@
+package com.krieger.kafka;
+
+import com.krieger.kafka.entity.ProcessedEvent;
+import com.krieger.kafka.repository.ProcessedEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * To keep track of kafka events which are already processed, so that redelivered or duplicated events are skipped.
+ * Recently processed event IDs are kept in a bounded in-memory LRU front, DB is used only when the front misses.
+ */
+@Service
+@Slf4j
+public class ProcessedEventLedger {
+
+    private final ProcessedEventRepository repository;
+    private final ProcessedEventLedgerConfig config;
+    // bounded LRU front of recently processed event IDs.
+    private final Map<String, Instant> recentEvents;
+
+    public ProcessedEventLedger(ProcessedEventRepository repository, ProcessedEventLedgerConfig config) {
+        this.repository = repository;
+        this.config = config;
+        this.recentEvents = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Instant> eldest) {
+                return size() > config.getCacheSize();
+            }
+        });
+    }
+
+    /**
+     * To check whether the event is already processed.
+     *
+     * @param eventId to identify the event.
+     * @return true if the event is already processed, otherwise false.
+     */
+    public boolean isProcessed(String eventId) {
+        if (recentEvents.containsKey(eventId)) {
+            return true; // duplicate found in memory, no DB work required.
+        }
+        return repository.findById(eventId)
+                .map(processedEvent -> {
+                    recentEvents.put(eventId, processedEvent.getProcessedAt());
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    /**
+     * To record the event as processed.
+     *
+     * @param eventId to identify the event.
+     */
+    public void markProcessed(String eventId) {
+        var processedAt = Instant.now();
+        repository.save(new ProcessedEvent(eventId, processedAt));
+        recentEvents.put(eventId, processedAt);
+    }
+
+    /**
+     * To purge the ledger entries which are older than configured retention.
+     */
+    @Scheduled(fixedDelayString = "${kafka.ledger.purge-interval:PT1H}")
+    public void purgeExpiredEvents() {
+        var expiredBefore = Instant.now().minus(config.getRetention());
+        // iterating over synchronized map requires explicit lock.
+        synchronized (recentEvents) {
+            recentEvents.values().removeIf(processedAt -> processedAt.isBefore(expiredBefore));
+        }
+        int purged = repository.deleteAllProcessedBefore(expiredBefore);
+        log.info("Purged {} processed events older than {}.", purged, expiredBefore);
+    }
+}
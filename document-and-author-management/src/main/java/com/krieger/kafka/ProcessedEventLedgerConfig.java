@@ -0,0 +1,20 @@
+package com.krieger.kafka;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * To read specific("kafka.ledger") properties from properties(.yml, .yaml or .properties) file.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "kafka.ledger")
+@Data
+public class ProcessedEventLedgerConfig {
+    // number of recently processed event IDs kept in memory.
+    private int cacheSize = 10_000;
+    // how long processed event IDs are kept in DB before they are purged.
+    private Duration retention = Duration.ofDays(7);
+}
@@ -0,0 +1,50 @@
+package com.krieger.kafka;
+
+import com.krieger.eventbus.ConditionalOnKafkaEventBus;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.retrytopic.DeadLetterPublishingRecovererFactory;
+import org.springframework.kafka.retrytopic.DestinationTopicResolver;
+import org.springframework.kafka.retrytopic.RetryTopicBeanNames;
+import org.springframework.stereotype.Component;
+import org.springframework.util.function.SingletonSupplier;
+
+import java.util.function.Supplier;
+
+/**
+ * To forward events which failed off the consumer thread to their next retry topic(or dead-letter topic), the same
+ * way the retry topic error handler does for events failed on the consumer thread: with the attempts, backoff and
+ * exception headers of @RetryableTopic, so that the retry listener waits for the backoff before processing them.
+ */
+@Component
+@ConditionalOnKafkaEventBus
+public class RetryTopicForwarder {
+
+    // destinations are registered when the listener is, so the recoverer is created on the first failure.
+    private final Supplier<DeadLetterPublishingRecoverer> recoverer;
+
+    public RetryTopicForwarder(
+            @Qualifier(RetryTopicBeanNames.DESTINATION_TOPIC_RESOLVER_BEAN_NAME)
+            ObjectProvider<DestinationTopicResolver> destinationTopicResolver
+    ) {
+        this.recoverer = SingletonSupplier.of(() -> {
+            var factory = new DeadLetterPublishingRecovererFactory(destinationTopicResolver.getObject());
+            // partition is chosen by key, consumer of this thread is not available to check partitions of the target.
+            factory.setPartitionResolver((record, topic) -> null);
+            return factory.create(KafkaConsumer.AUTHOR_EVENTS_LISTENER_ID);
+        });
+    }
+
+    /**
+     * To forward the failed event, waiting until kafka acknowledges it.
+     *
+     * @param record failed event, as received from the main topic.
+     * @param exception reason of the failure, decides between retry and dead-letter topic.
+     * @throws org.springframework.kafka.KafkaException when the event could not be sent.
+     */
+    public void forward(ConsumerRecord<?, ?> record, Exception exception) {
+        recoverer.get().accept(record, null, exception);
+    }
+}
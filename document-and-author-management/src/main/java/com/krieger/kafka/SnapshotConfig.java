@@ -0,0 +1,24 @@
+package com.krieger.kafka;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * To read specific("kafka.snapshot") properties from properties(.yml, .yaml or .properties) file.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "kafka.snapshot")
+@Data
+public class SnapshotConfig {
+    // log-compacted topic holding the latest state of every author and document.
+    private String topic = "document-and-author-snapshot-topic";
+    // partitions of the snapshot topic, read in parallel on startup.
+    private int partitions = 6;
+    // warm caches from the snapshot topic before the node reports ready.
+    private boolean warmUpOnStartup = true;
+    // upper bound of the startup warm-up, node starts with whatever is loaded by then.
+    private Duration warmUpTimeout = Duration.ofMinutes(1);
+}
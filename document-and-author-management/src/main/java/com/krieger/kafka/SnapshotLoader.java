@@ -0,0 +1,165 @@
+package com.krieger.kafka;
+
+import com.krieger.eventbus.ConditionalOnKafkaEventBus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * To warm local caches from the snapshot topic on startup. Application runners complete before the application
+ * reports ready, so the node takes traffic only once the caches are warm(or warm-up times out).
+ * Every partition is read by its own consumer in parallel, only the state of the highest version of every key is
+ * kept.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnKafkaEventBus
+// before the warm-up runner, so that entries warmed from the snapshot are not loaded from DB again.
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SnapshotLoader implements ApplicationRunner {
+
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(500);
+
+    private final ConsumerFactory<String, Object> consumerFactory;
+    private final CacheManager cacheManager;
+    private final SnapshotConfig config;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!config.isWarmUpOnStartup()) {
+            return;
+        }
+        try {
+            var started = System.nanoTime();
+            var loaded = warmUp();
+            log.info("Warmed caches with {} entries from {} in {} ms.",
+                    loaded, config.getTopic(), Duration.ofNanos(System.nanoTime() - started).toMillis());
+        } catch (Exception ex) {
+            // caches are filled on demand instead.
+            log.warn("Failed to warm caches from {}, starting cold. Error: {}", config.getTopic(), ex.getMessage());
+        }
+    }
+
+    /**
+     * To read all partitions of snapshot topic up to their current end offsets in parallel.
+     *
+     * @return number of loaded entries.
+     * @throws Exception when a partition can not be read.
+     */
+    public int warmUp() throws Exception {
+        var deadline = Instant.now().plus(config.getWarmUpTimeout());
+        Map<TopicPartition, Long> endOffsets;
+        try (Consumer<String, Object> consumer = createConsumer("metadata")) {
+            var partitions = consumer.partitionsFor(config.getTopic()).stream()
+                    .map(partitionInfo -> new TopicPartition(config.getTopic(), partitionInfo.partition()))
+                    .toList();
+            endOffsets = consumer.endOffsets(partitions);
+        }
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Integer>> loads = new ArrayList<>();
+            endOffsets.forEach((partition, endOffset) ->
+                    loads.add(executor.submit(() -> loadPartition(partition, endOffset, deadline)))
+            );
+            int loaded = 0;
+            for (Future<Integer> load : loads) {
+                loaded += load.get();
+            }
+            return loaded;
+        }
+    }
+
+    /**
+     * To read the partition from the beginning up to the end offset and put the state of the highest version of
+     * every key to cache.
+     * A partition not read up to its end offset before the deadline warms nothing, newer states and tombstones of
+     * its keys may not have been read yet.
+     *
+     * @param partition to read.
+     * @param endOffset offset up to which the partition is read.
+     * @param deadline time after which reading stops.
+     * @return number of loaded entries.
+     */
+    private int loadPartition(TopicPartition partition, long endOffset, Instant deadline) {
+        // keys are partition-local, so latest states of different partitions never overlap.
+        Map<String, SnapshotWriter.Snapshot> latestStates = new HashMap<>();
+        try (Consumer<String, Object> consumer = createConsumer(String.valueOf(partition.partition()))) {
+            consumer.assign(List.of(partition));
+            consumer.seekToBeginning(List.of(partition));
+            while (consumer.position(partition) < endOffset && Instant.now().isBefore(deadline)) {
+                for (ConsumerRecord<String, Object> record : consumer.poll(POLL_TIMEOUT)) {
+                    // states are sent by all nodes unordered, an older state read later is dropped.
+                    // tombstones are kept as null, so that older states of deleted entities are dropped.
+                    var version = SnapshotWriter.version(record.headers().lastHeader(SnapshotWriter.VERSION_HEADER));
+                    latestStates.merge(
+                            record.key(),
+                            new SnapshotWriter.Snapshot(version, record.value()),
+                            (latest, read) -> read.version() >= latest.version() ? read : latest
+                    );
+                }
+            }
+            var position = consumer.position(partition);
+            if (position < endOffset) {
+                log.warn("Skipped warming caches from partition {}, read up to offset {} of {} within warm-up timeout.",
+                        partition, position, endOffset);
+                return 0;
+            }
+        }
+        int loaded = 0;
+        for (Map.Entry<String, SnapshotWriter.Snapshot> latestState : latestStates.entrySet()) {
+            var state = latestState.getValue().state();
+            if (state != null && warm(latestState.getKey(), state)) {
+                loaded++;
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * To put the state to cache, entries already loaded on demand are fresher and kept as is.
+     *
+     * @param key snapshot key("cache-name:ID").
+     * @param state latest state of the key.
+     * @return true, if the key is recognized.
+     */
+    private boolean warm(String key, Object state) {
+        var separator = key == null ? -1 : key.lastIndexOf(':');
+        if (separator < 0) {
+            return false;
+        }
+        var cache = cacheManager.getCache(key.substring(0, separator));
+        if (cache == null) {
+            return false;
+        }
+        cache.putIfAbsent(Long.valueOf(key.substring(separator + 1)), state);
+        return true;
+    }
+
+    private Consumer<String, Object> createConsumer(String clientIdSuffix) {
+        var overrides = new Properties();
+        overrides.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+        overrides.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        return consumerFactory.createConsumer(null, "snapshot-loader-", clientIdSuffix, overrides);
+    }
+}
@@ -0,0 +1,148 @@
+package com.krieger.kafka;
+
+import com.krieger.author.service.AuthorService;
+import com.krieger.cache.CacheNames;
+import com.krieger.document.service.DocumentService;
+import com.krieger.eventbus.ConditionalOnKafkaEventBus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * To keep the latest state of every changed author and document in the log-compacted snapshot topic.
+ * States are read from DB in the committing transaction and sent after the commit keyed by "cache-name:ID", with a
+ * version from a DB sequence, so that readers can tell the newer of two states sent by different nodes. Deleted
+ * entities are sent as tombstones so that compaction removes them. Compaction keeps the last state sent for a key,
+ * which may be older than an earlier one until the key changes again, caches expire regardless.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnKafkaEventBus
+public class SnapshotWriter {
+
+    // header holding the version of the state, as a decimal string.
+    public static final String VERSION_HEADER = "snapshot-version";
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final SnapshotConfig config;
+    private final AuthorService authorService;
+    private final DocumentService documentService;
+    private final JdbcTemplate jdbcTemplate;
+    // states waiting for the next flush by key, guarded by this.
+    private Map<String, Snapshot> pendingSnapshots = new HashMap<>();
+
+    /**
+     * Version and state of a key, null state is a tombstone.
+     */
+    record Snapshot(long version, Object state) {
+    }
+
+    /**
+     * To read the current state of the changed keys and queue them for the next flush once the transaction commits.
+     * Changes are written before the version is taken, so a later transaction changing the same rows gets a higher
+     * version. Without a transaction, the change is already committed and the states are queued right away.
+     *
+     * @param keys changed IDs by cache name.
+     */
+    public void capture(Map<String, Set<Long>> keys) {
+        Map<String, Object> states = new HashMap<>();
+        keys.forEach((cacheName, ids) -> {
+            Map<Long, ?> found = switch (cacheName) {
+                case CacheNames.AUTHORS -> authorService.loadAuthorsByIds(new ArrayList<>(ids));
+                case CacheNames.DOCUMENTS -> documentService.loadDocumentsByIds(new ArrayList<>(ids));
+                default -> throw new IllegalArgumentException("Unknown cache name : " + cacheName);
+            };
+            // entities no longer found are sent as tombstones.
+            ids.forEach(id -> states.put(key(cacheName, id), found.get(id)));
+        });
+        if (states.isEmpty()) {
+            return;
+        }
+        long version = jdbcTemplate.queryForObject("SELECT nextval('snapshot_versions')", Long.class);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    queue(states, version);
+                }
+            });
+        } else {
+            queue(states, version);
+        }
+    }
+
+    /**
+     * To queue the states for the next flush, a key already queued keeps the state of the higher version.
+     */
+    private synchronized void queue(Map<String, Object> states, long version) {
+        states.forEach((key, state) -> pendingSnapshots.merge(
+                key,
+                new Snapshot(version, state),
+                (queued, captured) -> captured.version() > queued.version() ? captured : queued
+        ));
+    }
+
+    /**
+     * To send all queued states to snapshot topic, failures are logged once kafka answers.
+     */
+    @Scheduled(fixedDelayString = "${kafka.snapshot.flush-interval:PT0.2S}")
+    public void flush() {
+        Map<String, Snapshot> snapshots;
+        synchronized (this) {
+            if (pendingSnapshots.isEmpty()) {
+                return;
+            }
+            snapshots = pendingSnapshots;
+            pendingSnapshots = new HashMap<>();
+        }
+        snapshots.forEach((key, snapshot) -> {
+            var record = new ProducerRecord<String, Object>(config.getTopic(), key, snapshot.state());
+            record.headers().add(VERSION_HEADER, Long.toString(snapshot.version()).getBytes(StandardCharsets.UTF_8));
+            try {
+                kafkaTemplate.send(record).whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        // snapshot stays behind until the key changes again, caches expire regardless.
+                        log.warn("Failed to write snapshot of {}. Error: {}", key, ex.getMessage());
+                    }
+                });
+            } catch (RuntimeException ex) {
+                log.warn("Failed to write snapshot of {}. Error: {}", key, ex.getMessage());
+            }
+        });
+    }
+
+    /**
+     * To read the version of a snapshot record.
+     *
+     * @param header version header of the record, may be null.
+     * @return version, or -1 when the record has none.
+     */
+    public static long version(Header header) {
+        return header == null ? -1 : Long.parseLong(new String(header.value(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * To frame the snapshot key of an author or a document.
+     *
+     * @param cacheName cache of the key.
+     * @param id ID of the author or document.
+     * @return snapshot key.
+     */
+    public static String key(String cacheName, Long id) {
+        return cacheName + ":" + id;
+    }
+}
@@ -0,0 +1,34 @@
+package com.krieger.kafka.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * Entity class representing a kafka event which is already processed by the consumer.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Getter
+@Setter
+@Entity
+@Table(name = "processed_events")
+public class ProcessedEvent {
+
+    @Id
+    @Column(length = 64)
+    private String eventId;
+
+    @Column(nullable = false)
+    private Instant processedAt;
+
+}
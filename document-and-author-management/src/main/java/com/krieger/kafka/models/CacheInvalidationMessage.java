@@ -0,0 +1,16 @@
+package com.krieger.kafka.models;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Represents coalesced cache invalidations broadcast to all nodes.
+ *
+ * @param nodeId ID of the node on which the changes are made, that node has already evicted the keys.
+ * @param keys   IDs to evict by cache name.
+ */
+public record CacheInvalidationMessage(
+        String nodeId,
+        Map<String, Set<Long>> keys
+) {
+}
@@ -0,0 +1,64 @@
+package com.krieger.kafka.models;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Represents a created, updated or deleted change of an author or a document, published to change-data topic.
+ *
+ * @param eventId    unique ID of the change event.
+ * @param entityType type of the changed entity.
+ * @param entityId   ID of the changed entity.
+ * @param changeType type of the change.
+ * @param before     entity state before the change, null for created entities.
+ * @param after      entity state after the change, null for deleted entities.
+ * @param occurredAt time at which the change was made.
+ */
+public record EntityChangeEvent(
+        String eventId,
+        EntityType entityType,
+        Long entityId,
+        ChangeType changeType,
+        Object before,
+        Object after,
+        Instant occurredAt
+) {
+
+    /**
+     * Types of entities which are published to change-data topic.
+     */
+    public enum EntityType {
+        AUTHOR,
+        DOCUMENT
+    }
+
+    /**
+     * Types of changes which are published to change-data topic.
+     */
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public static EntityChangeEvent created(EntityType entityType, Long entityId, Object after) {
+        return new EntityChangeEvent(UUID.randomUUID().toString(), entityType, entityId, ChangeType.CREATED, null, after, Instant.now());
+    }
+
+    public static EntityChangeEvent updated(EntityType entityType, Long entityId, Object before, Object after) {
+        return new EntityChangeEvent(UUID.randomUUID().toString(), entityType, entityId, ChangeType.UPDATED, before, after, Instant.now());
+    }
+
+    public static EntityChangeEvent deleted(EntityType entityType, Long entityId, Object before) {
+        return new EntityChangeEvent(UUID.randomUUID().toString(), entityType, entityId, ChangeType.DELETED, before, null, Instant.now());
+    }
+
+    /**
+     * To frame the message key, so that all changes of the same entity land on the same partition in order.
+     *
+     * @return message key of the change event.
+     */
+    public String key() {
+        return entityType.name().toLowerCase() + ":" + entityId;
+    }
+}
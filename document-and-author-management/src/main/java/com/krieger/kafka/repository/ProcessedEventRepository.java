@@ -0,0 +1,22 @@
+package com.krieger.kafka.repository;
+
+import com.krieger.kafka.entity.ProcessedEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+/**
+ * To provide data access operations for processed kafka events ledger.
+ */
+@Repository
+public interface ProcessedEventRepository extends JpaRepository<ProcessedEvent, String> {
+    // remove all ledger entries processed before the given instant in a single statement.
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ProcessedEvent e WHERE e.processedAt < :processedAt")
+    int deleteAllProcessedBefore(Instant processedAt);
+}
@@ -0,0 +1,19 @@
+package com.krieger.reactive;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * To read specific("reactive-read") properties from properties(.yml, .yaml or .properties) file.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "reactive-read")
+@Data
+public class ReactiveReadConfig {
+
+    // rows whose authors, documents and references are looked up together.
+    private int batchSize = 100;
+    // largest page a client can stream at once.
+    private int maxPageSize = 10_000;
+}
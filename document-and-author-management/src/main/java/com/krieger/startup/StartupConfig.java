@@ -0,0 +1,23 @@
+package com.krieger.startup;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * To read specific("startup") properties from properties(.yml, .yaml or .properties) file.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "startup")
+@Data
+public class StartupConfig {
+
+    // kafka topics are created in the background, listeners start once they exist, startup does not wait for them.
+    private boolean createTopics = true;
+    // listeners start anyway when topics are not created within this time, they pick up topics created later.
+    private Duration topicCreationTimeout = Duration.ofMinutes(1);
+    // beans listed on "/actuator/startuptimeline", slowest first.
+    private int slowestBeans = 20;
+}
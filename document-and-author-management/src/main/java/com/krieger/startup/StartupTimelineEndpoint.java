@@ -0,0 +1,108 @@
+package com.krieger.startup;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * To expose where startup time went on "/actuator/startuptimeline": duration of every startup phase, and the
+ * slowest beans by their own instantiation time, excluding time spent on the beans they depend on.
+ * Steps are recorded only when the application is started with a BufferingApplicationStartup.
+ */
+@Component
+@Endpoint(id = "startuptimeline")
+@RequiredArgsConstructor
+public class StartupTimelineEndpoint {
+
+    private static final String BEAN_INSTANTIATION = "spring.beans.instantiate";
+
+    private final ConfigurableApplicationContext applicationContext;
+    private final StartupConfig startupConfig;
+
+    @ReadOperation
+    public Timeline timeline() {
+        if (!(applicationContext.getApplicationStartup() instanceof BufferingApplicationStartup startup)) {
+            return new Timeline(null, 0, List.of(), List.of());
+        }
+        return summarize(startup.getBufferedTimeline(), startupConfig.getSlowestBeans());
+    }
+
+    static Timeline summarize(StartupTimeline timeline, int slowestBeans) {
+        var events = timeline.getEvents();
+        // time spent in nested steps, by ID of the enclosing step.
+        Map<Long, Duration> nested = new HashMap<>();
+        events.forEach(event -> {
+            var parentId = event.getStartupStep().getParentId();
+            if (parentId != null) {
+                nested.merge(parentId, event.getDuration(), Duration::plus);
+            }
+        });
+        Map<String, Phase> phases = new LinkedHashMap<>();
+        var end = timeline.getStartTime();
+        for (var event : events) {
+            if (event.getEndTime().isAfter(end)) {
+                end = event.getEndTime();
+            }
+            if (!BEAN_INSTANTIATION.equals(event.getStartupStep().getName())) {
+                phases.merge(
+                        event.getStartupStep().getName(),
+                        new Phase(event.getStartupStep().getName(), 1, event.getDuration().toMillis()),
+                        (phase, other) -> new Phase(phase.name(), phase.count() + 1, phase.millis() + other.millis())
+                );
+            }
+        }
+        var beans = events.stream()
+                .filter(event -> BEAN_INSTANTIATION.equals(event.getStartupStep().getName()))
+                .map(event -> new Bean(
+                        tag(event.getStartupStep(), "beanName"),
+                        event.getDuration().toMillis(),
+                        event.getDuration().minus(nested.getOrDefault(event.getStartupStep().getId(), Duration.ZERO)).toMillis()
+                ))
+                .sorted(Comparator.comparingLong(Bean::selfMillis).reversed())
+                .limit(slowestBeans)
+                .toList();
+        return new Timeline(
+                timeline.getStartTime(),
+                Duration.between(timeline.getStartTime(), end).toMillis(),
+                List.copyOf(phases.values()),
+                beans
+        );
+    }
+
+    private static String tag(StartupStep step, String key) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if (key.equals(tag.getKey())) {
+                return tag.getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param startedAt time at which the application started.
+     * @param totalMillis from start until the last recorded step ended.
+     * @param phases in order of their first occurrence, repeated steps(one per post processor, ...) are summed.
+     * @param slowestBeans slowest beans by their own instantiation time.
+     */
+    public record Timeline(Instant startedAt, long totalMillis, List<Phase> phases, List<Bean> slowestBeans) {
+    }
+
+    public record Phase(String name, int count, long millis) {
+    }
+
+    public record Bean(String name, long totalMillis, long selfMillis) {
+    }
+}
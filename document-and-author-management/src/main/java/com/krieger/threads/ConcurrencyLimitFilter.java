@@ -0,0 +1,97 @@
+package com.krieger.threads;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.krieger.advice.GenericErrorMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * To bound the number of requests served at the same time. With virtual threads every request gets its own thread,
+ * so without this limit concurrency is only bounded by the connection pool, where excess requests queue up until
+ * they time out while holding their memory. Requests waiting longer than acquireTimeout are rejected with 503.
+ * Actuator endpoints are never limited, so that probes answer under load.
+ */
+@Slf4j
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+    private final int limit;
+    private final Duration acquireTimeout;
+    private final ObjectMapper objectMapper;
+    private final Counter rejected;
+
+    public ConcurrencyLimitFilter(int limit, Duration acquireTimeout, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.permits = new Semaphore(limit);
+        this.limit = limit;
+        this.acquireTimeout = acquireTimeout;
+        this.objectMapper = objectMapper;
+        this.rejected = Counter.builder("http.server.requests.rejected")
+                .description("Requests rejected because the concurrency limit was reached")
+                .register(meterRegistry);
+        Gauge.builder("http.server.requests.in-flight", this, filter -> filter.limit - filter.permits.availablePermits())
+                .description("Requests holding a concurrency permit")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith(request.getContextPath() + "/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            reject(response);
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        rejected.increment();
+        log.debug("Rejecting request, all {} concurrency permits are in use.", limit);
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, acquireTimeout.toSeconds())));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(
+                response.getOutputStream(),
+                new GenericErrorMessage(HttpStatus.SERVICE_UNAVAILABLE.name(), "Too many concurrent requests, please retry later.")
+        );
+    }
+
+    /**
+     * To get number of requests which can be served at the same time.
+     *
+     * @return concurrency limit.
+     */
+    public int getLimit() {
+        return limit;
+    }
+}
@@ -0,0 +1,26 @@
+package com.krieger.threads;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * To read specific("virtual-threads") properties from properties(.yml, .yaml or .properties) file.
+ * Virtual threads themselves are switched on with "spring.threads.virtual.enabled".
+ */
+@Configuration
+@ConfigurationProperties(prefix = "virtual-threads")
+@Data
+public class VirtualThreadConfig {
+
+    // requests served at the same time, 0 derives it from the connection pool size.
+    private int maxConcurrentRequests = 0;
+    // requests allowed per pooled connection, when max-concurrent-requests is derived.
+    private int requestsPerConnection = 2;
+    // requests waiting longer than this for a slot are rejected with 503.
+    private Duration acquireTimeout = Duration.ofSeconds(1);
+    // virtual threads pinned to their carrier longer than this are reported.
+    private Duration pinnedThreshold = Duration.ofMillis(20);
+}
@@ -0,0 +1,56 @@
+package com.krieger.threads;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * To guard virtual-thread mode("spring.threads.virtual.enabled"), in which spring boot runs Tomcat requests,
+ * kafka listener containers, scheduled and async tasks on virtual threads. Request concurrency is then no longer
+ * capped by the Tomcat thread pool, so it is capped here relative to the DB connection pool instead, and pinned
+ * virtual threads are reported.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadInstrumentationConfig {
+
+    // default of hikari, when the pool size is not configured.
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    private final VirtualThreadConfig config;
+    private final Environment environment;
+
+    /**
+     * Registered right before the security filters, so that rejected requests never pay for authentication.
+     *
+     * @return registration of the concurrency limit filter.
+     */
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        var limit = config.getMaxConcurrentRequests() > 0
+                ? config.getMaxConcurrentRequests()
+                : environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, DEFAULT_POOL_SIZE)
+                        * config.getRequestsPerConnection();
+        log.info("Serving at most {} requests at the same time on virtual threads.", limit);
+        var registration = new FilterRegistrationBean<>(
+                new ConcurrencyLimitFilter(limit, config.getAcquireTimeout(), objectMapper, meterRegistry)
+        );
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+
+    @Bean
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(MeterRegistry meterRegistry) {
+        return new VirtualThreadPinningMonitor(config, meterRegistry);
+    }
+}
@@ -0,0 +1,95 @@
+package com.krieger.threads;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * To report virtual threads pinned to their carrier thread, e.g. blocking inside a synchronized block or a native
+ * call, which holds the carrier and defeats virtual threads. Pinned events are streamed from an in-process JFR
+ * recording, timed as "jvm.threads.virtual.pinned" tagged with the first application frame, and every distinct
+ * pinning site is logged once with its stack trace.
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APPLICATION_PACKAGE = "com.krieger.";
+    private static final int LOGGED_FRAMES = 12;
+
+    private final VirtualThreadConfig config;
+    private final MeterRegistry meterRegistry;
+    // pinning sites which are already logged.
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(VirtualThreadConfig config, MeterRegistry meterRegistry) {
+        this.config = config;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public synchronized void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(config.getPinnedThreshold()).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("Reporting virtual threads pinned longer than {}.", config.getPinnedThreshold());
+    }
+
+    void onPinned(RecordedEvent event) {
+        var frames = event.getStackTrace() == null ? List.<RecordedFrame>of() : event.getStackTrace().getFrames();
+        var site = pinningSite(frames);
+        Timer.builder("jvm.threads.virtual.pinned")
+                .description("Time virtual threads spent pinned to their carrier thread")
+                .tag("site", site)
+                .register(meterRegistry)
+                .record(event.getDuration());
+        if (reportedSites.add(site)) {
+            log.warn("Virtual thread pinned for {} ms at {}:\n\t{}", event.getDuration().toMillis(), site,
+                    frames.stream().limit(LOGGED_FRAMES).map(VirtualThreadPinningMonitor::frame).collect(Collectors.joining("\n\t")));
+        }
+    }
+
+    /**
+     * To name the pinning site by the first application frame, or the top frame when no application code is on
+     * the stack, so that the tag stays low-cardinality.
+     *
+     * @param frames stack frames of the pinned thread, innermost first.
+     * @return "ClassName.methodName" of the pinning site.
+     */
+    static String pinningSite(List<RecordedFrame> frames) {
+        return frames.stream()
+                .filter(frame -> frame.getMethod().getType().getName().startsWith(APPLICATION_PACKAGE))
+                .findFirst()
+                .or(() -> frames.stream().findFirst())
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName())
+                .orElse("unknown");
+    }
+
+    private static String frame(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return stream != null;
+    }
+}
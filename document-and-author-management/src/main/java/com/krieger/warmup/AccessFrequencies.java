@@ -0,0 +1,49 @@
+package com.krieger.warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * To keep access frequencies of cached entities by cache name, fed by every call of a @Cacheable method(cache hits
+ * included), so that the hottest IDs can be loaded first on the next startup.
+ */
+public class AccessFrequencies {
+
+    private final Map<String, FrequencySketch> sketches = new ConcurrentHashMap<>();
+    private final WarmUpConfig config;
+    // off during warm-up, so that loading hot IDs does not make them hotter.
+    private volatile boolean recording = true;
+
+    public AccessFrequencies(WarmUpConfig config) {
+        this.config = config;
+    }
+
+    public void record(String cacheName, Object key) {
+        if (recording && key instanceof Long id) {
+            sketches.computeIfAbsent(cacheName, name -> new FrequencySketch(config.getSketchWidth(), config.getHotKeys()))
+                    .increment(id);
+        }
+    }
+
+    /**
+     * @param cacheName name of the cache.
+     * @return hottest IDs of the cache with their estimated frequencies, hottest first.
+     */
+    public List<Map.Entry<Long, Long>> hottest(String cacheName) {
+        var sketch = sketches.get(cacheName);
+        return sketch == null ? List.of() : sketch.hottest(config.getHotKeys());
+    }
+
+    public Iterable<String> cacheNames() {
+        return sketches.keySet();
+    }
+
+    public void decay() {
+        sketches.values().forEach(FrequencySketch::decay);
+    }
+
+    public void setRecording(boolean recording) {
+        this.recording = recording;
+    }
+}
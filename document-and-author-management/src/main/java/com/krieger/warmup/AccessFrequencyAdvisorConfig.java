@@ -0,0 +1,51 @@
+package com.krieger.warmup;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.function.SingletonSupplier;
+
+/**
+ * To count accesses of cached entities by their ID, on every call of a single-argument @Cacheable method, cache hits
+ * included.
+ */
+@Configuration
+@ConditionalOnProperty(name = "warm-up.enabled", havingValue = "true", matchIfMissing = true)
+public class AccessFrequencyAdvisorConfig {
+
+    @Bean
+    public AccessFrequencies accessFrequencies(WarmUpConfig warmUpConfig) {
+        return new AccessFrequencies(warmUpConfig);
+    }
+
+    // frequencies are resolved on first use, advisors are created before the beans they depend on could be processed.
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor accessFrequencyAdvisor(ObjectProvider<AccessFrequencies> accessFrequenciesProvider) {
+        var accessFrequencies = SingletonSupplier.of(accessFrequenciesProvider::getObject);
+        MethodInterceptor interceptor = invocation -> {
+            // annotated on the implementation, invoked through the interface.
+            var method = invocation.getThis() == null
+                    ? invocation.getMethod()
+                    : AopUtils.getMostSpecificMethod(invocation.getMethod(), invocation.getThis().getClass());
+            var cacheable = AnnotatedElementUtils.findMergedAnnotation(method, Cacheable.class);
+            if (cacheable != null && invocation.getArguments().length == 1) {
+                for (String cacheName : cacheable.cacheNames()) {
+                    accessFrequencies.obtain().record(cacheName, invocation.getArguments()[0]);
+                }
+            }
+            return invocation.proceed();
+        };
+        return new DefaultPointcutAdvisor(new AnnotationMatchingPointcut(null, Cacheable.class, true), interceptor);
+    }
+}
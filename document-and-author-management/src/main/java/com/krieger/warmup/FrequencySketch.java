@@ -0,0 +1,104 @@
+package com.krieger.warmup;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * To estimate access frequencies of IDs in fixed memory(count-min sketch) and keep track of the most frequent ones.
+ * Estimates never undercount, collisions may overcount rarely accessed IDs. Counts are halved on decay, so that the
+ * hottest IDs follow recent traffic rather than all traffic since startup.
+ */
+public class FrequencySketch {
+
+    private static final int DEPTH = 4;
+    private static final long[] SEEDS = {0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L};
+
+    private final AtomicLongArray counters;
+    private final int mask;
+    private final int capacity;
+    // candidates for the hottest IDs, trimmed down to capacity once it doubles.
+    private final Set<Long> candidates = ConcurrentHashMap.newKeySet();
+    // smallest estimate among candidates as of the last trim, colder IDs do not become candidates.
+    private volatile long admissionThreshold;
+
+    /**
+     * @param width counters per row, rounded up to a power of two.
+     * @param capacity number of hottest IDs kept.
+     */
+    public FrequencySketch(int width, int capacity) {
+        int rowWidth = Integer.highestOneBit(Math.max(2, width) - 1) << 1;
+        this.counters = new AtomicLongArray(DEPTH * rowWidth);
+        this.mask = rowWidth - 1;
+        this.capacity = capacity;
+    }
+
+    public void increment(long id) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            estimate = Math.min(estimate, counters.incrementAndGet(index(row, id)));
+        }
+        if (estimate > admissionThreshold || candidates.size() < capacity) {
+            candidates.add(id);
+            if (candidates.size() >= 2 * capacity) {
+                trim();
+            }
+        }
+    }
+
+    public long estimate(long id) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            estimate = Math.min(estimate, counters.get(index(row, id)));
+        }
+        return estimate;
+    }
+
+    /**
+     * @param limit maximum number of IDs.
+     * @return hottest IDs with their estimated frequencies, hottest first.
+     */
+    public List<Map.Entry<Long, Long>> hottest(int limit) {
+        return candidates.stream()
+                .map(id -> Map.entry(id, estimate(id)))
+                .filter(entry -> entry.getValue() > 0)
+                .sorted(Map.Entry.<Long, Long>comparingByValue().reversed())
+                .limit(Math.min(limit, capacity))
+                .toList();
+    }
+
+    /**
+     * To halve all counts, increments racing with decay may be partially lost, which is fine for an estimate.
+     */
+    public void decay() {
+        for (int i = 0; i < counters.length(); i++) {
+            long count = counters.get(i);
+            counters.compareAndSet(i, count, count >>> 1);
+        }
+        admissionThreshold >>>= 1;
+        candidates.removeIf(id -> estimate(id) == 0);
+    }
+
+    private synchronized void trim() {
+        if (candidates.size() < 2 * capacity) {
+            return;
+        }
+        var ranked = candidates.stream()
+                .map(id -> Map.entry(id, estimate(id)))
+                .sorted(Comparator.comparing(Map.Entry<Long, Long>::getValue).reversed())
+                .toList();
+        ranked.subList(capacity, ranked.size()).forEach(entry -> candidates.remove(entry.getKey()));
+        admissionThreshold = ranked.get(capacity - 1).getValue();
+    }
+
+    private int index(int row, long id) {
+        // splitmix64 finalizer, seeded differently for every row.
+        long hash = (id ^ SEEDS[row]) * 0xBF58476D1CE4E5B9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+        hash ^= hash >>> 31;
+        return row * (mask + 1) + (int) (hash & mask);
+    }
+}
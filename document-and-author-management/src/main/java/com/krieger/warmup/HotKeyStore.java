@@ -0,0 +1,89 @@
+package com.krieger.warmup;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * To persist the hottest IDs of every cache, so that the next startup(of any node) knows what to load first.
+ * Every node upserts its own hottest IDs, the latest estimate of an ID wins.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "warm-up.enabled", havingValue = "true", matchIfMissing = true)
+public class HotKeyStore implements DisposableBean {
+
+    private static final String UPSERT = """
+            INSERT INTO hot_keys (cache_name, entity_id, frequency, updated_at) VALUES (?, ?, ?, ?)
+            ON CONFLICT (cache_name, entity_id) DO UPDATE SET frequency = EXCLUDED.frequency, updated_at = EXCLUDED.updated_at
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AccessFrequencies accessFrequencies;
+    private final WarmUpConfig config;
+
+    /**
+     * To save the hottest IDs of every cache, then halve the counts so that older accesses weigh less.
+     */
+    @Scheduled(initialDelayString = "${warm-up.persist-interval:PT5M}", fixedDelayString = "${warm-up.persist-interval:PT5M}")
+    public void persist() {
+        if (!accessFrequencies.cacheNames().iterator().hasNext()) {
+            return; // nothing accessed yet.
+        }
+        var now = Timestamp.from(Instant.now());
+        int saved = 0;
+        for (String cacheName : accessFrequencies.cacheNames()) {
+            var hottest = accessFrequencies.hottest(cacheName);
+            if (hottest.isEmpty()) {
+                continue;
+            }
+            jdbcTemplate.batchUpdate(UPSERT, hottest, hottest.size(), (statement, entry) -> {
+                statement.setString(1, cacheName);
+                statement.setLong(2, entry.getKey());
+                statement.setLong(3, entry.getValue());
+                statement.setTimestamp(4, now);
+            });
+            saved += hottest.size();
+        }
+        accessFrequencies.decay();
+        int purged = jdbcTemplate.update(
+                "DELETE FROM hot_keys WHERE updated_at < ?",
+                Timestamp.from(Instant.now().minus(config.getRetention()))
+        );
+        log.info("Persisted {} hot keys, purged {} which are no longer hot.", saved, purged);
+    }
+
+    /**
+     * @param cacheName name of the cache.
+     * @param limit maximum number of IDs.
+     * @return hottest IDs of the cache, hottest first.
+     */
+    public List<Long> hottest(String cacheName, int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT entity_id FROM hot_keys WHERE cache_name = ? AND updated_at >= ? ORDER BY frequency DESC LIMIT ?",
+                Long.class,
+                cacheName,
+                Timestamp.from(Instant.now().minus(config.getRetention())),
+                limit
+        );
+    }
+
+    // the latest counts are saved on shutdown, for the node replacing this one.
+    @Override
+    public void destroy() {
+        try {
+            persist();
+        } catch (Exception ex) {
+            log.warn("Failed to persist hot keys on shutdown. Error: {}", ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.krieger.warmup;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * To read specific("warm-up") properties from properties(.yml, .yaml or .properties) file.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "warm-up")
+@Data
+public class WarmUpConfig {
+
+    // warm caches and code paths before the application reports ready.
+    private boolean enabled = true;
+    // hottest IDs of every cache loaded on warm-up, also the number of IDs persisted.
+    private int hotKeys = 1000;
+    // rounds of one list page and cached lookups serialized, a page alone serializes hundreds of nested values.
+    private int iterations = 600;
+    // hot entities loaded at the same time, keep within DB connection pool size.
+    private int concurrency = 4;
+    // warm-up stops after this, the application reports ready anyway.
+    private Duration timeout = Duration.ofSeconds(30);
+    // counters per row of the access frequency sketch of every cache.
+    private int sketchWidth = 16384;
+    // hottest IDs are persisted, and counts halved, this often.
+    private Duration persistInterval = Duration.ofMinutes(5);
+    // persisted IDs not accessed within this are no longer loaded.
+    private Duration retention = Duration.ofDays(1);
+}
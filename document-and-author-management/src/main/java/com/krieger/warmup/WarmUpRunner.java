@@ -0,0 +1,163 @@
+package com.krieger.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.krieger.author.service.AuthorService;
+import com.krieger.cache.CacheNames;
+import com.krieger.document.service.DocumentService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+/**
+ * To warm up before the application reports ready, application runners complete before readiness turns UP.
+ * The hottest documents and authors of previous runs are loaded through the services, which fills the caches and
+ * Hibernate query plans. Then cached lookups, every list query shape and serialization of their results are called
+ * repeatedly, so that the JIT compiler has compiled these paths by the time real requests arrive.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "warm-up.enabled", havingValue = "true", matchIfMissing = true)
+public class WarmUpRunner implements ApplicationRunner {
+
+    private static final String[] SORT = {"id", "asc"};
+    // values for the filtered list queries, only their query plans matter.
+    private static final String FILTER = "warm-up";
+
+    private final DocumentService documentService;
+    private final AuthorService authorService;
+    private final ObjectMapper objectMapper;
+    private final HotKeyStore hotKeyStore;
+    private final AccessFrequencies accessFrequencies;
+    private final WarmUpConfig config;
+    // entities are mapped within the session, like requests do with open-in-view.
+    private final TransactionTemplate readOnlyTransaction;
+
+    public WarmUpRunner(
+            DocumentService documentService,
+            AuthorService authorService,
+            ObjectMapper objectMapper,
+            HotKeyStore hotKeyStore,
+            AccessFrequencies accessFrequencies,
+            WarmUpConfig config,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.documentService = documentService;
+        this.authorService = authorService;
+        this.objectMapper = objectMapper;
+        this.hotKeyStore = hotKeyStore;
+        this.accessFrequencies = accessFrequencies;
+        this.config = config;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        var started = System.nanoTime();
+        var deadline = Instant.now().plus(config.getTimeout());
+        accessFrequencies.setRecording(false);
+        try {
+            var documentIds = load(hotKeyStore.hottest(CacheNames.DOCUMENTS, config.getHotKeys()), id -> readOnly(() -> documentService.getDocumentById(id)), deadline);
+            var authorIds = load(hotKeyStore.hottest(CacheNames.AUTHORS, config.getHotKeys()), id -> readOnly(() -> authorService.getAuthorById(id)), deadline);
+            var calls = exercise(documentIds, authorIds, deadline);
+            log.info("Warmed up with {} hot documents, {} hot authors and {} synthetic calls in {} ms.",
+                    documentIds.size(), authorIds.size(), calls, Duration.ofNanos(System.nanoTime() - started).toMillis());
+        } catch (Exception ex) {
+            // the application starts cold instead.
+            log.warn("Failed to warm up, starting cold. Error: {}", ex.getMessage());
+        } finally {
+            accessFrequencies.setRecording(true);
+        }
+    }
+
+    /**
+     * To load the entities through the service(and its cache) concurrently, entities deleted since are skipped.
+     *
+     * @param ids hottest IDs, hottest first.
+     * @param loader loads an entity by its ID.
+     * @param deadline time after which loading stops.
+     * @return IDs of the loaded entities.
+     */
+    List<Long> load(List<Long> ids, LongFunction<Object> loader, Instant deadline) throws InterruptedException {
+        List<Future<Long>> loads = new ArrayList<>();
+        try (var executor = Executors.newFixedThreadPool(config.getConcurrency(), Thread.ofVirtual().name("warm-up-", 0).factory())) {
+            for (Long id : ids) {
+                loads.add(executor.submit(() -> {
+                    if (Instant.now().isAfter(deadline)) {
+                        return null;
+                    }
+                    serialize(loader.apply(id));
+                    return id;
+                }));
+            }
+        }
+        List<Long> loaded = new ArrayList<>();
+        for (Future<Long> load : loads) {
+            try {
+                var id = load.get();
+                if (id != null) {
+                    loaded.add(id);
+                }
+            } catch (ExecutionException e) {
+                // deleted since, or not loadable.
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * To run every list query shape once, then cached lookups and serialization up to the configured iterations.
+     *
+     * @return number of synthetic calls.
+     */
+    int exercise(List<Long> documentIds, List<Long> authorIds, Instant deadline) throws IOException {
+        List<Object> pages = List.of(
+                readOnly(() -> documentService.getAllDocuments(null, null, 0, 10, SORT)),
+                readOnly(() -> documentService.getAllDocuments(FILTER, null, 0, 10, SORT)),
+                readOnly(() -> documentService.getAllDocuments(FILTER, FILTER, 0, 10, SORT)),
+                readOnly(() -> authorService.getAllAuthors(null, null, 0, 10, SORT)),
+                readOnly(() -> authorService.getAllAuthors(FILTER, null, 0, 10, SORT)),
+                readOnly(() -> authorService.getAllAuthors(FILTER, FILTER, 0, 10, SORT))
+        );
+        int calls = pages.size();
+        for (int i = 0; i < config.getIterations() && Instant.now().isBefore(deadline); i++) {
+            serialize(pages.get(i % pages.size()));
+            calls++;
+            if (!documentIds.isEmpty()) {
+                var documentId = documentIds.get(i % documentIds.size());
+                serialize(readOnly(() -> documentService.getDocumentById(documentId)));
+                calls++;
+            }
+            if (!authorIds.isEmpty()) {
+                var authorId = authorIds.get(i % authorIds.size());
+                serialize(readOnly(() -> authorService.getAuthorById(authorId)));
+                calls++;
+            }
+        }
+        return calls;
+    }
+
+    private <T> T readOnly(Supplier<T> call) {
+        return readOnlyTransaction.execute(status -> call.get());
+    }
+
+    private void serialize(Object response) throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), response);
+    }
+}
@@ -0,0 +1,7 @@
+-- ledger of kafka events which are already processed by the consumer.
+CREATE TABLE IF NOT EXISTS processed_events (
+    event_id VARCHAR(64) PRIMARY KEY,
+    processed_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+-- index used while purging expired ledger entries.
+CREATE INDEX IF NOT EXISTS idx_processed_events_processed_at ON processed_events (processed_at);
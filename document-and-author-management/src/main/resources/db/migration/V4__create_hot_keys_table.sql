@@ -0,0 +1,10 @@
+-- hottest IDs of every cache, loaded first when the application warms up.
+CREATE TABLE IF NOT EXISTS hot_keys (
+    cache_name VARCHAR(64) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    frequency BIGINT NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (cache_name, entity_id)
+);
+-- index used while purging IDs which are no longer hot.
+CREATE INDEX IF NOT EXISTS idx_hot_keys_updated_at ON hot_keys (updated_at);
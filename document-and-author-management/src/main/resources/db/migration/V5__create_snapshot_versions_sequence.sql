@@ -0,0 +1,2 @@
+-- versions of the states written to the snapshot topic, a state with a higher version is newer.
+CREATE SEQUENCE IF NOT EXISTS snapshot_versions;
@@ -0,0 +1,70 @@
+package com.krieger.aop;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+
+    @Test
+    void test_bucket_index_should_keep_values_within_bucket_bounds() {
+        for (long value : new long[]{0, 1, 31, 32, 33, 63, 64, 1_000, 123_456_789, Long.MAX_VALUE}) {
+            int index = LatencyHistogram.bucketIndex(value);
+            // then
+            assertTrue(value <= LatencyHistogram.highestValueInBucket(index));
+            assertTrue(index == 0 || value > LatencyHistogram.highestValueInBucket(index - 1));
+        }
+    }
+
+    @Test
+    void test_value_at_percentile_should_stay_within_three_percent_of_recorded_values() {
+        // given
+        var histogram = new LatencyHistogram();
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value * 1_000);
+        }
+
+        // when
+        var snapshot = histogram.snapshot();
+
+        // then
+        assertEquals(100_000, snapshot.count());
+        assertEquals(100_000_000, snapshot.maxValue());
+        assertEquals(50_000_500, snapshot.mean(), 1);
+        assertEquals(50_000_000, snapshot.valueAtPercentile(50), 50_000_000 * 0.03);
+        assertEquals(99_000_000, snapshot.valueAtPercentile(99), 99_000_000 * 0.03);
+        assertEquals(100_000_000, snapshot.valueAtPercentile(100));
+    }
+
+    @Test
+    void test_record_should_not_lose_concurrent_records() throws InterruptedException {
+        // given
+        var histogram = new LatencyHistogram();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // when
+        for (int thread = 0; thread < 4; thread++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    histogram.record(i);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        // then
+        assertEquals(40_000, histogram.snapshot().count());
+        assertEquals(9_999, histogram.snapshot().maxValue());
+    }
+
+    @Test
+    void test_value_at_percentile_should_be_zero_when_nothing_is_recorded() {
+        assertEquals(0, new LatencyHistogram().snapshot().valueAtPercentile(99));
+    }
+}
@@ -0,0 +1,90 @@
+package com.krieger.aop;
+
+import com.krieger.author.service.AuthorServiceImpl;
+import com.krieger.kafka.KafkaProducer;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ProfilingAdviceTest {
+
+    @Mock
+    MethodInvocation invocation;
+
+    MethodProfiler profiler;
+    Method method;
+
+    @BeforeEach
+    void setUp() throws Throwable {
+        MockitoAnnotations.openMocks(this);
+        profiler = new MethodProfiler();
+        method = AuthorServiceImpl.class.getMethod("getAuthorById", Long.class);
+        when(invocation.getMethod()).thenReturn(method);
+        when(invocation.proceed()).thenReturn("test result");
+    }
+
+    @Test
+    void test_invoke_should_record_latency_of_every_call_when_sample_rate_is_one() throws Throwable {
+        // given
+        var advice = new ProfilingAdvice(profiler, 1.0);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            assertEquals("test result", advice.invoke(invocation));
+        }
+
+        // then
+        var profile = profiler.profiles().get("AuthorServiceImpl.getAuthorById(Long)");
+        assertNotNull(profile);
+        assertEquals(10, profile.samples());
+    }
+
+    @Test
+    void test_invoke_should_proceed_without_recording_when_sample_rate_is_zero() throws Throwable {
+        // given
+        var advice = new ProfilingAdvice(profiler, 0.0);
+
+        // when
+        assertEquals("test result", advice.invoke(invocation));
+
+        // then
+        verify(invocation, times(1)).proceed();
+        assertTrue(profiler.profiles().isEmpty());
+    }
+
+    @Test
+    void test_invoke_should_record_latency_when_method_throws() throws Throwable {
+        // given
+        var advice = new ProfilingAdvice(profiler, 1.0);
+        when(invocation.proceed()).thenThrow(new IllegalStateException("test failure"));
+
+        // when
+        assertThrows(IllegalStateException.class, () -> advice.invoke(invocation));
+
+        // then
+        assertEquals(1, profiler.profiles().get("AuthorServiceImpl.getAuthorById(Long)").samples());
+    }
+
+    @Test
+    void test_pointcut_should_match_included_methods_which_are_not_excluded() throws NoSuchMethodException {
+        // given
+        var pointcut = new ProfilingPointcut(
+                List.of("com.krieger.*.service.*"),
+                List.of("*.replayDeadLetteredAuthors")
+        );
+
+        // then
+        assertTrue(pointcut.matches(method, AuthorServiceImpl.class));
+        assertFalse(pointcut.matches(AuthorServiceImpl.class.getMethod("replayDeadLetteredAuthors", int.class), AuthorServiceImpl.class));
+        assertFalse(pointcut.matches(KafkaProducer.class.getMethods()[0], KafkaProducer.class));
+        assertFalse(pointcut.matches(Object.class.getMethod("toString"), AuthorServiceImpl.class));
+    }
+}
@@ -0,0 +1,99 @@
+package com.krieger.authentication;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CachingAuthenticationProviderTest {
+
+    @Mock
+    AuthenticationProvider delegate;
+
+    CachingAuthenticationProvider provider;
+
+    String username = "krieger-document";
+    String password = "krieger-document";
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        provider = new CachingAuthenticationProvider(delegate, 10, Duration.ofMinutes(5));
+        when(delegate.authenticate(any())).thenAnswer(invocation -> {
+            var request = (UsernamePasswordAuthenticationToken) invocation.getArgument(0);
+            if (!password.equals(request.getCredentials())) {
+                throw new BadCredentialsException("Bad credentials");
+            }
+            return UsernamePasswordAuthenticationToken.authenticated(
+                    request.getName(), null, AuthorityUtils.createAuthorityList("ROLE_DOCUMENT")
+            );
+        });
+    }
+
+    @Test
+    void test_authenticate_should_check_same_credentials_with_delegate_only_once() {
+        // when
+        provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated(username, password));
+        var result = provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated(username, password));
+
+        // then
+        assertTrue(result.isAuthenticated());
+        assertEquals(username, result.getName());
+        assertEquals(AuthorityUtils.createAuthorityList("ROLE_DOCUMENT"), result.getAuthorities());
+
+        // verify
+        verify(delegate, times(1)).authenticate(any());
+    }
+
+    @Test
+    void test_authenticate_should_not_cache_failed_credentials() {
+        // when
+        for (int i = 0; i < 2; i++) {
+            assertThrows(
+                    BadCredentialsException.class,
+                    () -> provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated(username, "wrong"))
+            );
+        }
+
+        // verify
+        verify(delegate, times(2)).authenticate(any());
+    }
+
+    @Test
+    void test_authenticate_should_check_wrong_password_of_cached_user_with_delegate() {
+        // given
+        provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated(username, password));
+
+        // when
+        assertThrows(
+                BadCredentialsException.class,
+                () -> provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated(username, "wrong"))
+        );
+
+        // verify
+        verify(delegate, times(2)).authenticate(any());
+    }
+
+    @Test
+    void test_invalidate_all_should_check_credentials_with_delegate_again() {
+        // given
+        provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated(username, password));
+
+        // when
+        provider.invalidateAll();
+        provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated(username, password));
+
+        // verify
+        verify(delegate, times(2)).authenticate(any());
+    }
+}
@@ -1,9 +1,14 @@
 package com.krieger.author.controller;
 
 import com.krieger.author.models.AllAuthorsResponse;
+import com.krieger.author.models.AuthorIdsRequest;
 import com.krieger.author.models.AuthorRequest;
 import com.krieger.author.models.AuthorResponse;
+import com.krieger.author.models.AuthorsByIdsResponse;
+import com.krieger.author.models.BulkPublishRequest;
+import com.krieger.author.models.BulkPublishResponse;
 import com.krieger.author.repository.AuthorRepository;
+import com.krieger.jdbc.SqlStatisticsRecorder;
 import com.krieger.kafka.KafkaProducer;
 import org.junit.jupiter.api.*;
 import org.junit.runner.RunWith;
@@ -23,9 +28,12 @@ import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.utility.DockerImageName;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 
+import static com.krieger.jdbc.SqlStatementAssertions.assertMaxStatements;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @RunWith(SpringRunner.class)
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
@@ -45,6 +53,9 @@ class AuthorControllerIT {
     @Autowired
     KafkaProducer kafkaProducer;
 
+    @Autowired
+    SqlStatisticsRecorder sqlStatisticsRecorder;
+
     AuthorRequest authorRequest;
 
     static PostgreSQLContainer<?> postgreSQLContainer = new PostgreSQLContainer<>(DockerImageName.parse("postgres:latest"))
@@ -63,6 +74,10 @@ class AuthorControllerIT {
         registry.add("spring.datasource.url", () -> postgreSQLContainer.getJdbcUrl());
         registry.add("spring.datasource.username", () -> postgreSQLContainer.getUsername());
         registry.add("spring.datasource.password", () -> postgreSQLContainer.getPassword());
+        registry.add("spring.r2dbc.url", () -> "r2dbc:postgresql://" + postgreSQLContainer.getHost() + ":"
+                + postgreSQLContainer.getMappedPort(5432) + "/" + postgreSQLContainer.getDatabaseName());
+        registry.add("spring.r2dbc.username", () -> postgreSQLContainer.getUsername());
+        registry.add("spring.r2dbc.password", () -> postgreSQLContainer.getPassword());
 
         // Kafka properties
         registry.add("spring.kafka.bootstrap-servers", kafka::getBootstrapServers);
@@ -150,7 +165,13 @@ class AuthorControllerIT {
     @Test
     void test_get_all_authors_should_return_success_status_code() {
         testRestTemplate.postForEntity(authorUrl, authorRequest, AuthorResponse.class);
-        ResponseEntity<AllAuthorsResponse> responseEntity = testRestTemplate.getForEntity(authorUrl, AllAuthorsResponse.class);
+        // page, count and documents of the author.
+        ResponseEntity<AllAuthorsResponse> responseEntity = assertMaxStatements(
+                sqlStatisticsRecorder,
+                "GET /api/v1/authors",
+                3,
+                () -> testRestTemplate.getForEntity(authorUrl, AllAuthorsResponse.class)
+        );
         assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
         assertEquals(1, Objects.requireNonNull(responseEntity.getBody()).content().size());
     }
@@ -168,9 +189,12 @@ class AuthorControllerIT {
         assert entity != null;
         var author = entity.getBody();
         assert author != null;
-        ResponseEntity<AuthorResponse> responseEntity = testRestTemplate.getForEntity(
-                authorUrl + "/" + author.getId(),
-                AuthorResponse.class
+        // author with its documents, at most once per cache miss.
+        ResponseEntity<AuthorResponse> responseEntity = assertMaxStatements(
+                sqlStatisticsRecorder,
+                "GET /api/v1/authors/{author-id}",
+                2,
+                () -> testRestTemplate.getForEntity(authorUrl + "/" + author.getId(), AuthorResponse.class)
         );
         assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
         assertEquals(author.getId(), Objects.requireNonNull(responseEntity.getBody()).getId());
@@ -178,6 +202,51 @@ class AuthorControllerIT {
         assertEquals(author.getLastName(), Objects.requireNonNull(responseEntity.getBody()).getLastName());
     }
 
+    @Test
+    void test_get_authors_by_ids_should_return_authors_in_request_order_and_missing_ids() {
+        var first = testRestTemplate.postForEntity(authorUrl, authorRequest, AuthorResponse.class).getBody();
+        var second = testRestTemplate.postForEntity(authorUrl, new AuthorRequest("Second", "Author"), AuthorResponse.class).getBody();
+        assert first != null && second != null;
+        ResponseEntity<AuthorsByIdsResponse> responseEntity = testRestTemplate.getForEntity(
+                authorUrl + "?ids=" + second.getId() + ",45145," + first.getId(),
+                AuthorsByIdsResponse.class
+        );
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        var authors = Objects.requireNonNull(responseEntity.getBody()).content();
+        assertEquals(List.of(second.getId(), first.getId()), authors.stream().map(AuthorResponse::getId).toList());
+        assertEquals(List.of(45145L), responseEntity.getBody().missingIds());
+    }
+
+    @Test
+    void test_get_authors_by_ids_in_body_should_load_uncached_authors_with_three_statements() {
+        var first = testRestTemplate.postForEntity(authorUrl, authorRequest, AuthorResponse.class).getBody();
+        var second = testRestTemplate.postForEntity(authorUrl, new AuthorRequest("Second", "Author"), AuthorResponse.class).getBody();
+        assert first != null && second != null;
+        // authors, their documents and the references of those documents.
+        ResponseEntity<AuthorsByIdsResponse> responseEntity = assertMaxStatements(
+                sqlStatisticsRecorder,
+                "POST /api/v1/authors/by-ids",
+                3,
+                () -> testRestTemplate.postForEntity(
+                        authorUrl + "/by-ids",
+                        new AuthorIdsRequest(List.of(first.getId(), second.getId())),
+                        AuthorsByIdsResponse.class
+                )
+        );
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        assertEquals(2, Objects.requireNonNull(responseEntity.getBody()).content().size());
+    }
+
+    @Test
+    void test_get_authors_by_ids_in_body_should_throw_bad_request_status_code_without_ids() {
+        ResponseEntity<AuthorsByIdsResponse> responseEntity = testRestTemplate.postForEntity(
+                authorUrl + "/by-ids",
+                new AuthorIdsRequest(List.of()),
+                AuthorsByIdsResponse.class
+        );
+        assertEquals(HttpStatus.BAD_REQUEST, responseEntity.getStatusCode());
+    }
+
     @Test
     void test_get_author_by_id_throw_error_status_code_with_invalid_author_id() {
         ResponseEntity<AuthorResponse> responseEntity = testRestTemplate.getForEntity(
@@ -239,4 +308,58 @@ class AuthorControllerIT {
         );
         assertEquals(HttpStatus.NOT_FOUND, responseEntity.getStatusCode());
     }
+
+    @Test
+    void test_send_authors_to_kafka_should_return_number_of_sent_authors() {
+        ResponseEntity<AuthorResponse> entity = testRestTemplate.postForEntity(authorUrl, authorRequest, AuthorResponse.class);
+        assert entity != null;
+        var author = entity.getBody();
+        assert author != null;
+        ResponseEntity<BulkPublishResponse> responseEntity = testRestTemplate.postForEntity(
+                authorUrl + "/send",
+                new BulkPublishRequest(null, authorRequest.firstName(), null, null),
+                BulkPublishResponse.class
+        );
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        assertEquals(new BulkPublishResponse(1, 0), responseEntity.getBody());
+    }
+
+    @Test
+    void test_send_authors_to_kafka_should_throw_error_status_code_without_ids_filters_and_all() {
+        testRestTemplate.postForEntity(authorUrl, authorRequest, AuthorResponse.class);
+        ResponseEntity<String> responseEntity = testRestTemplate.postForEntity(
+                authorUrl + "/send",
+                new BulkPublishRequest(null, null, null, null),
+                String.class
+        );
+        assertEquals(HttpStatus.BAD_REQUEST, responseEntity.getStatusCode());
+    }
+
+    @Test
+    void test_replay_dead_lettered_authors_should_throw_bad_request_status_code_with_batch_size_out_of_bounds() {
+        ResponseEntity<String> responseEntity = testRestTemplate.postForEntity(
+                authorUrl + "/dead-letters/replay?batchSize=0",
+                null,
+                String.class
+        );
+        assertEquals(HttpStatus.BAD_REQUEST, responseEntity.getStatusCode());
+        assertTrue(Objects.requireNonNull(responseEntity.getBody()).contains("batchSize"));
+    }
+
+    @Test
+    void test_stream_authors_should_return_authors_as_newline_delimited_json() {
+        testRestTemplate.postForEntity(authorUrl, authorRequest, AuthorResponse.class);
+        HttpHeaders httpHeaders = new HttpHeaders();
+        httpHeaders.setAccept(Collections.singletonList(MediaType.APPLICATION_NDJSON));
+        ResponseEntity<String> responseEntity = testRestTemplate.exchange(
+                authorUrl + "/stream",
+                HttpMethod.GET,
+                new HttpEntity<>(httpHeaders),
+                String.class
+        );
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        var lines = Objects.requireNonNull(responseEntity.getBody()).lines().toList();
+        assertEquals(1, lines.size());
+        assertTrue(lines.get(0).contains("\"firstName\":\"Sreekanth\""));
+    }
 }
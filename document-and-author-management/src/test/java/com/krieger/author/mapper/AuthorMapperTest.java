@@ -4,6 +4,7 @@ import com.krieger.author.entity.Author;
 import com.krieger.author.exception.AuthorRequestException;
 import com.krieger.author.models.AuthorRequest;
 import com.krieger.author.models.AuthorResponse;
+import com.krieger.author.models.AuthorSummary;
 import com.krieger.document.entity.Document;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,6 +12,8 @@ import org.junit.jupiter.api.Test;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class AuthorMapperTest {
 
@@ -61,4 +64,20 @@ class AuthorMapperTest {
         assertEquals(author.getLastName(), response.getLastName());
         assertEquals(author.getDocuments().size(), response.getDocuments().size());
     }
+
+    @Test
+    void test_should_map_AuthorSummary_To_AuthorResponse_without_documents() {
+        // given
+        AuthorSummary summary = mock(AuthorSummary.class);
+        when(summary.getId()).thenReturn(1L);
+        when(summary.getFirstName()).thenReturn("Sreekanth");
+        when(summary.getLastName()).thenReturn("Gaddoju");
+        // when
+        AuthorResponse response = mapper.toAuthorResponseModel(summary);
+        // then
+        assertEquals(1L, response.getId());
+        assertEquals("Sreekanth", response.getFirstName());
+        assertEquals("Gaddoju", response.getLastName());
+        assertNull(response.getDocuments());
+    }
 }
@@ -1,22 +1,39 @@
 package com.krieger.author.service;
 
 import com.krieger.author.entity.Author;
+import com.krieger.author.entity.AuthorDocumentRow;
+import com.krieger.author.entity.AuthorRow;
 import com.krieger.author.exception.AuthorNotFoundException;
 import com.krieger.author.mapper.AuthorMapper;
 import com.krieger.author.models.AllAuthorsResponse;
 import com.krieger.author.models.AuthorRequest;
 import com.krieger.author.models.AuthorResponse;
+import com.krieger.author.models.AuthorSummary;
+import com.krieger.author.models.AuthorsByIdsResponse;
+import com.krieger.author.models.BulkPublishRequest;
+import com.krieger.author.models.BulkPublishResponse;
 import com.krieger.author.repository.AuthorRepository;
-import com.krieger.kafka.KafkaProducer;
+import com.krieger.cache.CacheNames;
+import com.krieger.document.entity.DocumentReferenceRow;
+import com.krieger.eventbus.AuthorEventBus;
+import com.krieger.eventbus.EventBusConfig;
+import com.krieger.kafka.models.EntityChangeEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -30,7 +47,13 @@ class AuthorServiceTest {
     @Mock
     private AuthorMapper mapper;
     @Mock
-    private KafkaProducer kafkaProducer;
+    private AuthorEventBus authorEventBus;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Spy
+    private EventBusConfig eventBusConfig = new EventBusConfig();
+    @Spy
+    private CacheManager cacheManager = new ConcurrentMapCacheManager(CacheNames.AUTHORS);
 
     private AuthorResponse authorResponse;
     private AuthorRequest authorRequest;
@@ -83,6 +106,8 @@ class AuthorServiceTest {
                 .save(author);
         verify(mapper, times(1))
                 .toAuthorResponseModel(author);
+        verify(eventPublisher, times(1))
+                .publishEvent(any(EntityChangeEvent.class));
     }
 
     @Test
@@ -106,8 +131,11 @@ class AuthorServiceTest {
                 .toAuthorEntity(authorRequest);
         verify(repository, times(1))
                 .save(author);
-        verify(mapper, times(1))
+        // mapped once for the state before the update and once after it.
+        verify(mapper, times(2))
                 .toAuthorResponseModel(author);
+        verify(eventPublisher, times(1))
+                .publishEvent(any(EntityChangeEvent.class));
     }
 
     @Test
@@ -202,10 +230,39 @@ class AuthorServiceTest {
         );
     }
 
+    @Test
+    void test_get_authors_by_ids_should_load_authors_with_documents_and_references_at_once() {
+        // given
+        var otherAuthorId = 2L;
+        var missingAuthorId = 3L;
+        var row = new AuthorRow(authorId, firstName, lastName);
+        var otherRow = new AuthorRow(otherAuthorId, firstName, lastName);
+        var documentRow = new AuthorDocumentRow(authorId, 10L, "Document", "Document Body");
+        var referenceRow = new DocumentReferenceRow(10L, 11L, "Reference", "Reference Body");
+        var otherAuthorResponse = new AuthorResponse(otherAuthorId, firstName, lastName, null);
+
+        // when
+        when(repository.findRowsByIdIn(List.of(otherAuthorId, missingAuthorId, authorId))).thenReturn(List.of(row, otherRow));
+        when(repository.findDocumentRowsOfAuthors(List.of(authorId, otherAuthorId))).thenReturn(List.of(documentRow));
+        when(repository.findReferenceRowsOfAuthorDocuments(List.of(authorId, otherAuthorId))).thenReturn(List.of(referenceRow));
+        when(mapper.toAuthorResponseModel(row, List.of(documentRow), Map.of(10L, List.of(referenceRow)))).thenReturn(authorResponse);
+        when(mapper.toAuthorResponseModel(otherRow, List.of(), Map.of(10L, List.of(referenceRow)))).thenReturn(otherAuthorResponse);
+
+        // then
+        AuthorsByIdsResponse actual = authorService.getAuthorsByIds(List.of(otherAuthorId, missingAuthorId, authorId));
+        assertEquals(List.of(otherAuthorResponse, authorResponse), actual.content());
+        assertEquals(List.of(missingAuthorId), actual.missingIds());
+
+        // verify
+        verify(repository, never())
+                .findById(any());
+    }
+
     @Test
     void test_delete_author_by_id_should_successfully_delete_the_author() {
         // when
         when(repository.findById(authorId)).thenReturn(Optional.of(author));
+        when(mapper.toAuthorResponseModel(author)).thenReturn(authorResponse);
 
         // then
         authorService.deleteAuthorById(authorId);
@@ -213,6 +270,8 @@ class AuthorServiceTest {
         //verify
         verify(repository, times(1))
                 .findById(authorId);
+        verify(eventPublisher, times(1))
+                .publishEvent(any(EntityChangeEvent.class));
     }
 
     @Test
@@ -237,6 +296,8 @@ class AuthorServiceTest {
                 .findById(authorId);
         verify(mapper, times(1))
                 .toAuthorResponseModel(author);
+        verify(authorEventBus, times(1))
+                .publish(authorResponse);
     }
 
     @Test
@@ -246,4 +307,84 @@ class AuthorServiceTest {
                 () -> authorService.sendAuthorToKafka(authorId)
         );
     }
+
+    @Test
+    void test_replay_dead_lettered_authors_should_return_number_of_replayed_events() {
+        // when
+        when(authorEventBus.replayDeadLetters(10)).thenReturn(3);
+
+        // then
+        String actual = authorService.replayDeadLetteredAuthors(10);
+        assertEquals("Successfully Replayed 3 Dead-Lettered Author Events to Kafka", actual);
+
+        //verify
+        verify(authorEventBus, times(1))
+                .replayDeadLetters(10);
+    }
+
+    @Test
+    void test_send_authors_to_kafka_should_stream_authors_by_ids_and_count_sent_and_failed() {
+        // given
+        var authorSummary = mock(AuthorSummary.class);
+        var failedAuthorResponse = new AuthorResponse(2L, firstName, lastName, null);
+        eventBusConfig.setBulkPublishMaxInFlight(1);
+
+        // when
+        when(repository.streamAllByIdIn(List.of(authorId, 2L))).thenReturn(Stream.of(authorSummary, authorSummary));
+        when(mapper.toAuthorResponseModel(authorSummary)).thenReturn(authorResponse, failedAuthorResponse);
+        when(authorEventBus.publish(authorResponse)).thenAnswer(invocation -> CompletableFuture.completedFuture(null));
+        when(authorEventBus.publish(failedAuthorResponse)).thenThrow(new IllegalStateException("test failure"));
+
+        // then
+        BulkPublishResponse actual = authorService.sendAuthorsToKafka(new BulkPublishRequest(List.of(authorId, 2L), null, null, null));
+        assertEquals(new BulkPublishResponse(1, 1), actual);
+
+        //verify
+        verify(repository, never())
+                .streamAllByName(any(), any());
+    }
+
+    @Test
+    void test_send_authors_to_kafka_should_stream_authors_by_name_when_ids_are_absent() {
+        // given
+        var authorSummary = mock(AuthorSummary.class);
+
+        // when
+        when(repository.streamAllByName(firstName, null)).thenReturn(Stream.of(authorSummary));
+        when(mapper.toAuthorResponseModel(authorSummary)).thenReturn(authorResponse);
+        when(authorEventBus.publish(authorResponse)).thenAnswer(invocation -> CompletableFuture.supplyAsync(() -> null));
+
+        // then
+        BulkPublishResponse actual = authorService.sendAuthorsToKafka(new BulkPublishRequest(null, firstName, null, null));
+        assertEquals(new BulkPublishResponse(1, 0), actual);
+
+        //verify
+        verify(repository, never())
+                .streamAllByIdIn(any());
+    }
+
+    @Test
+    void test_send_authors_to_kafka_should_send_nothing_when_all_is_not_asked_for() {
+        // then
+        BulkPublishResponse actual = authorService.sendAuthorsToKafka(new BulkPublishRequest(null, " ", null, false));
+        assertEquals(new BulkPublishResponse(0, 0), actual);
+
+        //verify
+        verifyNoInteractions(repository, authorEventBus);
+    }
+
+    @Test
+    void test_send_authors_to_kafka_should_stream_all_authors_when_asked_for() {
+        // given
+        var authorSummary = mock(AuthorSummary.class);
+
+        // when
+        when(repository.streamAllByName(null, null)).thenReturn(Stream.of(authorSummary));
+        when(mapper.toAuthorResponseModel(authorSummary)).thenReturn(authorResponse);
+        when(authorEventBus.publish(authorResponse)).thenAnswer(invocation -> CompletableFuture.completedFuture(null));
+
+        // then
+        BulkPublishResponse actual = authorService.sendAuthorsToKafka(new BulkPublishRequest(null, null, null, true));
+        assertEquals(new BulkPublishResponse(1, 0), actual);
+    }
 }
@@ -0,0 +1,101 @@
+package com.krieger.author.service;
+
+import com.krieger.author.entity.AuthorDocumentRow;
+import com.krieger.author.entity.AuthorRow;
+import com.krieger.author.mapper.AuthorMapper;
+import com.krieger.author.repository.AuthorReadRepository;
+import com.krieger.document.entity.DocumentReferenceRow;
+import com.krieger.document.repository.DocumentReadRepository;
+import com.krieger.reactive.ReactiveReadConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class AuthorStreamServiceTest {
+
+    @Mock
+    AuthorReadRepository repository;
+
+    @Mock
+    DocumentReadRepository documentReadRepository;
+
+    AuthorStreamServiceImpl service;
+
+    String[] sort = {"id", "asc"};
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        var config = new ReactiveReadConfig();
+        config.setBatchSize(10);
+        service = new AuthorStreamServiceImpl(repository, documentReadRepository, new AuthorMapper(), config);
+    }
+
+    @Test
+    void test_stream_authors_should_emit_authors_with_documents_and_their_references() {
+        // given
+        when(repository.findAllBy(any())).thenReturn(Flux.just(
+                new AuthorRow(1L, "Joshua", "Bloch"),
+                new AuthorRow(2L, "Kathy", "Sierra")
+        ));
+        when(repository.findDocumentsOfAuthors(anyCollection())).thenReturn(
+                Flux.just(new AuthorDocumentRow(1L, 6L, "Refactoring to Patterns", "Body"))
+        );
+        when(documentReadRepository.findReferencesOfDocuments(anyCollection())).thenReturn(
+                Flux.just(new DocumentReferenceRow(6L, 4L, "Java: The Complete Reference", "Body"))
+        );
+
+        // when
+        var authors = service.streamAuthors(null, null, 0, 10, sort);
+
+        // then
+        StepVerifier.create(authors)
+                .assertNext(author -> {
+                    assertEquals(1L, author.getId());
+                    var document = author.getDocuments().iterator().next();
+                    assertEquals(6L, document.getId());
+                    assertEquals(4L, document.getReferences().iterator().next().getId());
+                })
+                .assertNext(author -> {
+                    assertEquals(2L, author.getId());
+                    assertTrue(author.getDocuments().isEmpty());
+                })
+                .verifyComplete();
+
+        // verify
+        verify(repository).findDocumentsOfAuthors(List.of(1L, 2L));
+        verify(documentReadRepository).findReferencesOfDocuments(List.of(6L));
+    }
+
+    @Test
+    void test_stream_authors_should_skip_reference_lookup_when_authors_have_no_documents() {
+        // given
+        when(repository.findAllByFirstNameOrLastName(any(), any(), any())).thenReturn(Flux.just(new AuthorRow(2L, "Kathy", "Sierra")));
+        when(repository.findDocumentsOfAuthors(anyCollection())).thenReturn(Flux.empty());
+
+        // when
+        var authors = service.streamAuthors("Kathy", null, 0, 10, sort);
+
+        // then
+        StepVerifier.create(authors)
+                .assertNext(author -> assertEquals("Kathy", author.getFirstName()))
+                .verifyComplete();
+
+        // verify
+        verify(repository).findAllByFirstNameOrLastName("Kathy", null, PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "id")));
+        verify(documentReadRepository, never()).findReferencesOfDocuments(anyCollection());
+    }
+}
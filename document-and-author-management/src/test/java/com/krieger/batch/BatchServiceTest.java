@@ -0,0 +1,149 @@
+package com.krieger.batch;
+
+import com.krieger.advice.ApplicationGenericExceptionAdvice;
+import com.krieger.advice.GenericErrorMessage;
+import com.krieger.document.exception.DocumentNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+class BatchServiceTest {
+
+    @Mock
+    BatchRouter router;
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    BatchConfig config = new BatchConfig();
+    BatchService batchService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        batchService = new BatchService(router, config, new ApplicationGenericExceptionAdvice(), transactionManager);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    }
+
+    @Test
+    void test_execute_should_run_reads_at_the_same_time_in_read_only_transactions() {
+        // given
+        var bothStarted = new CountDownLatch(2);
+        var first = operation("first", "GET", "/api/v1/documents/1");
+        var second = operation("second", "GET", "/api/v1/authors/2");
+        when(router.route(first)).thenReturn(read(bothStarted, "document"));
+        when(router.route(second)).thenReturn(read(bothStarted, "author"));
+
+        // when
+        var response = batchService.execute(new BatchRequest(List.of(first, second)));
+
+        // then
+        assertEquals(List.of(
+                new BatchResult("first", 200, "document"),
+                new BatchResult("second", 200, "author")
+        ), response.responses());
+
+        // verify
+        verify(transactionManager, times(2)).getTransaction(argThat(TransactionDefinition::isReadOnly));
+    }
+
+    @Test
+    void test_execute_should_run_writes_after_earlier_requests_and_before_later_ones() {
+        // given
+        List<String> calls = Collections.synchronizedList(new ArrayList<>());
+        var read = operation("read", "GET", "/api/v1/documents/1");
+        var write = operation("write", "DELETE", "/api/v1/documents/1");
+        var readAgain = operation("read-again", "GET", "/api/v1/documents/1");
+        when(router.route(read)).thenReturn(new BatchRouter.Route(false, () -> {
+            sleep();
+            calls.add("read");
+            return ResponseEntity.ok("document");
+        }));
+        when(router.route(write)).thenReturn(new BatchRouter.Route(true, () -> {
+            calls.add("write");
+            return ResponseEntity.noContent().build();
+        }));
+        when(router.route(readAgain)).thenReturn(new BatchRouter.Route(false, () -> {
+            calls.add("read-again");
+            throw new DocumentNotFoundException("No document found with specified ID : 1");
+        }));
+
+        // when
+        var response = batchService.execute(new BatchRequest(List.of(read, write, readAgain)));
+
+        // then
+        assertEquals(List.of("read", "write", "read-again"), calls);
+        assertEquals(List.of(200, 204, 404), response.responses().stream().map(BatchResult::status).toList());
+        assertEquals(
+                new GenericErrorMessage("NOT_FOUND", "No document found with specified ID : 1"),
+                response.responses().get(2).body()
+        );
+    }
+
+    @Test
+    void test_execute_should_respond_to_failed_requests_and_run_the_others() {
+        // given
+        var denied = operation("denied", "GET", "/api/v1/authors/1");
+        var unknown = operation("unknown", "PATCH", "/api/v1/authors/1");
+        var allowed = operation("allowed", "GET", "/api/v1/documents/1");
+        when(router.route(denied)).thenReturn(new BatchRouter.Route(false, () -> {
+            throw new AccessDeniedException("Access Denied");
+        }));
+        when(router.route(unknown)).thenThrow(new ResponseStatusException(HttpStatus.NOT_FOUND, "No batch operation found."));
+        when(router.route(allowed)).thenReturn(new BatchRouter.Route(false, () -> ResponseEntity.ok("document")));
+
+        // when
+        var response = batchService.execute(new BatchRequest(List.of(denied, unknown, allowed)));
+
+        // then
+        assertEquals(List.of(
+                new BatchResult("denied", 403, new GenericErrorMessage("FORBIDDEN", "Access Denied")),
+                new BatchResult("unknown", 404, new GenericErrorMessage("NOT_FOUND", "No batch operation found.")),
+                new BatchResult("allowed", 200, "document")
+        ), response.responses());
+    }
+
+    private static BatchOperation operation(String id, String method, String path) {
+        return new BatchOperation(id, method, path, null);
+    }
+
+    // responds once both reads have started, and with a timeout when they do not run at the same time.
+    private static BatchRouter.Route read(CountDownLatch bothStarted, String body) {
+        return new BatchRouter.Route(false, () -> {
+            bothStarted.countDown();
+            try {
+                return bothStarted.await(5, TimeUnit.SECONDS)
+                        ? ResponseEntity.ok(body)
+                        : ResponseEntity.status(HttpStatus.REQUEST_TIMEOUT).build();
+            } catch (InterruptedException ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(100);
+        } catch (InterruptedException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.krieger.cache;
+
+import com.krieger.author.models.AuthorResponse;
+import com.krieger.document.models.DocumentResponse;
+import com.krieger.document.repository.DocumentRepository;
+import com.krieger.kafka.CacheInvalidationBroadcaster;
+import com.krieger.kafka.SnapshotWriter;
+import com.krieger.kafka.models.EntityChangeEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+
+import static com.krieger.cache.CacheNames.AUTHORS;
+import static com.krieger.cache.CacheNames.DOCUMENTS;
+import static com.krieger.kafka.models.EntityChangeEvent.EntityType.AUTHOR;
+import static com.krieger.kafka.models.EntityChangeEvent.EntityType.DOCUMENT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CacheInvalidatorTest {
+
+    @Mock
+    DocumentRepository documentRepository;
+    @Mock
+    ObjectProvider<CacheInvalidationBroadcaster> broadcasterProvider;
+    @Mock
+    CacheInvalidationBroadcaster broadcaster;
+    @Mock
+    ObjectProvider<SnapshotWriter> snapshotWriterProvider;
+    @Mock
+    SnapshotWriter snapshotWriter;
+
+    ConcurrentMapCacheManager cacheManager;
+    CacheInvalidator cacheInvalidator;
+    Long authorId = 1L;
+    Long documentId = 2L;
+    Long referencingDocumentId = 3L;
+    Long referencingAuthorId = 4L;
+    AuthorResponse authorResponse;
+    DocumentResponse documentResponse;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        cacheManager = new ConcurrentMapCacheManager(AUTHORS, DOCUMENTS);
+        cacheInvalidator = new CacheInvalidator(cacheManager, documentRepository, broadcasterProvider, snapshotWriterProvider);
+        doAnswer(invocation -> {
+            Consumer<CacheInvalidationBroadcaster> consumer = invocation.getArgument(0);
+            consumer.accept(broadcaster);
+            return null;
+        }).when(broadcasterProvider).ifAvailable(any());
+        doAnswer(invocation -> {
+            Consumer<SnapshotWriter> consumer = invocation.getArgument(0);
+            consumer.accept(snapshotWriter);
+            return null;
+        }).when(snapshotWriterProvider).ifAvailable(any());
+
+        // given
+        documentResponse = DocumentResponse.builder()
+                .id(documentId)
+                .title("test title")
+                .authors(Set.of(AuthorResponse.builder().id(authorId).build()))
+                .build();
+        authorResponse = new AuthorResponse(authorId, "test first name", "test last name", Set.of(documentResponse));
+        cacheManager.getCache(AUTHORS).put(authorId, authorResponse);
+        cacheManager.getCache(AUTHORS).put(referencingAuthorId, new AuthorResponse());
+        cacheManager.getCache(DOCUMENTS).put(documentId, documentResponse);
+        cacheManager.getCache(DOCUMENTS).put(referencingDocumentId, new DocumentResponse());
+    }
+
+    @Test
+    void test_on_entity_change_should_evict_author_and_its_documents_when_author_updated() {
+        // then
+        cacheInvalidator.onEntityChange(EntityChangeEvent.updated(AUTHOR, authorId, authorResponse, authorResponse));
+
+        // verify
+        assertNull(cacheManager.getCache(AUTHORS).get(authorId));
+        assertNull(cacheManager.getCache(DOCUMENTS).get(documentId));
+        assertNotNull(cacheManager.getCache(DOCUMENTS).get(referencingDocumentId));
+        assertNotNull(cacheManager.getCache(AUTHORS).get(referencingAuthorId));
+        verify(broadcaster, times(1))
+                .broadcast(Map.of(AUTHORS, Set.of(authorId), DOCUMENTS, Set.of(documentId)));
+        verifyNoInteractions(snapshotWriter);
+        verifyNoInteractions(documentRepository);
+    }
+
+    @Test
+    void test_capture_snapshots_should_capture_author_and_its_documents_without_evicting_them() {
+        // then
+        cacheInvalidator.captureSnapshots(EntityChangeEvent.updated(AUTHOR, authorId, authorResponse, authorResponse));
+
+        // verify
+        assertNotNull(cacheManager.getCache(AUTHORS).get(authorId));
+        verify(snapshotWriter, times(1))
+                .capture(Map.of(AUTHORS, Set.of(authorId), DOCUMENTS, Set.of(documentId)));
+        verifyNoInteractions(broadcaster);
+    }
+
+    @Test
+    void test_on_entity_change_should_evict_document_its_authors_and_referencing_documents_with_their_authors_when_document_updated() {
+        // when
+        when(documentRepository.findIdsOfDocumentsReferencing(documentId)).thenReturn(List.of(referencingDocumentId));
+        when(documentRepository.findAuthorIdsOfDocumentsReferencing(documentId)).thenReturn(List.of(referencingAuthorId));
+
+        // then
+        cacheInvalidator.onEntityChange(EntityChangeEvent.updated(DOCUMENT, documentId, documentResponse, documentResponse));
+
+        // verify
+        assertNull(cacheManager.getCache(AUTHORS).get(authorId));
+        assertNull(cacheManager.getCache(DOCUMENTS).get(documentId));
+        assertNull(cacheManager.getCache(DOCUMENTS).get(referencingDocumentId));
+        assertNull(cacheManager.getCache(AUTHORS).get(referencingAuthorId));
+        verify(broadcaster, times(1))
+                .broadcast(Map.of(AUTHORS, Set.of(authorId, referencingAuthorId), DOCUMENTS, Set.of(documentId, referencingDocumentId)));
+    }
+
+    @Test
+    void test_on_entity_change_should_not_look_up_referencing_documents_when_document_created() {
+        // then
+        cacheInvalidator.onEntityChange(EntityChangeEvent.created(DOCUMENT, documentId, documentResponse));
+
+        // verify
+        assertNull(cacheManager.getCache(AUTHORS).get(authorId));
+        verifyNoInteractions(documentRepository);
+    }
+
+    @Test
+    void test_evict_should_ignore_unknown_caches() {
+        // then
+        cacheInvalidator.evict(Map.of("unknown", Set.of(authorId), AUTHORS, Set.of(authorId)));
+
+        // verify
+        assertNull(cacheManager.getCache(AUTHORS).get(authorId));
+        assertEquals(2, ((ConcurrentMap<?, ?>) cacheManager.getCache(DOCUMENTS).getNativeCache()).size());
+    }
+}
@@ -0,0 +1,73 @@
+package com.krieger.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CachedMultiGetTest {
+
+    ConcurrentMapCache cache;
+    List<List<Long>> loads;
+    Function<List<Long>, Map<Long, String>> loader;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ConcurrentMapCache(CacheNames.DOCUMENTS);
+        loads = new ArrayList<>();
+        // even IDs exist.
+        loader = ids -> {
+            loads.add(ids);
+            return ids.stream().filter(id -> id % 2 == 0).collect(Collectors.toMap(id -> id, id -> "document-" + id));
+        };
+    }
+
+    @Test
+    void test_get_should_keep_request_order_and_report_missing_ids() {
+        // when
+        var result = CachedMultiGet.get(cache, List.of(6L, 3L, 2L, 6L, 5L, 4L), String.class, loader);
+
+        // then
+        assertEquals(List.of("document-6", "document-2", "document-4"), result.content());
+        assertEquals(List.of(3L, 5L), result.missingIds());
+
+        // verify
+        assertEquals(List.of(List.of(6L, 3L, 2L, 5L, 4L)), loads);
+    }
+
+    @Test
+    void test_get_should_load_only_uncached_ids_and_cache_them() {
+        // given
+        cache.put(2L, "cached-2");
+
+        // when
+        var first = CachedMultiGet.get(cache, List.of(2L, 4L), String.class, loader);
+        var second = CachedMultiGet.get(cache, List.of(4L, 2L), String.class, loader);
+
+        // then
+        assertEquals(List.of("cached-2", "document-4"), first.content());
+        assertEquals(List.of("document-4", "cached-2"), second.content());
+        assertTrue(second.missingIds().isEmpty());
+
+        // verify
+        assertEquals(List.of(List.of(4L)), loads);
+    }
+
+    @Test
+    void test_get_should_load_all_ids_without_cache() {
+        // when
+        var result = CachedMultiGet.get(null, List.of(1L, 2L), String.class, loader);
+
+        // then
+        assertEquals(List.of("document-2"), result.content());
+        assertEquals(List.of(1L), result.missingIds());
+    }
+}
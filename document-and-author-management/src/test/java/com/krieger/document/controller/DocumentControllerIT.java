@@ -4,9 +4,12 @@ import com.krieger.author.entity.Author;
 import com.krieger.author.models.AuthorRequest;
 import com.krieger.author.repository.AuthorRepository;
 import com.krieger.document.models.AllDocumentsResponse;
+import com.krieger.document.models.DocumentIdsRequest;
 import com.krieger.document.models.DocumentRequest;
 import com.krieger.document.models.DocumentResponse;
+import com.krieger.document.models.DocumentsByIdsResponse;
 import com.krieger.document.repository.DocumentRepository;
+import com.krieger.jdbc.SqlStatisticsRecorder;
 import org.junit.jupiter.api.*;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -28,10 +31,13 @@ import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.utility.DockerImageName;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
+import static com.krieger.jdbc.SqlStatementAssertions.assertMaxStatements;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @RunWith(SpringRunner.class)
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
@@ -42,6 +48,8 @@ class DocumentControllerIT {
     private AuthorRepository authorRepository;
     @Autowired
     private DocumentRepository documentRepository;
+    @Autowired
+    private SqlStatisticsRecorder sqlStatisticsRecorder;
 
     @LocalServerPort
     private int port;
@@ -68,6 +76,10 @@ class DocumentControllerIT {
         registry.add("spring.datasource.url", () -> postgreSQLContainer.getJdbcUrl());
         registry.add("spring.datasource.username", () -> postgreSQLContainer.getUsername());
         registry.add("spring.datasource.password", () -> postgreSQLContainer.getPassword());
+        registry.add("spring.r2dbc.url", () -> "r2dbc:postgresql://" + postgreSQLContainer.getHost() + ":"
+                + postgreSQLContainer.getMappedPort(5432) + "/" + postgreSQLContainer.getDatabaseName());
+        registry.add("spring.r2dbc.username", () -> postgreSQLContainer.getUsername());
+        registry.add("spring.r2dbc.password", () -> postgreSQLContainer.getPassword());
 
         // Kafka properties
         registry.add("spring.kafka.bootstrap-servers", kafka::getBootstrapServers);
@@ -206,9 +218,12 @@ class DocumentControllerIT {
         assert entity != null;
         var document = entity.getBody();
         assert document != null;
-        ResponseEntity<DocumentResponse> responseEntity = testRestTemplate.getForEntity(
-                documentUrl + "/" + document.getId(),
-                DocumentResponse.class
+        // document with its references, then its authors.
+        ResponseEntity<DocumentResponse> responseEntity = assertMaxStatements(
+                sqlStatisticsRecorder,
+                "GET /api/v1/documents/{document-id}",
+                3,
+                () -> testRestTemplate.getForEntity(documentUrl + "/" + document.getId(), DocumentResponse.class)
         );
         assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
         assertEquals(document.getId(), Objects.requireNonNull(responseEntity.getBody()).getId());
@@ -216,6 +231,44 @@ class DocumentControllerIT {
         assertEquals(document.getBody(), Objects.requireNonNull(responseEntity.getBody()).getBody());
     }
 
+    @Test
+    void test_get_documents_by_ids_should_return_documents_in_request_order_with_one_batch_of_statements() {
+        var first = testRestTemplate.postForEntity(documentUrl, documentRequest, DocumentResponse.class).getBody();
+        assert first != null;
+        var referencing = new DocumentRequest("Document2", "Document Body2", Set.of(authorResponse.getId()), Set.of(first.getId()));
+        var second = testRestTemplate.postForEntity(documentUrl, referencing, DocumentResponse.class).getBody();
+        assert second != null;
+        // documents, their authors and their references, however many IDs.
+        ResponseEntity<DocumentsByIdsResponse> responseEntity = assertMaxStatements(
+                sqlStatisticsRecorder,
+                "POST /api/v1/documents/by-ids",
+                3,
+                () -> testRestTemplate.postForEntity(
+                        documentUrl + "/by-ids",
+                        new DocumentIdsRequest(List.of(second.getId(), 124L, first.getId())),
+                        DocumentsByIdsResponse.class
+                )
+        );
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        var documents = Objects.requireNonNull(responseEntity.getBody()).content();
+        assertEquals(List.of(second.getId(), first.getId()), documents.stream().map(DocumentResponse::getId).toList());
+        assertEquals(first.getId(), documents.get(0).getReferences().iterator().next().getId());
+        assertEquals(List.of(124L), responseEntity.getBody().missingIds());
+    }
+
+    @Test
+    void test_get_documents_by_ids_should_return_documents_for_ids_query_parameter() {
+        var document = testRestTemplate.postForEntity(documentUrl, documentRequest, DocumentResponse.class).getBody();
+        assert document != null;
+        ResponseEntity<DocumentsByIdsResponse> responseEntity = testRestTemplate.getForEntity(
+                documentUrl + "?ids=" + document.getId(),
+                DocumentsByIdsResponse.class
+        );
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        assertEquals(document.getTitle(), Objects.requireNonNull(responseEntity.getBody()).content().get(0).getTitle());
+        assertTrue(responseEntity.getBody().missingIds().isEmpty());
+    }
+
     @Test
     void test_get_document_by_id_throw_error_status_code_with_invalid_document_id() {
         ResponseEntity<DocumentResponse> responseEntity = testRestTemplate.getForEntity(
@@ -231,11 +284,12 @@ class DocumentControllerIT {
         assert entity != null;
         var document = entity.getBody();
         assert document != null;
-        ResponseEntity<Void> responseEntity = testRestTemplate.exchange(
-                documentUrl + "/" + document.getId(),
-                HttpMethod.DELETE,
-                null,
-                Void.class
+        // no referencing documents, so no statement is repeated per reference.
+        ResponseEntity<Void> responseEntity = assertMaxStatements(
+                sqlStatisticsRecorder,
+                "DELETE /api/v1/documents/{document-id}",
+                10,
+                () -> testRestTemplate.exchange(documentUrl + "/" + document.getId(), HttpMethod.DELETE, null, Void.class)
         );
         assertEquals(HttpStatus.NO_CONTENT, responseEntity.getStatusCode());
     }
@@ -251,4 +305,23 @@ class DocumentControllerIT {
         assertEquals(HttpStatus.NOT_FOUND, responseEntity.getStatusCode());
     }
 
+
+    @Test
+    void test_stream_documents_should_return_documents_as_newline_delimited_json() {
+        testRestTemplate.postForEntity(documentUrl, documentRequest, DocumentResponse.class);
+        testRestTemplate.postForEntity(documentUrl, new DocumentRequest("Document2", "Document Body2", Set.of(authorResponse.getId()), null), DocumentResponse.class);
+        HttpHeaders httpHeaders = new HttpHeaders();
+        httpHeaders.setAccept(Collections.singletonList(MediaType.APPLICATION_NDJSON));
+        ResponseEntity<String> responseEntity = testRestTemplate.exchange(
+                documentUrl + "/stream?sort=title,desc",
+                HttpMethod.GET,
+                new HttpEntity<>(httpHeaders),
+                String.class
+        );
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        var lines = Objects.requireNonNull(responseEntity.getBody()).lines().toList();
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).contains("\"title\":\"Document2\""));
+        assertTrue(lines.get(1).contains("\"firstName\":\"Sreekanth\""));
+    }
 }
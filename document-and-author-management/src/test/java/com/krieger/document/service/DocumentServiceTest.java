@@ -4,18 +4,28 @@ import com.krieger.author.entity.Author;
 import com.krieger.author.models.AuthorRequest;
 import com.krieger.author.models.AuthorResponse;
 import com.krieger.author.service.AuthorService;
+import com.krieger.cache.CacheNames;
 import com.krieger.document.entity.Document;
+import com.krieger.document.entity.DocumentAuthorRow;
+import com.krieger.document.entity.DocumentReferenceRow;
+import com.krieger.document.entity.DocumentRow;
 import com.krieger.document.exception.DocumentNotFoundException;
 import com.krieger.document.mapper.DocumentMapper;
 import com.krieger.document.models.AllDocumentsResponse;
 import com.krieger.document.models.DocumentRequest;
 import com.krieger.document.models.DocumentResponse;
+import com.krieger.document.models.DocumentsByIdsResponse;
 import com.krieger.document.repository.DocumentRepository;
+import com.krieger.kafka.models.EntityChangeEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 
 import java.util.ArrayList;
@@ -37,6 +47,10 @@ class DocumentServiceTest {
     private DocumentMapper mapper;
     @Mock
     private AuthorService authorService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Spy
+    private CacheManager cacheManager = new ConcurrentMapCacheManager(CacheNames.DOCUMENTS);
 
     private DocumentRequest documentRequest;
     private DocumentResponse documentResponse;
@@ -140,6 +154,8 @@ class DocumentServiceTest {
                 .save(document);
         verify(mapper, times(1))
                 .toDocumentResponseModel(document);
+        verify(eventPublisher, times(1))
+                .publishEvent(any(EntityChangeEvent.class));
     }
 
     @Test
@@ -163,8 +179,11 @@ class DocumentServiceTest {
                 .toDocumentEntity(documentRequest, documentId);
         verify(repository, times(1))
                 .save(document);
-        verify(mapper, times(1))
+        // mapped once for the state before the update and once after it.
+        verify(mapper, times(2))
                 .toDocumentResponseModel(document);
+        verify(eventPublisher, times(1))
+                .publishEvent(any(EntityChangeEvent.class));
     }
 
     @Test
@@ -259,6 +278,36 @@ class DocumentServiceTest {
         );
     }
 
+    @Test
+    void test_get_documents_by_ids_should_load_uncached_documents_at_once_in_request_order() {
+        // given
+        var missingDocumentId = 9L;
+        var row = new DocumentRow(documentId, documentTitle, documentBody);
+        var authorRow = new DocumentAuthorRow(documentId, authorId, firstName, lastName);
+        var referenceRow = new DocumentReferenceRow(documentId, referenceDocument.getId(), documentTitle, documentBody);
+        cacheManager.getCache(CacheNames.DOCUMENTS).put(referenceDocument.getId(), referenceDocument);
+
+        // when
+        when(repository.findRowsByIdIn(List.of(documentId, missingDocumentId))).thenReturn(List.of(row));
+        when(repository.findAuthorRowsOfDocuments(List.of(documentId))).thenReturn(List.of(authorRow));
+        when(repository.findReferenceRowsOfDocuments(List.of(documentId))).thenReturn(List.of(referenceRow));
+        when(mapper.toDocumentResponseModel(row, List.of(authorRow), List.of(referenceRow))).thenReturn(documentResponse);
+
+        // then
+        DocumentsByIdsResponse actual = documentService.getDocumentsByIds(
+                List.of(referenceDocument.getId(), documentId, missingDocumentId, documentId)
+        );
+        assertEquals(List.of(referenceDocument, documentResponse), actual.content());
+        assertEquals(List.of(missingDocumentId), actual.missingIds());
+        assertEquals(documentResponse, cacheManager.getCache(CacheNames.DOCUMENTS).get(documentId).get());
+
+        // verify
+        verify(repository, never())
+                .findById(any());
+        verify(repository, times(1))
+                .findRowsByIdIn(any());
+    }
+
     @Test
     void test_delete_document_by_id_should_successfully_delete_the_document() {
         // when
@@ -275,6 +324,9 @@ class DocumentServiceTest {
                 .findById(authorId);
         verify(repository, times(1))
                 .save(document);
+        // emptied references are published as an update, followed by the deletion.
+        verify(eventPublisher, times(2))
+                .publishEvent(any(EntityChangeEvent.class));
     }
 
     @Test
@@ -359,14 +411,16 @@ class DocumentServiceTest {
     @Test
     void test_update_document_references_and_delete_author_should_update_documents_and_delete_author() {
         // when
-        when(authorService.getAuthorById(authorId)).thenReturn(authorResponse);
+        when(repository.findIdsOfDocumentsByAuthor(authorId)).thenReturn(List.of());
         doNothing().when(authorService).deleteAuthorById(authorId);
 
         // then
         documentService.updateDocumentReferencesAndDeleteAuthor(authorId);
 
         // verify
-        verify(authorService, times(1))
+        verify(repository, times(1))
+                .findIdsOfDocumentsByAuthor(authorId);
+        verify(authorService, never())
                 .getAuthorById(authorId);
         verify(authorService, times(1))
                 .deleteAuthorById(authorId);
@@ -375,10 +429,8 @@ class DocumentServiceTest {
     @Test
     void test_update_document_references_and_delete_author_should_role_back_in_failed_case() {
         // given
-        documentResponse.setReferences(Set.of(referenceDocument));
-        authorResponse.setDocuments(Set.of(documentResponse));
         // when
-        when(authorService.getAuthorById(authorId)).thenReturn(authorResponse);
+        when(repository.findIdsOfDocumentsByAuthor(authorId)).thenReturn(List.of(documentId));
         doNothing().when(authorService).deleteAuthorById(authorId);
 
         assertThrows(
@@ -0,0 +1,115 @@
+package com.krieger.document.service;
+
+import com.krieger.document.entity.DocumentAuthorRow;
+import com.krieger.document.entity.DocumentReferenceRow;
+import com.krieger.document.entity.DocumentRow;
+import com.krieger.document.mapper.DocumentMapper;
+import com.krieger.document.repository.DocumentReadRepository;
+import com.krieger.reactive.ReactiveReadConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class DocumentStreamServiceTest {
+
+    @Mock
+    DocumentReadRepository repository;
+
+    DocumentStreamServiceImpl service;
+
+    ReactiveReadConfig config = new ReactiveReadConfig();
+
+    String[] sort = {"id", "asc"};
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        config.setBatchSize(2);
+        config.setMaxPageSize(50);
+        service = new DocumentStreamServiceImpl(repository, new DocumentMapper(), config);
+        when(repository.findAuthorsOfDocuments(anyCollection())).thenAnswer(invocation -> Flux.fromIterable(
+                invocation.<List<Long>>getArgument(0).stream()
+                        .map(documentId -> new DocumentAuthorRow(documentId, 10 + documentId, "Joshua", "Bloch"))
+                        .toList()
+        ));
+        when(repository.findReferencesOfDocuments(anyCollection())).thenReturn(
+                Flux.just(new DocumentReferenceRow(2L, 1L, "Effective Java", "Body"))
+        );
+    }
+
+    @Test
+    void test_stream_documents_should_emit_documents_in_order_with_authors_and_references() {
+        // given
+        when(repository.findAllBy(any())).thenReturn(Flux.just(
+                new DocumentRow(1L, "Effective Java", "Body"),
+                new DocumentRow(2L, "Java Concurrency in Practice", "Body"),
+                new DocumentRow(3L, "Head First Java", "Body")
+        ));
+
+        // when
+        var documents = service.streamDocuments(null, null, 0, 10, sort);
+
+        // then
+        StepVerifier.create(documents)
+                .assertNext(document -> {
+                    assertEquals(1L, document.getId());
+                    assertEquals(11L, document.getAuthors().iterator().next().getId());
+                    assertTrue(document.getReferences().isEmpty());
+                })
+                .assertNext(document -> {
+                    assertEquals(2L, document.getId());
+                    assertEquals(1L, document.getReferences().iterator().next().getId());
+                })
+                .assertNext(document -> assertEquals(3L, document.getId()))
+                .verifyComplete();
+
+        // verify
+        // one lookup of authors and references per batch of two documents.
+        verify(repository, times(2)).findAuthorsOfDocuments(anyCollection());
+        verify(repository, times(2)).findReferencesOfDocuments(anyCollection());
+    }
+
+    @Test
+    void test_stream_documents_should_search_by_title_and_body_and_cap_page_size() {
+        // given
+        when(repository.findAllByTitleAndBody(any(), any(), any())).thenReturn(Flux.empty());
+
+        // when
+        var documents = service.streamDocuments("Effective Java", "Body", 1, 1000, new String[]{"title", "desc"});
+
+        // then
+        StepVerifier.create(documents).verifyComplete();
+
+        // verify
+        verify(repository).findAllByTitleAndBody("Effective Java", "Body", PageRequest.of(1, 50, Sort.by(Sort.Direction.DESC, "title")));
+        verify(repository, never()).findAuthorsOfDocuments(anyCollection());
+    }
+
+    @Test
+    void test_stream_documents_should_search_by_title_or_body_when_only_one_is_given() {
+        // given
+        when(repository.findAllByTitleOrBody(any(), any(), any())).thenReturn(Flux.empty());
+
+        // when
+        var documents = service.streamDocuments(null, "Body", 0, 10, sort);
+
+        // then
+        StepVerifier.create(documents).verifyComplete();
+
+        // verify
+        verify(repository).findAllByTitleOrBody(null, "Body", PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "id")));
+    }
+}
@@ -0,0 +1,182 @@
+package com.krieger.eventbus;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.krieger.author.models.AuthorResponse;
+import com.krieger.kafka.KafkaConsumerMetrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class InProcessAuthorEventBusTest {
+
+    @Mock
+    AuthorEventHandler authorEventHandler;
+    @Mock
+    KafkaConsumerMetrics metrics;
+    @TempDir
+    Path tempDir;
+
+    EventBusConfig config;
+    InProcessAuthorEventBus eventBus;
+    Long authorId = 1L;
+    AuthorResponse authorResponse;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        config = new EventBusConfig();
+        config.setMode("in-process");
+        config.getInProcess().setPartitions(2);
+        config.getInProcess().setAttempts(2);
+        config.getInProcess().getJournal().setPath(tempDir.resolve("author-events.journal").toString());
+
+        // given
+        authorResponse = new AuthorResponse(authorId, "test first name", "test last name", null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (eventBus != null) {
+            eventBus.stop();
+        }
+    }
+
+    private InProcessAuthorEventBus startEventBus() {
+        eventBus = new InProcessAuthorEventBus(authorEventHandler, metrics, config, new ObjectMapper(), new MockEnvironment());
+        eventBus.start();
+        return eventBus;
+    }
+
+    @Test
+    void test_publish_should_hand_author_event_to_handler() {
+        // then
+        startEventBus().publish(authorResponse);
+
+        // verify
+        verify(authorEventHandler, timeout(5000).times(1))
+                .handle(eq(authorResponse), any());
+        verify(metrics, timeout(5000).times(1))
+                .recordEndToEndLatency(anyLong(), eq(InProcessAuthorEventBus.IN_PROCESS_TOPIC));
+    }
+
+    @Test
+    void test_publish_should_keep_events_of_same_author_in_order() {
+        // given
+        List<String> handled = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> handled.add(((AuthorResponse) invocation.getArgument(0)).getFirstName()))
+                .when(authorEventHandler).handle(any(), any());
+        startEventBus();
+
+        // then
+        for (int i = 0; i < 100; i++) {
+            eventBus.publish(new AuthorResponse(authorId, String.valueOf(i), "test last name", null));
+        }
+
+        // verify
+        verify(authorEventHandler, timeout(5000).times(100))
+                .handle(any(), any());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(String.valueOf(i), handled.get(i));
+        }
+    }
+
+    @Test
+    void test_publish_should_move_event_to_dead_letters_after_all_attempts_and_replay_it() {
+        // given
+        doThrow(new IllegalStateException("test failure"))
+                .doThrow(new IllegalStateException("test failure"))
+                .doNothing()
+                .when(authorEventHandler).handle(eq(authorResponse), any());
+        startEventBus();
+
+        // then
+        eventBus.publish(authorResponse);
+
+        // verify
+        verify(metrics, timeout(5000).times(1))
+                .recordDeadLetter();
+        verify(metrics, times(1))
+                .recordRetry(InProcessAuthorEventBus.IN_PROCESS_TOPIC);
+        assertEquals(1, eventBus.deadLetters());
+
+        // then
+        assertEquals(1, eventBus.replayDeadLetters(10));
+
+        // verify
+        verify(authorEventHandler, timeout(5000).times(3))
+                .handle(eq(authorResponse), any());
+        assertEquals(0, eventBus.deadLetters());
+    }
+
+    @Test
+    void test_start_should_replay_unprocessed_events_left_in_journal() {
+        // given
+        var journal = new EventJournal(Path.of(config.getInProcess().getJournal().getPath()), new ObjectMapper());
+        var event = AuthorEvent.of(authorResponse);
+        journal.append(event);
+        config.getInProcess().getJournal().setEnabled(true);
+
+        // then
+        startEventBus();
+
+        // verify
+        verify(authorEventHandler, timeout(5000).times(1))
+                .handle(argThat(author -> authorId.equals(author.getId())), eq(event.eventId()));
+    }
+
+    @Test
+    void test_publish_should_not_journal_event_rejected_by_full_ring_buffer() throws InterruptedException {
+        // given
+        config.getInProcess().setPartitions(1);
+        config.getInProcess().setCapacity(1);
+        config.getInProcess().setPublishTimeout(Duration.ofMillis(50));
+        config.getInProcess().getJournal().setEnabled(true);
+        var handling = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            handling.countDown();
+            return release.await(5, TimeUnit.SECONDS);
+        }).when(authorEventHandler).handle(any(), any());
+        startEventBus().publish(authorResponse);
+        handling.await(5, TimeUnit.SECONDS);
+        eventBus.publish(authorResponse);
+
+        // then
+        assertThrows(
+                IllegalStateException.class,
+                () -> eventBus.publish(authorResponse)
+        );
+        var journal = new EventJournal(Path.of(config.getInProcess().getJournal().getPath()), new ObjectMapper());
+        assertEquals(2, journal.readAll().size());
+        release.countDown();
+    }
+
+    @Test
+    void test_publish_should_throw_illegal_state_exception_when_event_bus_is_stopped() {
+        // given
+        startEventBus().stop();
+
+        // then
+        assertThrows(
+                IllegalStateException.class,
+                () -> eventBus.publish(authorResponse)
+        );
+    }
+}
@@ -0,0 +1,56 @@
+package com.krieger.jdbc;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * To lock in the number of SQL statements executed by a scope(an HTTP request or a kafka message) in tests.
+ */
+public final class SqlStatementAssertions {
+
+    // scopes of HTTP requests may be closed just after the response reaches the client.
+    private static final long COMPLETION_TIMEOUT_SECONDS = 5;
+
+    private SqlStatementAssertions() {
+    }
+
+    /**
+     * To run the action and assert that the next completion of the scope executed at most maxStatements.
+     *
+     * @param recorder recorder of the application under test.
+     * @param scope name of the scope, e.g. "GET /api/v1/authors/{author-id}".
+     * @param maxStatements maximum number of statements.
+     * @param action triggering the scope.
+     * @return result of the action.
+     */
+    public static <T> T assertMaxStatements(SqlStatisticsRecorder recorder, String scope, int maxStatements, Supplier<T> action) {
+        BlockingQueue<SqlStatistics> completed = new LinkedBlockingQueue<>();
+        Consumer<SqlStatistics> listener = statistics -> {
+            if (statistics.scope().equals(scope)) {
+                completed.add(statistics);
+            }
+        };
+        recorder.addCompletionListener(listener);
+        try {
+            var result = action.get();
+            var statistics = completed.poll(COMPLETION_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            assertNotNull(statistics, "Scope " + scope + " is not completed.");
+            assertTrue(
+                    statistics.statements() <= maxStatements,
+                    scope + " executed " + statistics.statements() + " SQL statements, expected at most " + maxStatements
+            );
+            return result;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        } finally {
+            recorder.removeCompletionListener(listener);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.krieger.jdbc;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlStatisticsRecorderTest {
+
+    SqlStatisticsConfig config;
+    SimpleMeterRegistry registry;
+    SqlStatisticsRecorder recorder;
+    List<SqlStatistics> completed;
+
+    String scopeName = "GET /api/v1/authors/{author-id}";
+    String sql = "select a1_0.id from author a1_0 where a1_0.id=?";
+
+    @BeforeEach
+    void setUp() {
+        config = new SqlStatisticsConfig();
+        config.setEnabled(true);
+        registry = new SimpleMeterRegistry();
+        recorder = new SqlStatisticsRecorder(config, registry);
+        completed = new ArrayList<>();
+        recorder.addCompletionListener(completed::add);
+    }
+
+    @Test
+    void test_close_should_report_statements_and_time_of_the_scope() {
+        // when
+        try (var ignored = recorder.open(scopeName)) {
+            recorder.beforeStatement(sql);
+            recorder.afterStatement(1_000);
+        }
+
+        // then
+        assertEquals(List.of(new SqlStatistics(scopeName, 1, 1_000)), completed);
+        assertEquals(1, registry.find(SqlStatisticsRecorder.STATEMENTS_METRIC).tag("scope", scopeName).summary().count());
+    }
+
+    @Test
+    void test_statements_outside_any_scope_should_not_be_counted() {
+        // when
+        recorder.beforeStatement(sql);
+
+        // then
+        assertTrue(completed.isEmpty());
+    }
+
+    @Test
+    void test_nested_scope_should_be_added_to_enclosing_scope() {
+        // when
+        try (var ignored = recorder.open(scopeName)) {
+            recorder.beforeStatement(sql);
+            try (var ignoredEvent = recorder.open("EVENT author-event")) {
+                recorder.beforeStatement(sql);
+            }
+        }
+
+        // then
+        assertEquals(2, completed.size());
+        assertEquals(1, completed.get(0).statements());
+        assertEquals(2, completed.get(1).statements());
+    }
+
+    @Test
+    void test_statement_exceeding_budget_should_fail_when_action_is_fail() {
+        // given
+        config.setBudgets(Map.of(scopeName, 1));
+        config.setAction(SqlStatisticsConfig.Action.FAIL);
+
+        // when
+        try (var ignored = recorder.open(scopeName)) {
+            recorder.beforeStatement(sql);
+
+            // then
+            assertThrows(SqlBudgetExceededException.class, () -> recorder.beforeStatement(sql));
+        }
+    }
+
+    @Test
+    void test_statement_exceeding_budget_should_only_be_reported_when_action_is_log() {
+        // given
+        config.setBudgets(Map.of(scopeName, 1));
+
+        // when
+        try (var ignored = recorder.open(scopeName)) {
+            recorder.beforeStatement(sql);
+            recorder.beforeStatement(sql);
+        }
+
+        // then
+        assertEquals(2, completed.get(0).statements());
+    }
+
+    @Test
+    void test_open_should_not_record_anything_when_disabled() {
+        // given
+        config.setEnabled(false);
+
+        // when
+        try (var ignored = recorder.open(scopeName)) {
+            recorder.beforeStatement(sql);
+        }
+
+        // then
+        assertTrue(completed.isEmpty());
+    }
+}
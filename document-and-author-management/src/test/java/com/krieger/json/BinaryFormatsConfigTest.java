@@ -0,0 +1,105 @@
+package com.krieger.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.krieger.document.controller.DocumentController;
+import com.krieger.document.models.DocumentRequest;
+import com.krieger.document.models.DocumentResponse;
+import com.krieger.document.service.DocumentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class BinaryFormatsConfigTest {
+
+    static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    @Mock
+    DocumentService documentService;
+
+    BinaryFormatsConfig config = new BinaryFormatsConfig();
+    ObjectMapper cborMapper;
+    ObjectMapper smileMapper;
+    MockMvc mockMvc;
+
+    DocumentResponse documentResponse = DocumentResponse.builder().id(1L).title("Effective Java").body("Body").build();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        var cbor = config.cborHttpMessageConverter(new Jackson2ObjectMapperBuilder());
+        var smile = config.smileHttpMessageConverter(new Jackson2ObjectMapperBuilder());
+        cborMapper = cbor.getObjectMapper();
+        smileMapper = smile.getObjectMapper();
+        // same order as in the application, JSON first.
+        mockMvc = MockMvcBuilders.standaloneSetup(new DocumentController(documentService))
+                .setMessageConverters(new MappingJackson2HttpMessageConverter(), cbor, smile)
+                .build();
+    }
+
+    @Test
+    void test_get_document_should_return_cbor_when_accepted() throws Exception {
+        // given
+        when(documentService.getDocumentById(1L)).thenReturn(documentResponse);
+
+        // when
+        var body = mockMvc.perform(get("/api/v1/documents/1").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // then
+        var document = cborMapper.readValue(body, DocumentResponse.class);
+        assertEquals(1L, document.getId());
+        assertEquals("Effective Java", document.getTitle());
+    }
+
+    @Test
+    void test_get_document_should_return_json_when_anything_is_accepted() throws Exception {
+        // given
+        when(documentService.getDocumentById(1L)).thenReturn(documentResponse);
+
+        // when, then
+        mockMvc.perform(get("/api/v1/documents/1").accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void test_save_document_should_accept_smile_request_body() throws Exception {
+        // given
+        var request = new DocumentRequest("Effective Java", "Body", Set.of(2L), Set.of(3L));
+        when(documentService.saveDocument(any())).thenReturn(documentResponse);
+
+        // when
+        var body = mockMvc.perform(post("/api/v1/documents")
+                        .contentType(SMILE)
+                        .accept(SMILE)
+                        .content(smileMapper.writeValueAsBytes(request)))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(SMILE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // then
+        assertEquals(1L, smileMapper.readValue(body, DocumentResponse.class).getId());
+
+        // verify
+        verify(documentService).saveDocument(eq(request));
+    }
+}
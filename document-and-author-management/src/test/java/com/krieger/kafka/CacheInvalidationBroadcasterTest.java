@@ -0,0 +1,87 @@
+package com.krieger.kafka;
+
+import com.krieger.cache.CacheInvalidator;
+import com.krieger.kafka.models.CacheInvalidationMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.util.Map;
+import java.util.Set;
+
+import static com.krieger.cache.CacheNames.AUTHORS;
+import static com.krieger.cache.CacheNames.DOCUMENTS;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class CacheInvalidationBroadcasterTest {
+
+    @InjectMocks
+    CacheInvalidationBroadcaster broadcaster;
+    @Mock
+    KafkaTemplate<String, CacheInvalidationMessage> kafkaTemplate;
+    @Mock
+    CacheInvalidator cacheInvalidator;
+    @Spy
+    CacheInvalidationConfig config = new CacheInvalidationConfig();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void test_flush_should_send_coalesced_invalidations_as_single_message() {
+        // given
+        broadcaster.broadcast(Map.of(AUTHORS, Set.of(1L)));
+        broadcaster.broadcast(Map.of(AUTHORS, Set.of(1L, 2L), DOCUMENTS, Set.of(3L)));
+
+        // then
+        broadcaster.flush();
+        broadcaster.flush();
+
+        // verify
+        verify(kafkaTemplate, times(1))
+                .send(config.getTopic(), config.getNodeId(), new CacheInvalidationMessage(
+                        config.getNodeId(),
+                        Map.of(AUTHORS, Set.of(1L, 2L), DOCUMENTS, Set.of(3L))
+                ));
+    }
+
+    @Test
+    void test_flush_should_not_send_when_nothing_is_pending() {
+        // then
+        broadcaster.flush();
+
+        // verify
+        verify(kafkaTemplate, never())
+                .send(anyString(), anyString(), any());
+    }
+
+    @Test
+    void test_on_cache_invalidation_should_evict_keys_invalidated_on_other_nodes() {
+        // given
+        var keys = Map.of(AUTHORS, Set.of(1L));
+
+        // then
+        broadcaster.onCacheInvalidation(new CacheInvalidationMessage("other-node", keys));
+
+        // verify
+        verify(cacheInvalidator, times(1))
+                .evict(keys);
+    }
+
+    @Test
+    void test_on_cache_invalidation_should_skip_own_invalidations() {
+        // then
+        broadcaster.onCacheInvalidation(new CacheInvalidationMessage(config.getNodeId(), Map.of(AUTHORS, Set.of(1L))));
+
+        // verify
+        verifyNoInteractions(cacheInvalidator);
+    }
+}
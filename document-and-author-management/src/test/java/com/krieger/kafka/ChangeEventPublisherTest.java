@@ -0,0 +1,149 @@
+package com.krieger.kafka;
+
+import com.krieger.author.models.AuthorResponse;
+import com.krieger.kafka.models.EntityChangeEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.InOrder;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.util.concurrent.CompletableFuture;
+
+import static com.krieger.kafka.models.EntityChangeEvent.EntityType.AUTHOR;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class ChangeEventPublisherTest {
+
+    @Mock
+    KafkaTemplate<String, EntityChangeEvent> kafkaTemplate;
+
+    ChangeEventConfig config;
+    ChangeEventPublisher changeEventPublisher;
+    AuthorResponse authorResponse;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        config = new ChangeEventConfig();
+        config.setTopic("document-and-author-change-test-topic");
+        config.setBatchSize(2);
+        changeEventPublisher = new ChangeEventPublisher(kafkaTemplate, config);
+        when(kafkaTemplate.send(anyString(), anyString(), any(EntityChangeEvent.class)))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        // given
+        authorResponse = new AuthorResponse(1L, "test first name", "test last name", null);
+    }
+
+    @Test
+    void test_flush_should_send_queued_change_events_keyed_by_entity() {
+        // given
+        EntityChangeEvent event = EntityChangeEvent.created(AUTHOR, 1L, authorResponse);
+
+        // when
+        changeEventPublisher.onEntityChange(event);
+        changeEventPublisher.flush();
+
+        // verify
+        verify(kafkaTemplate, times(1))
+                .send(config.getTopic(), "author:1", event);
+    }
+
+    @Test
+    void test_flush_should_send_all_queued_change_events_in_batches() {
+        // when
+        changeEventPublisher.onEntityChange(EntityChangeEvent.created(AUTHOR, 1L, authorResponse));
+        changeEventPublisher.onEntityChange(EntityChangeEvent.updated(AUTHOR, 1L, authorResponse, authorResponse));
+        changeEventPublisher.onEntityChange(EntityChangeEvent.deleted(AUTHOR, 1L, authorResponse));
+        changeEventPublisher.flush();
+
+        // verify
+        verify(kafkaTemplate, times(3))
+                .send(anyString(), anyString(), any(EntityChangeEvent.class));
+    }
+
+    @Test
+    void test_flush_should_queue_failed_change_events_again_in_order() {
+        // given
+        EntityChangeEvent created = EntityChangeEvent.created(AUTHOR, 1L, authorResponse);
+        EntityChangeEvent updated = EntityChangeEvent.updated(AUTHOR, 1L, authorResponse, authorResponse);
+        EntityChangeEvent deleted = EntityChangeEvent.deleted(AUTHOR, 1L, authorResponse);
+        when(kafkaTemplate.send(config.getTopic(), "author:1", updated))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker not available")))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        changeEventPublisher.onEntityChange(created);
+        changeEventPublisher.onEntityChange(updated);
+        changeEventPublisher.onEntityChange(deleted);
+        changeEventPublisher.flush();
+
+        // verify
+        verify(kafkaTemplate, never()).send(config.getTopic(), "author:1", deleted);
+
+        // then
+        changeEventPublisher.flush();
+
+        // verify
+        InOrder inOrder = inOrder(kafkaTemplate);
+        inOrder.verify(kafkaTemplate).send(config.getTopic(), "author:1", created);
+        inOrder.verify(kafkaTemplate, times(2)).send(config.getTopic(), "author:1", updated);
+        inOrder.verify(kafkaTemplate).send(config.getTopic(), "author:1", deleted);
+    }
+
+    @Test
+    void test_flush_should_send_changes_after_a_failed_one_again_so_that_they_stay_in_order() {
+        // given
+        config.setBatchSize(3);
+        EntityChangeEvent created = EntityChangeEvent.created(AUTHOR, 1L, authorResponse);
+        EntityChangeEvent updated = EntityChangeEvent.updated(AUTHOR, 1L, authorResponse, authorResponse);
+        EntityChangeEvent deleted = EntityChangeEvent.deleted(AUTHOR, 1L, authorResponse);
+        when(kafkaTemplate.send(config.getTopic(), "author:1", updated))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker not available")))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        changeEventPublisher.onEntityChange(created);
+        changeEventPublisher.onEntityChange(updated);
+        changeEventPublisher.onEntityChange(deleted);
+        changeEventPublisher.flush();
+        changeEventPublisher.flush();
+
+        // verify
+        InOrder inOrder = inOrder(kafkaTemplate);
+        inOrder.verify(kafkaTemplate).send(config.getTopic(), "author:1", created);
+        inOrder.verify(kafkaTemplate).send(config.getTopic(), "author:1", updated);
+        inOrder.verify(kafkaTemplate).send(config.getTopic(), "author:1", deleted);
+        // deleted is published last again, after the retried update.
+        inOrder.verify(kafkaTemplate).send(config.getTopic(), "author:1", updated);
+        inOrder.verify(kafkaTemplate).send(config.getTopic(), "author:1", deleted);
+        verify(kafkaTemplate, times(1)).send(config.getTopic(), "author:1", created);
+    }
+
+    @Test
+    void test_flush_on_shutdown_should_send_queued_change_events() {
+        // given
+        EntityChangeEvent event = EntityChangeEvent.created(AUTHOR, 1L, authorResponse);
+
+        // when
+        changeEventPublisher.onEntityChange(event);
+        changeEventPublisher.flushOnShutdown();
+
+        // verify
+        verify(kafkaTemplate, times(1))
+                .send(config.getTopic(), "author:1", event);
+    }
+
+    @Test
+    void test_flush_should_not_send_anything_when_no_change_events_queued() {
+        // when
+        changeEventPublisher.flush();
+
+        // verify
+        verifyNoInteractions(kafkaTemplate);
+    }
+}
@@ -0,0 +1,135 @@
+package com.krieger.kafka;
+
+import com.krieger.author.models.AuthorResponse;
+import com.krieger.eventbus.AuthorEventBus;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.core.env.Environment;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class DeadLetterReplayServiceTest {
+
+    @InjectMocks
+    DeadLetterReplayService deadLetterReplayService;
+    @Mock
+    ConsumerFactory<String, AuthorResponse> consumerFactory;
+    @Mock
+    KafkaTemplate<String, AuthorResponse> kafkaTemplate;
+    @Mock
+    KafkaConsumerMetrics metrics;
+    @Mock
+    Environment environment;
+
+    MockConsumer<String, AuthorResponse> consumer;
+    String topic = "document-and-author-test-topic";
+    String deadLetterTopic = topic + KafkaConsumer.DEAD_LETTER_TOPIC_SUFFIX;
+    TopicPartition partition = new TopicPartition(deadLetterTopic, 0);
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        // given
+        consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST) {
+            @Override
+            public synchronized void close() {
+                // keep consumer open to verify committed offsets after replay.
+            }
+        };
+        consumer.updatePartitions(deadLetterTopic, List.of(new PartitionInfo(deadLetterTopic, 0, null, null, null)));
+        consumer.updateBeginningOffsets(Map.of(partition, 0L));
+        when(environment.getProperty("kafka.topic")).thenReturn(topic);
+        when(environment.getProperty("spring.kafka.consumer.group-id")).thenReturn("document-and-author-test-group");
+        when(consumerFactory.createConsumer(anyString(), isNull(), isNull(), any(Properties.class))).thenReturn(consumer);
+        CompletableFuture<SendResult<String, AuthorResponse>> sent = CompletableFuture.completedFuture(null);
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(sent);
+    }
+
+    @Test
+    void test_replay_should_send_dead_lettered_events_to_main_topic_and_commit_offsets() {
+        // given
+        var deadLetter = new ConsumerRecord<>(deadLetterTopic, 0, 0L, "1", new AuthorResponse(1L, "first", "last", null));
+        deadLetter.headers().add(KafkaProducer.EVENT_ID_HEADER, "test-event-id".getBytes(StandardCharsets.UTF_8));
+        consumer.schedulePollTask(() -> consumer.addRecord(deadLetter));
+        ArgumentCaptor<ProducerRecord<String, AuthorResponse>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+
+        // then
+        int replayed = deadLetterReplayService.replay(10);
+        assertEquals(1, replayed);
+
+        // verify
+        verify(kafkaTemplate, times(1)).send(captor.capture());
+        assertEquals(topic, captor.getValue().topic());
+        assertEquals("1", captor.getValue().key());
+        assertEquals(1L, captor.getValue().value().getId());
+        assertEquals(
+                "test-event-id",
+                new String(captor.getValue().headers().lastHeader(KafkaProducer.EVENT_ID_HEADER).value(), StandardCharsets.UTF_8)
+        );
+        assertEquals(new OffsetAndMetadata(1L), consumer.committed(Set.of(partition)).get(partition));
+        verify(metrics, times(1)).recordReplayed(1);
+    }
+
+    @Test
+    void test_replay_should_replay_at_most_batch_size_events() {
+        // given
+        consumer.schedulePollTask(() -> {
+            for (long offset = 0; offset < 3; offset++) {
+                consumer.addRecord(new ConsumerRecord<>(deadLetterTopic, 0, offset, String.valueOf(offset), new AuthorResponse()));
+            }
+        });
+
+        // then
+        int replayed = deadLetterReplayService.replay(2);
+        assertEquals(2, replayed);
+
+        // verify
+        verify(kafkaTemplate, times(2)).send(any(ProducerRecord.class));
+        assertEquals(new OffsetAndMetadata(2L), consumer.committed(Set.of(partition)).get(partition));
+    }
+
+    @Test
+    void test_replay_should_return_zero_when_dead_letter_topic_is_empty() {
+        // then
+        int replayed = deadLetterReplayService.replay(10);
+        assertEquals(0, replayed);
+
+        // verify
+        verifyNoInteractions(kafkaTemplate);
+    }
+
+    @Test
+    void test_replay_should_reject_batch_size_out_of_bounds() {
+        // then
+        assertThrows(IllegalArgumentException.class, () -> deadLetterReplayService.replay(0));
+        assertThrows(IllegalArgumentException.class, () -> deadLetterReplayService.replay(AuthorEventBus.MAX_REPLAY_BATCH_SIZE + 1));
+
+        // verify
+        verifyNoInteractions(consumerFactory, kafkaTemplate);
+    }
+}
@@ -0,0 +1,96 @@
+package com.krieger.kafka;
+
+import com.krieger.author.models.AuthorResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.Environment;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.DefaultKafkaHeaderMapper;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@EmbeddedKafka(partitions = 1, topics = KafkaConsumerMetricsTest.TOPIC)
+class KafkaConsumerMetricsTest {
+
+    static final String TOPIC = "document-and-author-metrics-test-topic";
+
+    SimpleMeterRegistry meterRegistry;
+    KafkaConsumerMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new KafkaConsumerMetrics(meterRegistry);
+    }
+
+    @Test
+    void test_author_event_should_carry_produce_time_and_record_latency_and_poll_batch_size(EmbeddedKafkaBroker broker) {
+        // given
+        Map<String, Object> producerProps = KafkaTestUtils.producerProps(broker);
+        KafkaTemplate<String, AuthorResponse> kafkaTemplate = new KafkaTemplate<>(
+                new DefaultKafkaProducerFactory<>(producerProps, new StringSerializer(), new JsonSerializer<>())
+        );
+        Environment environment = mock(Environment.class);
+        when(environment.getProperty("kafka.topic")).thenReturn(TOPIC);
+        KafkaProducer kafkaProducer = new KafkaProducer(kafkaTemplate, environment);
+
+        Map<String, Object> consumerProps = new HashMap<>(KafkaTestUtils.consumerProps("metrics-test-group", "false", broker));
+        consumerProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        consumerProps.put(ConsumerConfig.INTERCEPTOR_CLASSES_CONFIG, PollBatchSizeInterceptor.class.getName());
+        consumerProps.put(PollBatchSizeInterceptor.METER_REGISTRY_CONFIG, meterRegistry);
+        JsonDeserializer<AuthorResponse> valueDeserializer = new JsonDeserializer<>(AuthorResponse.class);
+        valueDeserializer.addTrustedPackages("com.krieger.author.models");
+
+        // when
+        for (long authorId = 1; authorId <= 3; authorId++) {
+            kafkaProducer.sendAuthorInformation(new AuthorResponse(authorId, "first", "last", null));
+        }
+        kafkaTemplate.flush();
+
+        // then
+        try (Consumer<String, AuthorResponse> consumer = new DefaultKafkaConsumerFactory<>(
+                consumerProps, new StringDeserializer(), valueDeserializer).createConsumer()) {
+            broker.consumeFromAnEmbeddedTopic(consumer, TOPIC);
+            ConsumerRecords<String, AuthorResponse> records = KafkaTestUtils.getRecords(consumer, Duration.ofSeconds(10), 3);
+            assertEquals(3, records.count());
+
+            for (ConsumerRecord<String, AuthorResponse> record : records) {
+                Map<String, Object> headers = new HashMap<>();
+                new DefaultKafkaHeaderMapper().toHeaders(record.headers(), headers);
+                Object producedAt = headers.get(KafkaProducer.PRODUCED_AT_HEADER);
+                assertNotNull(producedAt);
+                assertNotNull(headers.get(KafkaProducer.EVENT_ID_HEADER));
+                metrics.recordEndToEndLatency((Long) producedAt, record.topic());
+            }
+        }
+
+        // verify
+        var latency = meterRegistry.get("kafka.author.event.latency").tag("topic", TOPIC).timer();
+        assertEquals(3, latency.count());
+        var batchSize = meterRegistry.get("kafka.consumer.poll.batch.size").tag("topic", TOPIC).summary();
+        assertEquals(3, (long) batchSize.totalAmount());
+        assertTrue(batchSize.count() >= 1);
+    }
+}
@@ -1,33 +1,67 @@
 package com.krieger.kafka;
 
+import com.krieger.author.exception.AuthorNotFoundException;
 import com.krieger.author.models.AuthorResponse;
-import com.krieger.author.service.AuthorServiceImpl;
 import com.krieger.document.service.DocumentServiceImpl;
+import com.krieger.eventbus.AuthorEventHandler;
+import com.krieger.jdbc.SqlStatisticsConfig;
+import com.krieger.jdbc.SqlStatisticsRecorder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.core.env.Environment;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.support.Acknowledgment;
 
 import static org.mockito.Mockito.*;
 
 class KafkaConsumerTest {
 
-    @InjectMocks
     KafkaConsumer kafkaConsumer;
     @Mock
-    AuthorServiceImpl authorServiceImpl;
-    @Mock
     DocumentServiceImpl documentServiceImpl;
+    @Mock
+    ProcessedEventLedger processedEventLedger;
+    @Mock
+    KafkaConsumerMetrics metrics;
+    @Mock
+    Environment environment;
+    @Mock
+    RetryTopicForwarder retryTopicForwarder;
+    @Mock
+    Acknowledgment acknowledgment;
+    @Spy
+    KeyOrderedExecutor keyOrderedExecutor = new KeyOrderedExecutor(2);
 
     AuthorResponse authorResponse;
+    ConsumerRecord<String, AuthorResponse> record;
     Long authorId = 1L;
     String firstName = "test first name";
     String lastName = "test last name";
+    String eventId = "test-event-id";
+    String topic = "document-and-author-test-topic";
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        kafkaConsumer = new KafkaConsumer(
+                new AuthorEventHandler(
+                        documentServiceImpl,
+                        processedEventLedger,
+                        new SqlStatisticsRecorder(new SqlStatisticsConfig(), new SimpleMeterRegistry())
+                ),
+                metrics,
+                environment,
+                keyOrderedExecutor,
+                retryTopicForwarder
+        );
+        when(environment.getProperty("kafka.topic")).thenReturn(topic);
+        when(environment.getProperty("kafka.retry.delay", Long.class, 1000L)).thenReturn(10L);
 
         // given
         authorResponse = new AuthorResponse(
@@ -36,19 +70,177 @@ class KafkaConsumerTest {
                 lastName,
                 null
         );
+        record = new ConsumerRecord<>(topic, 0, 0L, String.valueOf(authorId), authorResponse);
     }
 
     @Test
     void test_consume_author_response_from_kafka_should_receive_author_response_and_delete_if_author_do_not_have_any_documents() {
         // when
         doNothing().when(documentServiceImpl).updateDocumentReferencesAndDeleteAuthor(authorId);
+        when(processedEventLedger.isProcessed(eventId)).thenReturn(false);
+
+        // then
+        kafkaConsumer.consumeAuthorResponseFromKafka(authorResponse, record, eventId, null, topic, null);
+
+        // verify
+        verify(documentServiceImpl, times(1))
+                .updateDocumentReferencesAndDeleteAuthor(authorId);
+        verify(processedEventLedger, times(1))
+                .markProcessed(eventId);
+    }
+
+    @Test
+    void test_consume_author_response_from_kafka_should_skip_already_processed_event() {
+        // when
+        when(processedEventLedger.isProcessed(eventId)).thenReturn(true);
+
+        // then
+        kafkaConsumer.consumeAuthorResponseFromKafka(authorResponse, record, eventId, null, topic, null);
+
+        // verify
+        verify(documentServiceImpl, never())
+                .updateDocumentReferencesAndDeleteAuthor(authorId);
+        verify(processedEventLedger, never())
+                .markProcessed(eventId);
+    }
+
+    @Test
+    void test_consume_author_response_from_kafka_should_mark_event_processed_when_author_already_deleted() {
+        // when
+        when(processedEventLedger.isProcessed(eventId)).thenReturn(false);
+        doThrow(new AuthorNotFoundException("No author found"))
+                .when(documentServiceImpl).updateDocumentReferencesAndDeleteAuthor(authorId);
+
+        // then
+        kafkaConsumer.consumeAuthorResponseFromKafka(authorResponse, record, eventId, null, topic, null);
+
+        // verify
+        verify(processedEventLedger, times(1))
+                .markProcessed(eventId);
+    }
+
+    @Test
+    void test_consume_author_response_from_kafka_should_process_event_without_event_id() {
+        // then
+        kafkaConsumer.consumeAuthorResponseFromKafka(authorResponse, record, null, null, topic, null);
+
+        // verify
+        verify(documentServiceImpl, times(1))
+                .updateDocumentReferencesAndDeleteAuthor(authorId);
+        verifyNoInteractions(processedEventLedger);
+    }
+
+    @Test
+    void test_consume_author_response_from_kafka_should_record_retry_when_received_from_retry_topic() {
+        // given
+        String retryTopic = topic + KafkaConsumer.RETRY_TOPIC_SUFFIX + "-0";
+
+        // then
+        kafkaConsumer.consumeAuthorResponseFromKafka(authorResponse, record, eventId, null, retryTopic, null);
+
+        // verify
+        verify(metrics, times(1))
+                .recordRetry(retryTopic);
+        verify(documentServiceImpl, times(1))
+                .updateDocumentReferencesAndDeleteAuthor(authorId);
+    }
+
+    @Test
+    void test_consume_author_response_from_kafka_should_record_end_to_end_latency_when_produce_time_is_present() {
+        // given
+        long producedAt = System.currentTimeMillis();
+
+        // then
+        kafkaConsumer.consumeAuthorResponseFromKafka(authorResponse, record, eventId, producedAt, topic, null);
+
+        // verify
+        verify(metrics, times(1))
+                .recordEndToEndLatency(producedAt, topic);
+    }
+
+    @Test
+    void test_handle_dead_lettered_author_response_should_record_dead_letter() {
+        // then
+        kafkaConsumer.handleDeadLetteredAuthorResponse(authorResponse, "test error");
+
+        // verify
+        verify(metrics, times(1))
+                .recordDeadLetter();
+        verifyNoInteractions(documentServiceImpl);
+    }
+
+    @Test
+    void test_consume_author_response_from_kafka_should_process_event_asynchronously_and_acknowledge_in_ordered_parallel_mode() {
+        // when
+        when(processedEventLedger.isProcessed(eventId)).thenReturn(false);
+
+        // then
+        kafkaConsumer.consumeAuthorResponseFromKafka(authorResponse, record, eventId, null, topic, acknowledgment);
+
+        // verify
+        verify(documentServiceImpl, timeout(5000).times(1))
+                .updateDocumentReferencesAndDeleteAuthor(authorId);
+        verify(acknowledgment, timeout(5000).times(1))
+                .acknowledge();
+        verify(keyOrderedExecutor, times(1))
+                .submit(eq(authorId), any(Runnable.class));
+    }
+
+    @Test
+    void test_consume_author_response_from_kafka_should_forward_failed_event_to_retry_topic_in_ordered_parallel_mode() {
+        // when
+        when(processedEventLedger.isProcessed(eventId)).thenReturn(false);
+        doThrow(new IllegalStateException("test failure"))
+                .when(documentServiceImpl).updateDocumentReferencesAndDeleteAuthor(authorId);
+
+        // then
+        kafkaConsumer.consumeAuthorResponseFromKafka(authorResponse, record, eventId, null, topic, acknowledgment);
+
+        // verify
+        verify(retryTopicForwarder, timeout(5000).times(1))
+                .forward(eq(record), any(IllegalStateException.class));
+        verify(acknowledgment, timeout(5000).times(1))
+                .acknowledge();
+        verify(processedEventLedger, never())
+                .markProcessed(eventId);
+    }
+
+    @Test
+    void test_consume_author_response_from_kafka_should_acknowledge_failed_event_only_once_forwarded_in_ordered_parallel_mode() {
+        // when
+        when(processedEventLedger.isProcessed(eventId)).thenReturn(false);
+        doThrow(new IllegalStateException("test failure"))
+                .when(documentServiceImpl).updateDocumentReferencesAndDeleteAuthor(authorId);
+        doThrow(new KafkaException("broker not available"))
+                .doNothing()
+                .when(retryTopicForwarder).forward(eq(record), any(Exception.class));
+
+        // then
+        kafkaConsumer.consumeAuthorResponseFromKafka(authorResponse, record, eventId, null, topic, acknowledgment);
+
+        // verify
+        InOrder inOrder = inOrder(retryTopicForwarder, acknowledgment);
+        inOrder.verify(retryTopicForwarder, timeout(5000).times(2))
+                .forward(eq(record), any(IllegalStateException.class));
+        inOrder.verify(acknowledgment, timeout(5000).times(1))
+                .acknowledge();
+    }
+
+    @Test
+    void test_consume_author_response_from_kafka_should_process_retry_topic_event_inline_in_ordered_parallel_mode() {
+        // given
+        String retryTopic = topic + KafkaConsumer.RETRY_TOPIC_SUFFIX + "-0";
 
         // then
-        kafkaConsumer.consumeAuthorResponseFromKafka(authorResponse);
+        kafkaConsumer.consumeAuthorResponseFromKafka(authorResponse, record, eventId, null, retryTopic, acknowledgment);
 
         // verify
         verify(documentServiceImpl, times(1))
                 .updateDocumentReferencesAndDeleteAuthor(authorId);
+        verify(acknowledgment, times(1))
+                .acknowledge();
+        verify(keyOrderedExecutor, never())
+                .submit(any(), any(Runnable.class));
     }
 
 }
@@ -63,6 +63,9 @@ class KafkaProducerTest {
         verify(kafkaTemplate, times(1)).send(captor.capture());
 
         assertEquals(authorResponse, captor.getValue().getPayload());
+        assertEquals("1", captor.getValue().getHeaders().get(KafkaHeaders.KEY));
+        assertNotNull(captor.getValue().getHeaders().get(KafkaProducer.EVENT_ID_HEADER));
+        assertNotNull(captor.getValue().getHeaders().get(KafkaProducer.PRODUCED_AT_HEADER));
     }
 
 }
@@ -0,0 +1,114 @@
+package com.krieger.kafka;
+
+import com.krieger.startup.StartupConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.kafka.listener.MessageListenerContainer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+class KafkaTopicInitializerTest {
+
+    @Mock
+    KafkaAdmin kafkaAdmin;
+    @Mock
+    KafkaListenerEndpointRegistry listenerEndpointRegistry;
+    @Mock
+    MessageListenerContainer container;
+
+    StartupConfig startupConfig = new StartupConfig();
+    KafkaTopicInitializer kafkaTopicInitializer;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        kafkaTopicInitializer = new KafkaTopicInitializer(kafkaAdmin, startupConfig, listenerEndpointRegistry);
+        when(listenerEndpointRegistry.getListenerContainers()).thenReturn(List.of(container));
+    }
+
+    @Test
+    void test_start_should_not_wait_for_topics_and_start_listeners_once_they_are_created() throws Exception {
+        // given
+        var release = new CountDownLatch(1);
+        var creatingThread = new String[1];
+        when(kafkaAdmin.initialize()).thenAnswer(invocation -> {
+            creatingThread[0] = Thread.currentThread().getName();
+            release.await();
+            return true;
+        });
+
+        // when
+        kafkaTopicInitializer.afterSingletonsInstantiated();
+        kafkaTopicInitializer.start();
+
+        // then
+        assertTrue(kafkaTopicInitializer.isRunning());
+        verify(container, after(200).never()).start();
+        release.countDown();
+        verify(container, timeout(5000)).start();
+        assertEquals("kafka-topic-creation", creatingThread[0]);
+    }
+
+    @Test
+    void test_start_should_start_listeners_when_topics_are_not_created_in_time() {
+        // given
+        startupConfig.setTopicCreationTimeout(Duration.ofMillis(50));
+        when(kafkaAdmin.initialize()).thenAnswer(invocation -> {
+            Thread.sleep(5000);
+            return true;
+        });
+
+        // when
+        kafkaTopicInitializer.afterSingletonsInstantiated();
+        kafkaTopicInitializer.start();
+
+        // verify
+        verify(container, timeout(2000)).start();
+    }
+
+    @Test
+    void test_listeners_should_not_start_when_stopped_before_topics_are_created() {
+        // given
+        var release = new CountDownLatch(1);
+        when(kafkaAdmin.initialize()).thenAnswer(invocation -> {
+            release.await();
+            return true;
+        });
+
+        // when
+        kafkaTopicInitializer.afterSingletonsInstantiated();
+        kafkaTopicInitializer.start();
+        kafkaTopicInitializer.stop();
+        release.countDown();
+
+        // verify
+        verify(container, after(200).never()).start();
+    }
+
+    @Test
+    void test_topics_should_not_be_created_when_disabled() {
+        // given
+        startupConfig.setCreateTopics(false);
+
+        // when
+        kafkaTopicInitializer.afterSingletonsInstantiated();
+        kafkaTopicInitializer.start();
+
+        // then
+        assertTrue(kafkaTopicInitializer.isRunning());
+
+        // verify
+        verify(container, times(1)).start();
+        verify(kafkaAdmin, never()).initialize();
+    }
+}
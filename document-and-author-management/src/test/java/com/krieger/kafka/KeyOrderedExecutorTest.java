@@ -0,0 +1,89 @@
+package com.krieger.kafka;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KeyOrderedExecutorTest {
+
+    KeyOrderedExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new KeyOrderedExecutor(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    void test_submit_should_run_tasks_of_same_key_in_submission_order() {
+        // given
+        List<Integer> processed = new CopyOnWriteArrayList<>();
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[50];
+
+        // when
+        for (int i = 0; i < futures.length; i++) {
+            int order = i;
+            futures[i] = executor.submit(1L, () -> processed.add(order));
+        }
+        CompletableFuture.allOf(futures).join();
+
+        // then
+        for (int i = 0; i < futures.length; i++) {
+            assertEquals(i, processed.get(i));
+        }
+        assertEquals(0, executor.activeKeys());
+    }
+
+    @Test
+    void test_submit_should_run_tasks_of_distinct_keys_concurrently() throws InterruptedException {
+        // given
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        Runnable task = () -> {
+            bothStarted.countDown();
+            try {
+                // completes only when the task of the other key is running at the same time.
+                bothStarted.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        // when
+        var first = executor.submit(1L, task);
+        var second = executor.submit(2L, task);
+
+        // then
+        assertTrue(bothStarted.await(5, TimeUnit.SECONDS));
+        CompletableFuture.allOf(first, second).join();
+    }
+
+    @Test
+    void test_submit_should_continue_with_next_task_of_same_key_when_earlier_task_failed() {
+        // given
+        List<String> processed = new CopyOnWriteArrayList<>();
+
+        // when
+        var failed = executor.submit(1L, () -> {
+            throw new IllegalStateException("test failure");
+        });
+        var next = executor.submit(1L, () -> processed.add("next"));
+        next.join();
+
+        // then
+        assertTrue(failed.isCompletedExceptionally());
+        assertEquals(List.of("next"), processed);
+    }
+}
@@ -0,0 +1,90 @@
+package com.krieger.kafka;
+
+import com.krieger.kafka.entity.ProcessedEvent;
+import com.krieger.kafka.repository.ProcessedEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ProcessedEventLedgerTest {
+
+    @Mock
+    ProcessedEventRepository repository;
+
+    ProcessedEventLedger ledger;
+    String eventId = "test-event-id";
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ProcessedEventLedgerConfig config = new ProcessedEventLedgerConfig();
+        config.setCacheSize(2);
+        ledger = new ProcessedEventLedger(repository, config);
+    }
+
+    @Test
+    void test_is_processed_should_return_true_from_memory_without_db_lookup_after_mark_processed() {
+        // when
+        ledger.markProcessed(eventId);
+
+        // then
+        assertTrue(ledger.isProcessed(eventId));
+
+        // verify
+        verify(repository, times(1)).save(any(ProcessedEvent.class));
+        verify(repository, never()).findById(eventId);
+    }
+
+    @Test
+    void test_is_processed_should_fall_back_to_db_when_event_is_not_in_memory() {
+        // when
+        when(repository.findById(eventId)).thenReturn(Optional.of(new ProcessedEvent(eventId, Instant.now())));
+
+        // then
+        assertTrue(ledger.isProcessed(eventId));
+        assertTrue(ledger.isProcessed(eventId));
+
+        // verify
+        verify(repository, times(1)).findById(eventId);
+    }
+
+    @Test
+    void test_is_processed_should_return_false_for_new_event() {
+        // when
+        when(repository.findById(eventId)).thenReturn(Optional.empty());
+
+        // then
+        assertFalse(ledger.isProcessed(eventId));
+    }
+
+    @Test
+    void test_mark_processed_should_evict_eldest_event_from_memory_when_cache_is_full() {
+        // when
+        ledger.markProcessed("first");
+        ledger.markProcessed("second");
+        ledger.markProcessed("third");
+        when(repository.findById("first")).thenReturn(Optional.empty());
+
+        // then
+        assertFalse(ledger.isProcessed("first"));
+        assertTrue(ledger.isProcessed("third"));
+    }
+
+    @Test
+    void test_purge_expired_events_should_delete_expired_events_from_db() {
+        // then
+        ledger.purgeExpiredEvents();
+
+        // verify
+        verify(repository, times(1)).deleteAllProcessedBefore(any(Instant.class));
+    }
+}
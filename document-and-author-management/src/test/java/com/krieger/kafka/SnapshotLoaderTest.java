@@ -0,0 +1,163 @@
+package com.krieger.kafka;
+
+import com.krieger.author.models.AuthorResponse;
+import com.krieger.document.models.DocumentResponse;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.kafka.core.ConsumerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static com.krieger.cache.CacheNames.AUTHORS;
+import static com.krieger.cache.CacheNames.DOCUMENTS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class SnapshotLoaderTest {
+
+    @Mock
+    ConsumerFactory<String, Object> consumerFactory;
+
+    SnapshotLoader snapshotLoader;
+    SnapshotConfig config = new SnapshotConfig();
+    ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(AUTHORS, DOCUMENTS);
+    String topic = config.getTopic();
+    TopicPartition partition0 = new TopicPartition(topic, 0);
+    TopicPartition partition1 = new TopicPartition(topic, 1);
+    MockConsumer<String, Object> consumer0;
+    MockConsumer<String, Object> consumer1;
+    MockConsumer<String, Object> metadataConsumer;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        snapshotLoader = new SnapshotLoader(consumerFactory, cacheManager, config);
+
+        // given
+        metadataConsumer = new MockConsumer<String, Object>(OffsetResetStrategy.EARLIEST);
+        metadataConsumer.updatePartitions(topic, List.of(
+                new PartitionInfo(topic, 0, null, null, null),
+                new PartitionInfo(topic, 1, null, null, null)
+        ));
+        metadataConsumer.updateEndOffsets(Map.of(partition0, 4L, partition1, 1L));
+        consumer0 = partitionConsumer(partition0);
+        consumer1 = partitionConsumer(partition1);
+        when(consumerFactory.createConsumer(isNull(), anyString(), eq("metadata"), any(Properties.class))).thenReturn(metadataConsumer);
+        when(consumerFactory.createConsumer(isNull(), anyString(), eq("0"), any(Properties.class))).thenReturn(consumer0);
+        when(consumerFactory.createConsumer(isNull(), anyString(), eq("1"), any(Properties.class))).thenReturn(consumer1);
+    }
+
+    private MockConsumer<String, Object> partitionConsumer(TopicPartition partition) {
+        var consumer = new MockConsumer<String, Object>(OffsetResetStrategy.EARLIEST);
+        consumer.updateBeginningOffsets(Map.of(partition, 0L));
+        return consumer;
+    }
+
+    @Test
+    void test_warm_up_should_put_latest_state_of_every_key_to_cache_and_drop_tombstones() throws Exception {
+        // given
+        var oldAuthor = new AuthorResponse(1L, "old first name", "old last name", null);
+        var latestAuthor = new AuthorResponse(1L, "first name", "last name", null);
+        var document = DocumentResponse.builder().id(2L).build();
+        consumer0.schedulePollTask(() -> {
+            consumer0.addRecord(new ConsumerRecord<>(topic, 0, 0L, "authors:1", oldAuthor));
+            consumer0.addRecord(new ConsumerRecord<>(topic, 0, 1L, "authors:3", new AuthorResponse()));
+            consumer0.addRecord(new ConsumerRecord<>(topic, 0, 2L, "authors:1", latestAuthor));
+        });
+        consumer0.schedulePollTask(() -> consumer0.addRecord(new ConsumerRecord<>(topic, 0, 3L, "authors:3", null)));
+        consumer1.schedulePollTask(() -> consumer1.addRecord(new ConsumerRecord<>(topic, 1, 0L, "documents:2", document)));
+
+        // then
+        int loaded = snapshotLoader.warmUp();
+
+        // verify
+        assertEquals(2, loaded);
+        assertSame(latestAuthor, cacheManager.getCache(AUTHORS).get(1L).get());
+        assertSame(document, cacheManager.getCache(DOCUMENTS).get(2L).get());
+        assertNull(cacheManager.getCache(AUTHORS).get(3L));
+    }
+
+    @Test
+    void test_warm_up_should_drop_older_version_read_after_a_newer_one() throws Exception {
+        // given
+        metadataConsumer.updateEndOffsets(Map.of(partition0, 3L, partition1, 0L));
+        var newerAuthor = new AuthorResponse(1L, "newer first name", "last name", null);
+        consumer0.schedulePollTask(() -> {
+            consumer0.addRecord(versioned(0L, "authors:1", newerAuthor, 5L));
+            // sent later by another node, but read from DB before the newer state.
+            consumer0.addRecord(versioned(1L, "authors:1", new AuthorResponse(1L, "older first name", "last name", null), 4L));
+            consumer0.addRecord(versioned(2L, "authors:3", null, 6L));
+        });
+
+        // then
+        int loaded = snapshotLoader.warmUp();
+
+        // verify
+        assertEquals(1, loaded);
+        assertSame(newerAuthor, cacheManager.getCache(AUTHORS).get(1L).get());
+        assertNull(cacheManager.getCache(AUTHORS).get(3L));
+    }
+
+    private ConsumerRecord<String, Object> versioned(long offset, String key, Object state, long version) {
+        var record = new ConsumerRecord<String, Object>(topic, 0, offset, key, state);
+        record.headers().add(SnapshotWriter.VERSION_HEADER, Long.toString(version).getBytes(StandardCharsets.UTF_8));
+        return record;
+    }
+
+    @Test
+    void test_warm_up_should_keep_entries_already_cached() throws Exception {
+        // given
+        var cachedAuthor = new AuthorResponse(1L, "cached first name", "cached last name", null);
+        cacheManager.getCache(AUTHORS).put(1L, cachedAuthor);
+        consumer0.schedulePollTask(() -> {
+            consumer0.addRecord(new ConsumerRecord<>(topic, 0, 0L, "authors:1", new AuthorResponse(1L, "first name", "last name", null)));
+            consumer0.addRecord(new ConsumerRecord<>(topic, 0, 1L, "authors:4", new AuthorResponse()));
+            consumer0.addRecord(new ConsumerRecord<>(topic, 0, 2L, "authors:5", new AuthorResponse()));
+            consumer0.addRecord(new ConsumerRecord<>(topic, 0, 3L, "authors:6", new AuthorResponse()));
+        });
+        consumer1.schedulePollTask(() -> consumer1.addRecord(new ConsumerRecord<>(topic, 1, 0L, "documents:2", new DocumentResponse())));
+
+        // then
+        int loaded = snapshotLoader.warmUp();
+
+        // verify
+        assertEquals(5, loaded);
+        assertSame(cachedAuthor, cacheManager.getCache(AUTHORS).get(1L).get());
+    }
+
+    @Test
+    void test_warm_up_should_skip_partition_not_read_up_to_its_end_offset() throws Exception {
+        // given
+        metadataConsumer.updateEndOffsets(Map.of(partition0, 4L, partition1, 0L));
+        // the tombstone at offset 3 is never read.
+        consumer0.schedulePollTask(() -> {
+            consumer0.addRecord(new ConsumerRecord<>(topic, 0, 0L, "authors:1", new AuthorResponse(1L, "first name", "last name", null)));
+            consumer0.addRecord(new ConsumerRecord<>(topic, 0, 1L, "authors:3", new AuthorResponse()));
+            consumer0.addRecord(new ConsumerRecord<>(topic, 0, 2L, "authors:4", new AuthorResponse()));
+        });
+        config.setWarmUpTimeout(Duration.ofSeconds(1));
+
+        // then
+        int loaded = snapshotLoader.warmUp();
+
+        // verify
+        assertEquals(0, loaded);
+        assertNull(cacheManager.getCache(AUTHORS).get(1L));
+        assertNull(cacheManager.getCache(AUTHORS).get(3L));
+    }
+}
@@ -0,0 +1,146 @@
+package com.krieger.kafka;
+
+import com.krieger.author.models.AuthorResponse;
+import com.krieger.author.service.AuthorService;
+import com.krieger.document.models.DocumentResponse;
+import com.krieger.document.service.DocumentService;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.krieger.cache.CacheNames.AUTHORS;
+import static com.krieger.cache.CacheNames.DOCUMENTS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class SnapshotWriterTest {
+
+    @InjectMocks
+    SnapshotWriter snapshotWriter;
+    @Mock
+    KafkaTemplate<String, Object> kafkaTemplate;
+    @Mock
+    AuthorService authorService;
+    @Mock
+    DocumentService documentService;
+    @Mock
+    JdbcTemplate jdbcTemplate;
+    @Spy
+    SnapshotConfig config = new SnapshotConfig();
+
+    Long authorId = 1L;
+    Long documentId = 2L;
+    AuthorResponse authorResponse = new AuthorResponse(authorId, "test first name", "test last name", null);
+    DocumentResponse documentResponse = DocumentResponse.builder().id(documentId).build();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(null));
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(7L, 8L);
+    }
+
+    @Test
+    void test_flush_should_send_the_state_of_the_highest_version_of_coalesced_keys_once() {
+        // given
+        var updatedAuthorResponse = new AuthorResponse(authorId, "updated first name", "test last name", null);
+        when(authorService.loadAuthorsByIds(List.of(authorId)))
+                .thenReturn(Map.of(authorId, authorResponse))
+                .thenReturn(Map.of(authorId, updatedAuthorResponse));
+        when(documentService.loadDocumentsByIds(List.of(documentId))).thenReturn(Map.of(documentId, documentResponse));
+
+        // when
+        snapshotWriter.capture(Map.of(AUTHORS, Set.of(authorId)));
+        snapshotWriter.capture(Map.of(AUTHORS, Set.of(authorId), DOCUMENTS, Set.of(documentId)));
+        snapshotWriter.flush();
+        snapshotWriter.flush();
+
+        // then
+        var records = sentRecords(2);
+        assertSame(updatedAuthorResponse, records.get("authors:1").value());
+        assertEquals(8L, SnapshotWriter.version(records.get("authors:1").headers().lastHeader(SnapshotWriter.VERSION_HEADER)));
+        assertSame(documentResponse, records.get("documents:2").value());
+
+        // verify
+        verify(authorService, never()).getAuthorById(any());
+        verify(documentService, never()).getDocumentById(any());
+    }
+
+    @Test
+    void test_flush_should_send_tombstone_when_entity_no_longer_exists() {
+        // given
+        when(authorService.loadAuthorsByIds(List.of(authorId))).thenReturn(Map.of());
+
+        // when
+        snapshotWriter.capture(Map.of(AUTHORS, Set.of(authorId)));
+        snapshotWriter.flush();
+
+        // then
+        var records = sentRecords(1);
+        assertNull(records.get("authors:1").value());
+        assertEquals(7L, SnapshotWriter.version(records.get("authors:1").headers().lastHeader(SnapshotWriter.VERSION_HEADER)));
+    }
+
+    @Test
+    void test_capture_should_queue_states_read_in_the_transaction_only_once_it_commits() {
+        // given
+        when(authorService.loadAuthorsByIds(List.of(authorId))).thenReturn(Map.of(authorId, authorResponse));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            snapshotWriter.capture(Map.of(AUTHORS, Set.of(authorId)));
+            snapshotWriter.flush();
+
+            // verify
+            verify(authorService, times(1)).loadAuthorsByIds(List.of(authorId));
+            verify(kafkaTemplate, never()).send(any(ProducerRecord.class));
+
+            // when
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            snapshotWriter.flush();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        assertSame(authorResponse, sentRecords(1).get("authors:1").value());
+    }
+
+    @Test
+    void test_flush_should_not_send_when_nothing_is_pending() {
+        // when
+        snapshotWriter.flush();
+
+        // verify
+        verify(kafkaTemplate, never())
+                .send(any(ProducerRecord.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, ProducerRecord<String, Object>> sentRecords(int count) {
+        ArgumentCaptor<ProducerRecord<String, Object>> records = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate, times(count)).send(records.capture());
+        return records.getAllValues().stream()
+                .collect(Collectors.toMap(ProducerRecord::key, Function.identity()));
+    }
+}
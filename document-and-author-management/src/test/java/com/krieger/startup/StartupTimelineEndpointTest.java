@@ -0,0 +1,94 @@
+package com.krieger.startup;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.metrics.ApplicationStartup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+class StartupTimelineEndpointTest {
+
+    @Mock
+    ConfigurableApplicationContext applicationContext;
+
+    StartupConfig startupConfig = new StartupConfig();
+    StartupTimelineEndpoint startupTimelineEndpoint;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        startupTimelineEndpoint = new StartupTimelineEndpoint(applicationContext, startupConfig);
+    }
+
+    @Test
+    void test_timeline_should_list_slowest_beans_by_own_instantiation_time() throws Exception {
+        // given
+        var startup = new BufferingApplicationStartup(100);
+        var refresh = startup.start("spring.context.refresh");
+        var service = startup.start("spring.beans.instantiate").tag("beanName", "documentService");
+        var repository = startup.start("spring.beans.instantiate").tag("beanName", "documentRepository");
+        Thread.sleep(50);
+        repository.end();
+        Thread.sleep(5);
+        service.end();
+        refresh.end();
+        when(applicationContext.getApplicationStartup()).thenReturn(startup);
+
+        // when
+        var timeline = startupTimelineEndpoint.timeline();
+
+        // then
+        assertEquals(2, timeline.slowestBeans().size());
+        var slowest = timeline.slowestBeans().get(0);
+        var dependent = timeline.slowestBeans().get(1);
+        assertEquals("documentRepository", slowest.name());
+        assertEquals("documentService", dependent.name());
+        // time spent on the repository counts only in total time of the service.
+        assertTrue(dependent.totalMillis() >= slowest.totalMillis());
+        assertTrue(dependent.selfMillis() < slowest.selfMillis());
+        assertTrue(timeline.totalMillis() >= dependent.totalMillis());
+    }
+
+    @Test
+    void test_timeline_should_sum_repeated_phases_and_limit_beans() {
+        // given
+        startupConfig.setSlowestBeans(1);
+        var startup = new BufferingApplicationStartup(100);
+        startup.start("spring.boot.application.starting").end();
+        startup.start("spring.context.beans.post-process").end();
+        startup.start("spring.context.beans.post-process").end();
+        startup.start("spring.beans.instantiate").tag("beanName", "documentService").end();
+        startup.start("spring.beans.instantiate").tag("beanName", "authorService").end();
+        when(applicationContext.getApplicationStartup()).thenReturn(startup);
+
+        // when
+        var timeline = startupTimelineEndpoint.timeline();
+
+        // then
+        assertEquals(2, timeline.phases().size());
+        assertEquals("spring.boot.application.starting", timeline.phases().get(0).name());
+        assertEquals("spring.context.beans.post-process", timeline.phases().get(1).name());
+        assertEquals(2, timeline.phases().get(1).count());
+        assertEquals(1, timeline.slowestBeans().size());
+    }
+
+    @Test
+    void test_timeline_should_be_empty_when_startup_is_not_recorded() {
+        // given
+        when(applicationContext.getApplicationStartup()).thenReturn(ApplicationStartup.DEFAULT);
+
+        // when
+        var timeline = startupTimelineEndpoint.timeline();
+
+        // then
+        assertEquals(0, timeline.totalMillis());
+        assertTrue(timeline.phases().isEmpty());
+        assertTrue(timeline.slowestBeans().isEmpty());
+    }
+}
@@ -0,0 +1,106 @@
+package com.krieger.threads;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimitFilterTest {
+
+    SimpleMeterRegistry meterRegistry;
+    ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new ConcurrencyLimitFilter(1, Duration.ofMillis(50), new ObjectMapper(), meterRegistry);
+    }
+
+    @Test
+    void test_filter_should_pass_request_when_permit_is_available() throws Exception {
+        // given
+        var response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/documents"), response, (req, res) -> {});
+
+        // then
+        assertEquals(HttpStatus.OK.value(), response.getStatus());
+        assertEquals(0, meterRegistry.get("http.server.requests.in-flight").gauge().value());
+    }
+
+    @Test
+    void test_filter_should_reject_request_with_service_unavailable_when_limit_is_reached() throws Exception {
+        // given
+        var entered = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        FilterChain blockingChain = (req, res) -> {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            executor.submit(() -> {
+                filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/documents"), new MockHttpServletResponse(), blockingChain);
+                return null;
+            });
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+            var response = new MockHttpServletResponse();
+
+            // when
+            filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/documents"), response, (req, res) -> fail());
+            release.countDown();
+
+            // then
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), response.getStatus());
+            assertNotNull(response.getHeader("Retry-After"));
+            assertTrue(response.getContentAsString().contains(HttpStatus.SERVICE_UNAVAILABLE.name()));
+            assertEquals(1, meterRegistry.get("http.server.requests.rejected").counter().count());
+        }
+    }
+
+    @Test
+    void test_filter_should_not_limit_actuator_requests() throws Exception {
+        // given
+        var entered = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            executor.submit(() -> {
+                filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/documents"), new MockHttpServletResponse(), (req, res) -> {
+                    entered.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+                return null;
+            });
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+            var response = new MockHttpServletResponse();
+            var passed = new CountDownLatch(1);
+
+            // when
+            filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), response, (req, res) -> passed.countDown());
+            release.countDown();
+
+            // then
+            assertEquals(0, passed.getCount());
+            assertEquals(HttpStatus.OK.value(), response.getStatus());
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.krieger.warmup;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FrequencySketchTest {
+
+    @Test
+    void test_hottest_should_rank_ids_by_access_frequency() {
+        // given
+        var sketch = new FrequencySketch(1024, 3);
+        for (long id = 1; id <= 100; id++) {
+            // ID 1 is accessed 100 times, ID 2 50 times, ...
+            for (int access = 0; access < 100 / id; access++) {
+                sketch.increment(id);
+            }
+        }
+
+        // when
+        var hottest = sketch.hottest(10);
+
+        // then
+        assertEquals(3, hottest.size());
+        assertEquals(1L, hottest.get(0).getKey());
+        assertEquals(2L, hottest.get(1).getKey());
+        assertEquals(3L, hottest.get(2).getKey());
+        assertTrue(hottest.get(0).getValue() >= 100);
+    }
+
+    @Test
+    void test_id_becoming_hot_later_should_replace_colder_ids() {
+        // given
+        var sketch = new FrequencySketch(1024, 2);
+        for (long id = 1; id <= 10; id++) {
+            sketch.increment(id);
+            sketch.increment(id);
+        }
+
+        // when
+        for (int access = 0; access < 20; access++) {
+            sketch.increment(42L);
+        }
+
+        // then
+        assertEquals(42L, sketch.hottest(1).get(0).getKey());
+    }
+
+    @Test
+    void test_decay_should_halve_counts() {
+        // given
+        var sketch = new FrequencySketch(1024, 10);
+        for (int access = 0; access < 8; access++) {
+            sketch.increment(7L);
+        }
+        sketch.increment(8L);
+
+        // when
+        sketch.decay();
+
+        // then
+        assertEquals(4, sketch.estimate(7L));
+        assertEquals(0, sketch.estimate(8L));
+        assertEquals(List.of(Map.entry(7L, 4L)), sketch.hottest(10));
+    }
+}
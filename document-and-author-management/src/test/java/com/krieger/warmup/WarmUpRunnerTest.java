@@ -0,0 +1,96 @@
+package com.krieger.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.krieger.author.models.AllAuthorsResponse;
+import com.krieger.author.models.AuthorResponse;
+import com.krieger.author.service.AuthorService;
+import com.krieger.document.exception.DocumentNotFoundException;
+import com.krieger.document.models.AllDocumentsResponse;
+import com.krieger.document.models.DocumentResponse;
+import com.krieger.document.service.DocumentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+
+import static com.krieger.cache.CacheNames.AUTHORS;
+import static com.krieger.cache.CacheNames.DOCUMENTS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class WarmUpRunnerTest {
+
+    @Mock
+    DocumentService documentService;
+    @Mock
+    AuthorService authorService;
+    @Mock
+    HotKeyStore hotKeyStore;
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    WarmUpConfig config = new WarmUpConfig();
+    AccessFrequencies accessFrequencies = new AccessFrequencies(config);
+    WarmUpRunner warmUpRunner;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        config.setIterations(10);
+        warmUpRunner = new WarmUpRunner(documentService, authorService, new ObjectMapper(), hotKeyStore, accessFrequencies, config,
+                transactionManager);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(documentService.getAllDocuments(any(), any(), anyInt(), anyInt(), any())).thenReturn(new AllDocumentsResponse(List.of(), null, 0, 0, null, 0, 10, 0));
+        when(authorService.getAllAuthors(any(), any(), anyInt(), anyInt(), any())).thenReturn(new AllAuthorsResponse(List.of(), null, 0, 0, null, 0, 10, 0));
+    }
+
+    @Test
+    void test_run_should_load_hottest_entities_and_skip_deleted_ones() {
+        // given
+        when(hotKeyStore.hottest(DOCUMENTS, 1000)).thenReturn(List.of(1L, 2L));
+        when(hotKeyStore.hottest(AUTHORS, 1000)).thenReturn(List.of(3L));
+        when(documentService.getDocumentById(1L)).thenReturn(DocumentResponse.builder().id(1L).build());
+        when(documentService.getDocumentById(2L)).thenThrow(new DocumentNotFoundException("No document found with specified ID : 2"));
+        when(authorService.getAuthorById(3L)).thenReturn(AuthorResponse.builder().id(3L).build());
+
+        // when
+        warmUpRunner.run(null);
+
+        // then
+        // once on load, then on every iteration.
+        verify(documentService, times(11)).getDocumentById(1L);
+        verify(documentService, times(1)).getDocumentById(2L);
+        verify(authorService, times(11)).getAuthorById(3L);
+        // every list query shape.
+        verify(documentService, times(3)).getAllDocuments(any(), any(), eq(0), eq(10), any());
+        verify(authorService, times(3)).getAllAuthors(any(), any(), eq(0), eq(10), any());
+        // every service call in its own read-only transaction.
+        verify(transactionManager, times(3 + 6 + 20)).getTransaction(argThat(TransactionDefinition::isReadOnly));
+    }
+
+    @Test
+    void test_run_should_not_count_warm_up_accesses() {
+        // given
+        when(hotKeyStore.hottest(anyString(), anyInt())).thenReturn(List.of());
+        doAnswer(invocation -> {
+            accessFrequencies.record(DOCUMENTS, 1L);
+            return new AllDocumentsResponse(List.of(), null, 0, 0, null, 0, 10, 0);
+        }).when(documentService).getAllDocuments(any(), any(), anyInt(), anyInt(), any());
+
+        // when
+        warmUpRunner.run(null);
+        accessFrequencies.record(DOCUMENTS, 2L);
+
+        // then
+        assertEquals(1, accessFrequencies.hottest(DOCUMENTS).size());
+        assertEquals(2L, accessFrequencies.hottest(DOCUMENTS).get(0).getKey());
+        assertTrue(accessFrequencies.cacheNames().iterator().hasNext());
+    }
+}